@@ -28,6 +28,8 @@ import org.jabref.model.groups.GroupHierarchyType;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.SearchCandidates;
+import org.jabref.model.search.SearchIndex;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.JabRefPreferences;
 
@@ -45,6 +47,7 @@ public class Benchmarks {
 
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
+    private SearchIndex searchIndex;
     private String latexConversionString;
     private String htmlConversionString;
 
@@ -64,6 +67,7 @@ public class Benchmarks {
             entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
             database.insertEntry(entry);
         }
+        searchIndex = new SearchIndex(database);
 
         bibtexString = getOutputWriter().toString();
 
@@ -104,6 +108,15 @@ public class Benchmarks {
         return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
+    @Benchmark
+    public List<BibEntry> indexedSearch() {
+        SearchQuery searchQuery = new SearchQuery("Journal Title 500", false, false);
+        SearchCandidates candidates = searchQuery.getCandidates(searchIndex);
+        return database.getEntries().stream()
+                       .filter(entry -> candidates.isCandidate(entry) && searchQuery.isMatch(entry))
+                       .collect(Collectors.toList());
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -0,0 +1,82 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.jabref.logic.bibtex.DuplicateCheck;
+import org.jabref.logic.bibtex.DuplicateFinder;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares the blocking based {@link DuplicateFinder} with comparing all pairs of entries using {@link DuplicateCheck}.
+ */
+@State(Scope.Thread)
+public class DuplicateFinderBenchmarks {
+
+    private static final String[] WORDS = {"analysis", "of", "the", "quantum", "system", "model", "learning", "deep", "network", "graph", "theory", "on", "a", "approach", "data"};
+
+    @Param({"1000", "2000", "4000"})
+    private int numberOfEntries;
+
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private final List<BibEntry> entries = new ArrayList<>();
+
+    @Setup
+    public void init() {
+        Random randomizer = new Random(42);
+        for (int i = 0; i < numberOfEntries; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int word = 0; word < 6; word++) {
+                title.append(WORDS[randomizer.nextInt(WORDS.length)]).append(' ');
+            }
+            BibEntry entry = new BibEntry(StandardEntryType.Article);
+            entry.setField(StandardField.TITLE, title.toString().trim() + " " + i);
+            entry.setField(StandardField.AUTHOR, "Firstname Lastname" + randomizer.nextInt(numberOfEntries / 10) + " and FirstnameA LastnameA");
+            entry.setField(StandardField.JOURNAL, "Journal Title " + randomizer.nextInt(50));
+            entry.setField(StandardField.YEAR, Integer.toString(1980 + randomizer.nextInt(40)));
+            entries.add(entry);
+            if ((i % 100) == 0) {
+                // add some real duplicates
+                entries.add((BibEntry) entry.clone());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<List<BibEntry>> blockingDuplicateSearch() {
+        return new DuplicateFinder(entryTypesManager, BibDatabaseMode.BIBTEX).findDuplicates(entries);
+    }
+
+    @Benchmark
+    public List<List<BibEntry>> nestedLoopDuplicateSearch() {
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
+        List<List<BibEntry>> duplicates = new ArrayList<>();
+        for (int i = 0; i < (entries.size() - 1); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    duplicates.add(Arrays.asList(entries.get(i), entries.get(j)));
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
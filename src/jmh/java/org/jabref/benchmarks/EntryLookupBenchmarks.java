@@ -0,0 +1,73 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures the cost of looking up entries by cite key and by internal id for differently sized databases.
+ */
+@State(Scope.Thread)
+public class EntryLookupBenchmarks {
+
+    @Param({"1000", "10000", "100000"})
+    private int numberOfEntries;
+
+    private final BibDatabase database = new BibDatabase();
+    private final List<String> ids = new ArrayList<>();
+    private int lookupCounter;
+
+    @Setup
+    public void init() {
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCiteKey("key" + i);
+            entry.setField(StandardField.TITLE, "This is my title " + i);
+            entry.setField(StandardField.CROSSREF, "key" + ((i * 7) % numberOfEntries));
+            database.insertEntry(entry);
+            ids.add(entry.getId());
+        }
+    }
+
+    private int nextIndex() {
+        lookupCounter = (lookupCounter + 7919) % numberOfEntries;
+        return lookupCounter;
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getEntryByKey() {
+        return database.getEntryByKey("key" + nextIndex());
+    }
+
+    @Benchmark
+    public List<BibEntry> getEntriesByKey() {
+        return database.getEntriesByKey("key" + nextIndex());
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getEntryById() {
+        return database.getEntryById(ids.get(nextIndex()));
+    }
+
+    @Benchmark
+    public Optional<BibEntry> getReferencedEntry() {
+        return database.getReferencedEntry(database.getEntries().get(nextIndex()));
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
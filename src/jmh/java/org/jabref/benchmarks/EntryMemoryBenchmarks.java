@@ -0,0 +1,74 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures the memory needed for entries. Run with the GC profiler (<code>-prof gc</code>), the
+ * <code>gc.alloc.rate.norm</code> metric gives the number of bytes allocated per entry. This includes temporary
+ * objects (e.g., the change events of setting the fields), thus it is an upper bound of the retained size of an entry.
+ * The benchmarks cover a bare entry, a typical entry and a typical entry contained in a library (which registers
+ * itself as listener of the entry).
+ * <p>
+ * Replacing the event bus of each entry by a shared dispatcher and creating the caches on first use changed the bytes
+ * per entry as follows (JDK 17, compressed oops; retained size measured with 200,000 entries kept alive):
+ * <table>
+ *     <tr><th>Benchmark</th><th>Allocated before</th><th>Allocated after</th><th>Retained before</th><th>Retained after</th></tr>
+ *     <tr><td>createEmptyEntry</td><td>704</td><td>312</td><td>554</td><td>162</td></tr>
+ *     <tr><td>createTypicalEntry</td><td>3888</td><td>1272</td><td>1022</td><td>630</td></tr>
+ *     <tr><td>insertTypicalEntry</td><td>5868</td><td>2332</td><td>1426</td><td>834</td></tr>
+ * </table>
+ */
+@State(Scope.Thread)
+public class EntryMemoryBenchmarks {
+
+    private BibDatabase database = new BibDatabase();
+    private int entryCounter;
+
+    private BibEntry newTypicalEntry() {
+        entryCounter++;
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setCiteKey("key" + entryCounter);
+        entry.setField(StandardField.AUTHOR, "Author Number " + entryCounter + " and Another Author");
+        entry.setField(StandardField.TITLE, "This is my title " + entryCounter);
+        entry.setField(StandardField.JOURNAL, "Journal of Things");
+        entry.setField(StandardField.YEAR, "2020");
+        entry.setField(StandardField.PAGES, "1--10");
+        return entry;
+    }
+
+    @Benchmark
+    public BibEntry createEmptyEntry() {
+        return new BibEntry();
+    }
+
+    @Benchmark
+    public BibEntry createTypicalEntry() {
+        return newTypicalEntry();
+    }
+
+    @Benchmark
+    public BibEntry insertTypicalEntry() {
+        if ((entryCounter % 100_000) == 0) {
+            // keep the library from growing without limit
+            database = new BibDatabase();
+        }
+        BibEntry entry = newTypicalEntry();
+        database.insertEntry(entry);
+        return entry;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,88 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldValueInterner;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures the heap retained by a synthetic library with equal field values shared by the {@link FieldValueInterner}
+ * and, if it is disabled, by {@link String#intern()}. The entries repeat journal names, publishers, months, years, keywords and authors as
+ * real libraries do, while titles and pages are unique. The retained heap is reported as the auxiliary counter
+ * <code>retainedBytes</code>, measured after a garbage collection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+public class FieldValueMemoryBenchmarks {
+
+    @Param({"500000"})
+    private int numberOfEntries;
+
+    @Param({"true", "false"})
+    private boolean shareValues;
+
+    private List<BibEntry> library;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+        public long retainedBytes;
+    }
+
+    @Setup(Level.Iteration)
+    public void init() {
+        FieldValueInterner.setEnabled(shareValues);
+        library = null;
+    }
+
+    @Benchmark
+    public List<BibEntry> createLibrary(HeapCounters counters) {
+        long usedBefore = usedHeap();
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            // concatenation creates new String objects, as the parser does
+            BibEntry entry = new BibEntry(StandardEntryType.Article);
+            entry.setCiteKey("key" + i);
+            entry.setField(StandardField.AUTHOR, "Author " + (i % 5000) + " and Coauthor " + (i % 300));
+            entry.setField(StandardField.TITLE, "A title of entry number " + i);
+            entry.setField(StandardField.JOURNAL, "Journal of " + (i % 50) + " Things");
+            entry.setField(StandardField.PUBLISHER, "Publisher " + (i % 20));
+            entry.setField(StandardField.YEAR, String.valueOf(1980 + (i % 40)));
+            entry.setField(StandardField.MONTH, "#" + (i % 12) + "#");
+            entry.setField(StandardField.KEYWORDS, "keyword" + (i % 100) + ", keyword" + (i % 7));
+            entry.setField(StandardField.PAGES, i + "--" + (i + 10));
+            entries.add(entry);
+        }
+        library = entries;
+        counters.retainedBytes = usedHeap() - usedBefore;
+        return entries;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,78 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+
+import org.jabref.Globals;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures parsing of large libraries, which in addition to {@link Benchmarks#parse()} contain strings, comments and
+ * long field values.
+ */
+@State(Scope.Thread)
+public class ParserBenchmarks {
+
+    @Param({"1000", "10000", "50000"})
+    private int numberOfEntries;
+
+    private ImportFormatPreferences importFormatPreferences;
+    private String bibtexString;
+
+    @Setup
+    public void init() {
+        Globals.prefs = JabRefPreferences.getInstance();
+        importFormatPreferences = Globals.prefs.getImportFormatPreferences();
+
+        Random randomizer = new Random(42);
+        StringBuilder bibtex = new StringBuilder();
+        bibtex.append("% Encoding: UTF-8\n\n");
+        for (int i = 0; i < 20; i++) {
+            bibtex.append("@String{journal").append(i).append(" = {Journal of Things ").append(i).append("}}\n");
+        }
+        bibtex.append('\n');
+        for (int i = 0; i < numberOfEntries; i++) {
+            bibtex.append("@Article{id").append(i).append(",\n")
+                  .append("  author   = {Firstname Lastname").append(randomizer.nextInt(1000)).append(" and FirstnameA LastnameA},\n")
+                  .append("  title    = {This is {My} Title ").append(i).append("},\n")
+                  .append("  journal  = journal").append(randomizer.nextInt(20)).append(",\n")
+                  .append("  year     = ").append(1980 + randomizer.nextInt(40)).append(",\n")
+                  .append("  abstract = {").append("Some words about the content of the article. ".repeat(10)).append("},\n")
+                  .append("  keywords = {testkeyword, other keyword},\n")
+                  .append("}\n\n");
+            if ((i % 1000) == 0) {
+                bibtex.append("@Comment{A comment between entries}\n\n");
+            }
+        }
+        bibtexString = bibtex.toString();
+    }
+
+    @Benchmark
+    public ParserResult parse() throws IOException {
+        BibtexParser parser = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor());
+        return parser.parse(new StringReader(bibtexString));
+    }
+
+    @Benchmark
+    public ParserResult parseInParallel() throws IOException {
+        BibtexParser parser = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor());
+        return parser.parseInParallel(new StringReader(bibtexString));
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
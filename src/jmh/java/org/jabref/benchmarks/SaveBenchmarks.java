@@ -0,0 +1,111 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.jabref.Globals;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.IncrementalSaveCache;
+import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Measures saving a large library after a single entry has been edited, with and without reusing the output of the
+ * previous save.
+ */
+@State(Scope.Thread)
+public class SaveBenchmarks {
+
+    @Param({"100000"})
+    private int numberOfEntries;
+
+    private SavePreferences savePreferences;
+    private BibEntryTypesManager entryTypesManager;
+    private BibDatabaseContext databaseContext;
+    private IncrementalSaveCache saveCache;
+    private BibEntry editedEntry;
+    private Path library;
+    private int numberOfEdits;
+
+    @Setup
+    public void init() throws IOException {
+        Globals.prefs = JabRefPreferences.getInstance();
+        savePreferences = Globals.prefs.loadForSaveFromPreferences().withEncoding(StandardCharsets.UTF_8).withMakeBackup(false);
+        entryTypesManager = new BibEntryTypesManager();
+
+        Random randomizer = new Random(42);
+        StringBuilder bibtex = new StringBuilder();
+        for (int i = 0; i < numberOfEntries; i++) {
+            bibtex.append("@Article{id").append(i).append(",\n")
+                  .append("  author   = {Firstname Lastname").append(randomizer.nextInt(1000)).append(" and FirstnameA LastnameA},\n")
+                  .append("  title    = {This is {My} Title ").append(i).append("},\n")
+                  .append("  journal  = {Journal of Things},\n")
+                  .append("  year     = ").append(1980 + randomizer.nextInt(40)).append(",\n")
+                  .append("  keywords = {testkeyword, other keyword},\n")
+                  .append("}\n\n");
+        }
+        ParserResult result = new BibtexParser(Globals.prefs.getImportFormatPreferences(), new DummyFileUpdateMonitor())
+                .parse(new StringReader(bibtex.toString()));
+        databaseContext = new BibDatabaseContext(result.getDatabase(), result.getMetaData());
+        editedEntry = result.getDatabase().getEntries().get(numberOfEntries / 2);
+
+        library = Files.createTempFile("jabref-benchmark", ".bib");
+        saveCache = new IncrementalSaveCache();
+        saveIncrementally();
+    }
+
+    @TearDown
+    public void deleteLibrary() throws IOException {
+        Files.deleteIfExists(library);
+    }
+
+    private void editEntry() {
+        numberOfEdits++;
+        editedEntry.setField(StandardField.NOTE, "Edit " + numberOfEdits);
+    }
+
+    private void saveIncrementally() throws IOException {
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(library, StandardCharsets.UTF_8)) {
+            new BibtexDatabaseWriter(fileWriter, savePreferences, entryTypesManager, saveCache).saveDatabase(databaseContext);
+        }
+    }
+
+    @Benchmark
+    public void saveAfterSingleEdit() throws IOException {
+        editEntry();
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(library, StandardCharsets.UTF_8)) {
+            new BibtexDatabaseWriter(fileWriter, savePreferences, entryTypesManager).saveDatabase(databaseContext);
+        }
+    }
+
+    @Benchmark
+    public void saveIncrementallyAfterSingleEdit() throws IOException {
+        editEntry();
+        saveIncrementally();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -1,6 +1,7 @@
 package org.jabref;
 
 import java.awt.GraphicsEnvironment;
+import java.io.IOException;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -8,6 +9,7 @@ import javafx.stage.Screen;
 
 import org.jabref.gui.ClipBoardManager;
 import org.jabref.gui.StateManager;
+import org.jabref.gui.desktop.JabRefDesktop;
 import org.jabref.gui.keyboard.KeyBindingRepository;
 import org.jabref.gui.undo.CountingUndoManager;
 import org.jabref.gui.util.DefaultFileUpdateMonitor;
@@ -17,6 +19,8 @@ import org.jabref.gui.util.ThemeLoader;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.importer.ImportFormatReader;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.pdf.FileAnnotationStore;
+import org.jabref.logic.pdf.PdfAnnotationImporter;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.server.RemoteListenerServerLifecycle;
 import org.jabref.logic.util.BuildInfo;
@@ -30,9 +34,13 @@ import com.microsoft.applicationinsights.TelemetryConfiguration;
 import com.microsoft.applicationinsights.internal.shutdown.SDKShutdownActivity;
 import com.microsoft.applicationinsights.telemetry.SessionState;
 import kong.unirest.Unirest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class Globals {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(Globals.class);
+
     /**
      * JabRef version info
      */
@@ -44,6 +52,12 @@ public class Globals {
     public static final ImportFormatReader IMPORT_FORMAT_READER = new ImportFormatReader();
     public static final TaskExecutor TASK_EXECUTOR = new DefaultTaskExecutor();
 
+    /**
+     * The annotations of the PDFs of all libraries, kept across sessions
+     */
+    public static final FileAnnotationStore FILE_ANNOTATION_STORE = new FileAnnotationStore(
+            JabRefDesktop.getNativeDesktop().getApplicationDataDirectory().resolve("file-annotations"), new PdfAnnotationImporter());
+
     /**
      * Each test case initializes this field if required
      */
@@ -139,6 +153,11 @@ public class Globals {
     public static void stopBackgroundTasks() {
         stopTelemetryClient();
         Unirest.shutDown();
+        try {
+            FILE_ANNOTATION_STORE.store();
+        } catch (IOException e) {
+            LOGGER.warn("Could not store file annotations", e);
+        }
     }
 
     public static Optional<TelemetryClient> getTelemetryClient() {
@@ -100,6 +100,13 @@ public class JabRefExecutorService {
         this.lowPriorityExecutorService.execute(new NamedRunnable(taskName, runnable));
     }
 
+    /**
+     * Executes an interruptable task, which can be cancelled using the returned Future.
+     */
+    public Future<?> submitInterruptableTask(final Runnable runnable, String taskName) {
+        return this.lowPriorityExecutorService.submit(new NamedRunnable(taskName, runnable));
+    }
+
     public void executeInterruptableTaskAndWait(Runnable runnable) {
         Objects.requireNonNull(runnable);
 
@@ -24,6 +24,7 @@ import org.jabref.logic.util.JavaVersion;
 import org.jabref.logic.util.OS;
 import org.jabref.migrations.PreferencesMigrations;
 import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.FieldValueInterner;
 import org.jabref.preferences.JabRefPreferences;
 
 import org.apache.commons.cli.ParseException;
@@ -176,6 +177,9 @@ public class JabRefMain extends Application {
         // Override used newline character with the one stored in the preferences
         // The preferences return the system newline character sequence as default
         OS.NEWLINE = Globals.prefs.get(JabRefPreferences.NEWLINE);
+
+        // Equal field values are shared by the FieldValueInterner only if enabled by the user
+        FieldValueInterner.setEnabled(Globals.prefs.getBoolean(JabRefPreferences.SHARE_FIELD_VALUES));
     }
 
     private static void configureProxy(ProxyPreferences proxyPreferences) {
@@ -17,6 +17,7 @@ import org.jabref.JabRefException;
 import org.jabref.gui.externalfiles.AutoSetFileLinksUtil;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.undo.NamedCompound;
+import org.jabref.logic.bibtex.DuplicateFinder;
 import org.jabref.logic.bibtexkeypattern.BibtexKeyGenerator;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibDatabaseWriter;
@@ -215,6 +216,10 @@ public class ArgumentProcessor {
             automaticallySetFileLinks(loaded);
         }
 
+        if (cli.isFindDuplicates()) {
+            findDuplicates(loaded);
+        }
+
         if (cli.isFileExport()) {
             if (!loaded.isEmpty()) {
                 exportFile(loaded, cli.getFileExport().split(","));
@@ -501,6 +506,20 @@ public class ArgumentProcessor {
         }
     }
 
+    private void findDuplicates(List<ParserResult> loaded) {
+        for (ParserResult parserResult : loaded) {
+            BibDatabaseContext databaseContext = parserResult.getDatabaseContext();
+
+            LOGGER.info(Localization.lang("Searching for duplicates..."));
+
+            DuplicateFinder duplicateFinder = new DuplicateFinder(Globals.entryTypesManager, databaseContext.getMode());
+            duplicateFinder.findDuplicates(databaseContext.getEntries(), (first, second) ->
+                    System.out.println(Localization.lang("Possible duplicate entries") + ": "
+                            + first.getCiteKeyOptional().orElse(first.getAuthorTitleYear(40)) + ", "
+                            + second.getCiteKeyOptional().orElse(second.getAuthorTitleYear(40))));
+        }
+    }
+
     private void regenerateBibtexKeys(List<ParserResult> loaded) {
         for (ParserResult parserResult : loaded) {
             BibDatabase database = parserResult.getDatabase();
@@ -147,6 +147,10 @@ public class JabRefCLI {
         return cl.hasOption("automaticallySetFileLinks");
     }
 
+    public boolean isFindDuplicates() {
+        return cl.hasOption("findDuplicates");
+    }
+
     private static Options getOptions() {
         Options options = new Options();
 
@@ -155,6 +159,7 @@ public class JabRefCLI {
         options.addOption("n", "nogui", false, Localization.lang("No GUI. Only process command line options"));
         options.addOption("asfl", "automaticallySetFileLinks", false, Localization.lang("Automatically set file links"));
         options.addOption("g", "generateBibtexKeys", false, Localization.lang("Regenerate all keys for the entries in a BibTeX file"));
+        options.addOption(null, "findDuplicates", false, Localization.lang("List possible duplicates in a BibTeX file"));
         options.addOption("b", "blank", false, Localization.lang("Do not open any files at startup"));
         options.addOption("v", "version", false, Localization.lang("Display version"));
         options.addOption(null, "debug", false, Localization.lang("Show debug level messages"));
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import javax.swing.undo.CannotRedoException;
@@ -65,10 +66,12 @@ import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.worker.SendAsEMailAction;
 import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.logic.exporter.IncrementalSaveCache;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutHelper;
 import org.jabref.logic.pdf.FileAnnotationCache;
+import org.jabref.logic.pdf.FileAnnotationIndexer;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.util.UpdateField;
 import org.jabref.logic.util.io.FileFinder;
@@ -87,6 +90,7 @@ import org.jabref.model.database.shared.DatabaseSynchronizer;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.FileFieldParser;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.field.Field;
@@ -111,6 +115,8 @@ public class BasePanel extends StackPane {
 
     private final CitationStyleCache citationStyleCache;
     private final FileAnnotationCache annotationCache;
+    private final Optional<Future<?>> fileAnnotationIndexing;
+    private final IncrementalSaveCache saveCache = new IncrementalSaveCache();
 
     private final JabRefFrame frame;
     // The undo manager.
@@ -161,7 +167,15 @@ public class BasePanel extends StackPane {
         this.tableModel = new MainTableDataModel(getBibDatabaseContext());
 
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
-        annotationCache = new FileAnnotationCache(bibDatabaseContext, Globals.prefs.getFilePreferences());
+        annotationCache = new FileAnnotationCache(bibDatabaseContext, Globals.prefs.getFilePreferences(), Globals.FILE_ANNOTATION_STORE);
+        // the file annotation tab shows the annotations without opening the PDFs once they are indexed
+        if ((bibDatabaseContext.getLocation() == DatabaseLocation.LOCAL) && bibDatabaseContext.getDatabasePath().isPresent()) {
+            fileAnnotationIndexing = Optional.of(JabRefExecutorService.INSTANCE.submitInterruptableTask(
+                    new FileAnnotationIndexer(bibDatabaseContext, Globals.prefs.getFilePreferences(), Globals.FILE_ANNOTATION_STORE),
+                    "FileAnnotationIndexer"));
+        } else {
+            fileAnnotationIndexing = Optional.empty();
+        }
 
         setupMainPanel();
 
@@ -985,6 +999,8 @@ public class BasePanel extends StackPane {
      */
     public void cleanUp() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
+        tableModel.unregister();
+        fileAnnotationIndexing.ifPresent(indexing -> indexing.cancel(true));
     }
 
     /**
@@ -1056,6 +1072,10 @@ public class BasePanel extends StackPane {
         return annotationCache;
     }
 
+    public IncrementalSaveCache getSaveCache() {
+        return saveCache;
+    }
+
     public void resetChangeMonitorAndChangePane() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
         changeMonitor = Optional.of(new DatabaseChangeMonitor(bibDatabaseContext, Globals.getFileUpdateMonitor(), Globals.TASK_EXECUTOR));
@@ -1158,6 +1178,11 @@ public class BasePanel extends StackPane {
         public void listen(EntryChangedEvent entryChangedEvent) {
             DefaultTaskExecutor.runInJavaFXThread(() -> searchAutoCompleter.indexEntry(entryChangedEvent.getBibEntry()));
         }
+
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            DefaultTaskExecutor.runInJavaFXThread(() -> entriesChangedEvent.getBibEntries().forEach(entry -> searchAutoCompleter.indexEntry(entry)));
+        }
     }
 
     /**
@@ -1176,6 +1201,11 @@ public class BasePanel extends StackPane {
             DefaultTaskExecutor.runInJavaFXThread(() -> frame.getGlobalSearchBar().performSearch());
         }
 
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            DefaultTaskExecutor.runInJavaFXThread(() -> frame.getGlobalSearchBar().performSearch());
+        }
+
         @Subscribe
         public void listen(EntriesRemovedEvent removedEntriesEvent) {
             // IMO only used to update the status (found X entries)
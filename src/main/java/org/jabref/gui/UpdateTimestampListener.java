@@ -1,5 +1,7 @@
 package org.jabref.gui;
 
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.preferences.JabRefPreferences;
 
@@ -22,4 +24,14 @@ class UpdateTimestampListener {
                     jabRefPreferences.getTimestampPreferences().now());
         }
     }
+
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        if (jabRefPreferences.getTimestampPreferences().includeTimestamps()) {
+            String now = jabRefPreferences.getTimestampPreferences().now();
+            for (BibEntry entry : event.getBibEntries()) {
+                entry.setField(jabRefPreferences.getTimestampPreferences().getTimestampField(), now);
+            }
+        }
+    }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.EntryChangedEvent;
 
 import com.google.common.eventbus.Subscribe;
@@ -31,4 +32,11 @@ public class AutoCompleteUpdater {
     public void listen(EntryChangedEvent entryChangedEvent) {
         suggestionProviders.indexEntry(entryChangedEvent.getBibEntry());
     }
+
+    @Subscribe
+    public void listen(EntriesChangedEvent entriesChangedEvent) {
+        for (BibEntry entry : entriesChangedEvent.getBibEntries()) {
+            suggestionProviders.indexEntry(entry);
+        }
+    }
 }
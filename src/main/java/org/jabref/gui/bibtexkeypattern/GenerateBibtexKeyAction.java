@@ -76,10 +76,12 @@ public class GenerateBibtexKeyAction implements BaseAction {
         // generate the new cite keys for each entry
         final NamedCompound compound = new NamedCompound(Localization.lang("Autogenerate BibTeX keys"));
         BibtexKeyGenerator keyGenerator = new BibtexKeyGenerator(basePanel.getBibDatabaseContext(), Globals.prefs.getBibtexKeyPatternPreferences());
-        for (BibEntry entry : entries) {
-            keyGenerator.generateAndSetKey(entry)
-                        .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
-        }
+        basePanel.getDatabase().runInBatch(() -> {
+            for (BibEntry entry : entries) {
+                keyGenerator.generateAndSetKey(entry)
+                            .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
+            }
+        });
         compound.end();
 
         // register the undo event only if new cite keys were generated
@@ -126,17 +126,20 @@ public class CleanupAction implements BaseAction {
     private void cleanup(CleanupPreset cleanupPreset) {
         preferences.setCleanupPreset(cleanupPreset);
 
-        for (BibEntry entry : panel.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
-
-            doCleanup(cleanupPreset, entry, ce);
-
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                panel.getUndoManager().addEdit(ce);
+        // listeners are notified about all changes at once
+        panel.getDatabase().runInBatch(() -> {
+            for (BibEntry entry : panel.getSelectedEntries()) {
+                // undo granularity is on entry level
+                NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
+
+                doCleanup(cleanupPreset, entry, ce);
+
+                ce.end();
+                if (ce.hasEdits()) {
+                    modifiedEntriesCount++;
+                    panel.getUndoManager().addEdit(ce);
+                }
             }
-        }
+        });
     }
 }
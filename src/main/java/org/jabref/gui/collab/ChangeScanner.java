@@ -11,7 +11,7 @@ import org.jabref.logic.bibtex.comparator.BibEntryDiff;
 import org.jabref.logic.bibtex.comparator.BibStringDiff;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.OpenDatabase;
-import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.ChangedRegionsParser;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
@@ -27,6 +27,10 @@ public class ChangeScanner {
         this.database = database;
     }
 
+    /**
+     * Compares the library with the version of its file on disk. The scan stops early if the calling thread is
+     * interrupted, in which case no changes are reported.
+     */
     public List<DatabaseChangeViewModel> scanForChanges() {
         if (database.getDatabasePath().isEmpty()) {
             return Collections.emptyList();
@@ -35,14 +39,17 @@ public class ChangeScanner {
         try {
             List<DatabaseChangeViewModel> changes = new ArrayList<>();
 
-            // Parse the modified file
+            // Parse the modified parts of the file, entries unchanged since loading are skipped
             // Important: apply all post-load actions
             ImportFormatPreferences importFormatPreferences = Globals.prefs.getImportFormatPreferences();
-            ParserResult result = OpenDatabase.loadDatabase(database.getDatabasePath().get(), importFormatPreferences, new DummyFileUpdateMonitor());
-            BibDatabaseContext databaseOnDisk = result.getDatabaseContext();
+            ChangedRegionsParser.Result result = OpenDatabase.loadChangedRegions(database.getDatabasePath().get(), database, importFormatPreferences, new DummyFileUpdateMonitor());
+            BibDatabaseContext changedRegionsOnDisk = result.getParserResult().getDatabaseContext();
 
             // Start looking at changes.
-            BibDatabaseDiff differences = BibDatabaseDiff.compare(database, databaseOnDisk);
+            BibDatabaseDiff differences = BibDatabaseDiff.compareChangedRegions(database, result.getRemainingEntries(), changedRegionsOnDisk);
+            if (Thread.currentThread().isInterrupted()) {
+                return Collections.emptyList();
+            }
             differences.getMetaDataDifferences().ifPresent(diff -> {
                 changes.add(new MetaDataChangeViewModel(diff, Globals.prefs));
                 diff.getGroupDifferences().ifPresent(groupDiff -> changes.add(new GroupChangeViewModel(groupDiff)));
@@ -3,6 +3,7 @@ package org.jabref.gui.collab;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
@@ -21,6 +22,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     private final FileUpdateMonitor fileMonitor;
     private final List<DatabaseChangeListener> listeners;
     private TaskExecutor taskExecutor;
+    private Future<?> runningScan;
 
     public DatabaseChangeMonitor(BibDatabaseContext database, FileUpdateMonitor fileMonitor, TaskExecutor taskExecutor) {
         this.database = database;
@@ -38,24 +40,32 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     }
 
     @Override
-    public void fileUpdated() {
+    public synchronized void fileUpdated() {
+        // A scan of an earlier version of the file is outdated, as the file has been changed again
+        if (runningScan != null) {
+            runningScan.cancel(true);
+        }
+
         // File on disk has changed, thus look for notable changes and notify listeners in case there are such changes
         ChangeScanner scanner = new ChangeScanner(database);
-        BackgroundTask.wrap(scanner::scanForChanges)
-                      .onSuccess(changes -> {
-                          if (!changes.isEmpty()) {
-                              listeners.forEach(listener -> listener.databaseChanged(changes));
-                          }
-                      })
-                      .onFailure(e -> LOGGER.error("Error while watching for changes", e))
-                      .executeWith(taskExecutor);
+        runningScan = BackgroundTask.wrap(scanner::scanForChanges)
+                                    .onSuccess(changes -> {
+                                        if (!changes.isEmpty()) {
+                                            listeners.forEach(listener -> listener.databaseChanged(changes));
+                                        }
+                                    })
+                                    .onFailure(e -> LOGGER.error("Error while watching for changes", e))
+                                    .executeWith(taskExecutor);
     }
 
     public void addListener(DatabaseChangeListener listener) {
         listeners.add(listener);
     }
 
-    public void unregister() {
+    public synchronized void unregister() {
+        if (runningScan != null) {
+            runningScan.cancel(true);
+        }
         database.getDatabasePath().ifPresent(file -> fileMonitor.removeListener(file, this));
     }
 
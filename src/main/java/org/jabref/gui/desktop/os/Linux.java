@@ -134,4 +134,14 @@ public class Linux implements NativeDesktop {
     public Path getApplicationDirectory() {
         return Paths.get("/usr/lib/");
     }
+
+    @Override
+    public Path getApplicationDataDirectory() {
+        String dataHome = System.getenv("XDG_DATA_HOME");
+
+        if ((dataHome != null) && !dataHome.isEmpty()) {
+            return Paths.get(dataHome, "jabref");
+        }
+        return getUserDirectory().resolve(Paths.get(".local", "share", "jabref"));
+    }
 }
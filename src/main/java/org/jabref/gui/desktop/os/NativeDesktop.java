@@ -46,4 +46,13 @@ public interface NativeDesktop {
     default Path getUserDirectory() {
         return Paths.get(System.getProperty("user.home"));
     }
+
+    /**
+     * Returns the path to the directory where JabRef keeps data of the current user, such as caches.
+     *
+     * @return the path to the application data directory of the user
+     */
+    default Path getApplicationDataDirectory() {
+        return getUserDirectory().resolve(".jabref");
+    }
 }
@@ -56,4 +56,9 @@ public class OSX implements NativeDesktop {
     public Path getApplicationDirectory() {
         return Paths.get("/Applications");
     }
+
+    @Override
+    public Path getApplicationDataDirectory() {
+        return getUserDirectory().resolve(Paths.get("Library", "Application Support", "JabRef"));
+    }
 }
@@ -53,6 +53,16 @@ public class Windows implements NativeDesktop {
         return getUserDirectory();
     }
 
+    @Override
+    public Path getApplicationDataDirectory() {
+        String appData = System.getenv("APPDATA");
+
+        if (appData != null) {
+            return Paths.get(appData, "JabRef");
+        }
+        return NativeDesktop.super.getApplicationDataDirectory();
+    }
+
     @Override
     public void openFileWithApplication(String filePath, String application) throws IOException {
         new ProcessBuilder(Paths.get(application).toString(), Paths.get(filePath).toString()).start();
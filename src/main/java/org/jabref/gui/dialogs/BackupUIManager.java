@@ -2,6 +2,7 @@ package org.jabref.gui.dialogs;
 
 import java.nio.file.Path;
 
+import org.jabref.Globals;
 import org.jabref.gui.DialogService;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.autosaveandbackup.BackupManager;
@@ -31,7 +32,7 @@ public class BackupUIManager {
                 Localization.lang("Ignore backup")));
 
         if (restoreClicked) {
-            BackupManager.restoreBackup(originalPath);
+            BackupManager.restoreBackup(originalPath, Globals.entryTypesManager, Globals.prefs);
         }
 
     }
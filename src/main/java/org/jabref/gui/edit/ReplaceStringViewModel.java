@@ -1,7 +1,9 @@
 package org.jabref.gui.edit;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -44,17 +46,14 @@ public class ReplaceStringViewModel extends AbstractViewModel {
         allFieldReplace = allFieldReplaceProperty.getValue();
 
         final NamedCompound compound = new NamedCompound(Localization.lang("Replace string"));
-        int counter = 0;
-        if (selOnly) {
-            for (BibEntry bibEntry : this.panel.getSelectedEntries()) {
-                counter += replaceItem(bibEntry, compound);
-            }
-        } else {
-            for (BibEntry bibEntry : this.panel.getDatabase().getEntries()) {
-                counter += replaceItem(bibEntry, compound);
+        List<BibEntry> entries = selOnly ? this.panel.getSelectedEntries() : this.panel.getDatabase().getEntries();
+        AtomicInteger counter = new AtomicInteger();
+        this.panel.getDatabase().runInBatch(() -> {
+            for (BibEntry bibEntry : entries) {
+                counter.addAndGet(replaceItem(bibEntry, compound));
             }
-        }
-        return counter;
+        });
+        return counter.get();
     }
 
     /**
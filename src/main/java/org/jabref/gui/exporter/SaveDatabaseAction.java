@@ -73,11 +73,12 @@ public class SaveDatabaseAction {
                                            .withEncoding(encoding)
                                            .withSaveType(saveType);
         try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, preferences.getEncoding(), preferences.makeBackup())) {
-            BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(fileWriter, preferences, entryTypesManager);
-
+            BibtexDatabaseWriter databaseWriter;
             if (selectedOnly) {
+                databaseWriter = new BibtexDatabaseWriter(fileWriter, preferences, entryTypesManager);
                 databaseWriter.savePartOfDatabase(panel.getBibDatabaseContext(), panel.getSelectedEntries());
             } else {
+                databaseWriter = new BibtexDatabaseWriter(fileWriter, preferences, entryTypesManager, panel.getSaveCache());
                 databaseWriter.saveDatabase(panel.getBibDatabaseContext());
             }
 
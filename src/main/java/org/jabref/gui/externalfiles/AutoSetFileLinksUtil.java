@@ -35,6 +35,12 @@ public class AutoSetFileLinksUtil {
     private List<Path> directories;
     private AutoLinkPreferences autoLinkPreferences;
     private ExternalFileTypes externalFileTypes;
+    private List<String> extensions;
+
+    /**
+     * Shared by all entries searched, so that the directories are listed only once
+     */
+    private FileFinder fileFinder;
 
     public AutoSetFileLinksUtil(BibDatabaseContext databaseContext, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences, ExternalFileTypes externalFileTypes) {
         this(databaseContext.getFileDirectoriesAsPaths(filePreferences), autoLinkPreferences, externalFileTypes);
@@ -44,6 +50,8 @@ public class AutoSetFileLinksUtil {
         this.directories = directories;
         this.autoLinkPreferences = autoLinkPreferences;
         this.externalFileTypes = externalFileTypes;
+        this.extensions = externalFileTypes.getExternalFileTypeSelection().stream().map(ExternalFileType::getExtension).collect(Collectors.toList());
+        this.fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
     }
 
     public List<BibEntry> linkAssociatedFiles(List<BibEntry> entries, NamedCompound ce) {
@@ -81,10 +89,7 @@ public class AutoSetFileLinksUtil {
     public List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry) throws IOException {
         List<LinkedFile> linkedFiles = new ArrayList<>();
 
-        List<String> extensions = externalFileTypes.getExternalFileTypeSelection().stream().map(ExternalFileType::getExtension).collect(Collectors.toList());
-
         // Run the search operation
-        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
         List<Path> result = fileFinder.findAssociatedFiles(entry, directories, extensions);
 
         // Collect the found files that are not yet linked
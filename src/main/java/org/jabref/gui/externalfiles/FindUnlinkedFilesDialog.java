@@ -283,18 +283,20 @@ public class FindUnlinkedFilesDialog extends BaseDialog<Void> {
         Path directory = getSearchDirectory();
         FileFilter selectedFileFilter = FileFilterConverter.toFileFilter(comboBoxFileTypeSelection.getValue());
 
-        findUnlinkedFilesTask = new UnlinkedFilesCrawler(directory, selectedFileFilter, databaseContext)
+        UnlinkedFilesCrawler crawler = new UnlinkedFilesCrawler(directory, selectedFileFilter, databaseContext);
+        findUnlinkedFilesTask = crawler
                 .onRunning(() -> {
                     panelSearchProgress.setVisible(true);
                     buttonScan.setDisable(true);
-                    tree.setRoot(null);
+                    // the files are shown while searching
+                    tree.setRoot(crawler.getRoot());
+                    crawler.getRoot().setExpanded(true);
                 })
                 .onFinished(() -> {
                     panelSearchProgress.setVisible(false);
                     buttonScan.setDisable(false);
                 })
                 .onSuccess(root -> {
-                    tree.setRoot(root);
                     root.setSelected(true);
                     root.setExpanded(true);
 
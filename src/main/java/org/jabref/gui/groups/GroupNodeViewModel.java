@@ -1,5 +1,6 @@
 package org.jabref.gui.groups;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -11,7 +12,6 @@ import javafx.beans.binding.BooleanBinding;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.input.Dragboard;
 import javafx.scene.paint.Color;
@@ -35,10 +35,13 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AutomaticGroup;
 import org.jabref.model.groups.GroupEntryChanger;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.base.Enums;
+import com.google.common.eventbus.Subscribe;
 import org.fxmisc.easybind.EasyBind;
 
 public class GroupNodeViewModel {
@@ -56,7 +59,7 @@ public class GroupNodeViewModel {
     private final BooleanBinding allSelectedEntriesMatched;
     private final TaskExecutor taskExecutor;
     private final CustomLocalDragboard localDragBoard;
-    private final ObservableList<BibEntry> entriesList;
+    private final GroupMembershipIndex groupMembershipIndex;
     private final DelayTaskThrottler throttler;
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupTreeNode groupNode, CustomLocalDragboard localDragBoard) {
@@ -65,6 +68,7 @@ public class GroupNodeViewModel {
         this.stateManager = Objects.requireNonNull(stateManager);
         this.groupNode = Objects.requireNonNull(groupNode);
         this.localDragBoard = Objects.requireNonNull(localDragBoard);
+        this.groupMembershipIndex = databaseContext.getGroupMembershipIndex();
 
         displayName = new LatexToUnicodeFormatter().format(groupNode.getName());
         isRoot = groupNode.isRoot();
@@ -87,10 +91,9 @@ public class GroupNodeViewModel {
         expandedProperty.addListener((observable, oldValue, newValue) -> groupNode.getGroup().setExpanded(newValue));
 
         // Register listener
-        // The wrapper created by the FXCollections will set a weak listener on the wrapped list. This weak listener gets garbage collected. Hence, we need to maintain a reference to this list.
-        entriesList = databaseContext.getDatabase().getEntries();
-        entriesList.addListener(this::onDatabaseChanged);
+        // The index evaluates only changed entries against the group and reports whether the group matches them now
         throttler = taskExecutor.createThrottler(1000);
+        groupMembershipIndex.registerListener(new WeakGroupMembershipListener(this, groupMembershipIndex));
 
         ObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), groupNode::matches);
         anySelectedEntriesMatched = BindingsHelper.any(selectedEntriesMatchStatus, matched -> matched);
@@ -218,18 +221,18 @@ public class GroupNodeViewModel {
     }
 
     /**
-     * Gets invoked if an entry in the current database changes.
+     * Gets invoked if an entry in the current database starts or stops to be matched by some group.
      */
-    private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
-        throttler.schedule(this::calculateNumberOfMatches);
+    private void onGroupMembershipChanged(GroupMembershipChangedEvent event) {
+        if (event.getGroup() == groupNode) {
+            throttler.schedule(this::calculateNumberOfMatches);
+        }
     }
 
     private void calculateNumberOfMatches() {
-        // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // The index counts the matches once and afterwards updates the number of hits on each change of an entry
         BackgroundTask
-                .wrap(() -> groupNode.calculateNumberOfMatches(databaseContext.getDatabase()))
+                .wrap(() -> groupMembershipIndex.getNumberOfMatches(groupNode))
                 .onSuccess(hits::setValue)
                 .executeWith(taskExecutor);
     }
@@ -331,4 +334,29 @@ public class GroupNodeViewModel {
     private int getPositionInParent() {
         return groupNode.getPositionInParent();
     }
+
+    /**
+     * View models are not disposed explicitly, thus the index must not keep them alive. The listener unregisters itself
+     * as soon as its view model has been garbage collected.
+     */
+    private static class WeakGroupMembershipListener {
+
+        private final WeakReference<GroupNodeViewModel> viewModel;
+        private final GroupMembershipIndex groupMembershipIndex;
+
+        WeakGroupMembershipListener(GroupNodeViewModel viewModel, GroupMembershipIndex groupMembershipIndex) {
+            this.viewModel = new WeakReference<>(viewModel);
+            this.groupMembershipIndex = groupMembershipIndex;
+        }
+
+        @Subscribe
+        public void listen(GroupMembershipChangedEvent event) {
+            GroupNodeViewModel groupNodeViewModel = viewModel.get();
+            if (groupNodeViewModel == null) {
+                groupMembershipIndex.unregisterListener(this);
+            } else {
+                groupNodeViewModel.onGroupMembershipChanged(event);
+            }
+        }
+    }
 }
@@ -76,6 +76,7 @@ public class ImportEntriesDialog extends BaseDialog<Void> {
             } else {
                 dialogService.notify(Localization.lang("Import canceled"));
             }
+            viewModel.close();
 
             return null;
         });
@@ -2,6 +2,7 @@ package org.jabref.gui.importer;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.undo.UndoManager;
 
@@ -19,13 +20,18 @@ import org.jabref.gui.externalfiles.ImportHandler;
 import org.jabref.gui.externalfiletype.ExternalFileTypes;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.bibtex.DuplicateCandidateIndex;
 import org.jabref.logic.bibtex.DuplicateCheck;
+import org.jabref.logic.bibtex.DuplicateFinder;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
+import com.google.common.eventbus.Subscribe;
+
 public class ImportEntriesViewModel extends AbstractViewModel {
 
     private final BackgroundTask<List<BibEntry>> task;
@@ -37,6 +43,10 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     private final FileUpdateMonitor fileUpdateMonitor;
     private ObservableList<BibEntry> entries;
     private PreferencesService preferences;
+    private final AtomicInteger databaseRevision = new AtomicInteger();
+    private final Object databaseDuplicateIndexLock = new Object();
+    private DuplicateCandidateIndex databaseDuplicateIndex;
+    private int indexedDatabaseRevision;
 
     public ImportEntriesViewModel(BackgroundTask<List<BibEntry>> task, TaskExecutor taskExecutor, BibDatabaseContext database, DialogService dialogService, UndoManager undoManager, PreferencesService preferences, StateManager stateManager, FileUpdateMonitor fileUpdateMonitor) {
         this.task = task;
@@ -52,6 +62,24 @@ public class ImportEntriesViewModel extends AbstractViewModel {
 
         task.onSuccess(entriesToImport -> entries.addAll(entriesToImport))
                 .executeWith(taskExecutor);
+
+        database.getDatabase().registerListener(this);
+    }
+
+    /**
+     * Entries of the library have been added, removed or changed, thus the index of the library is built again the
+     * next time it is needed. Does not wait for an index being built.
+     */
+    @Subscribe
+    public void listen(EntriesEvent event) {
+        databaseRevision.incrementAndGet();
+    }
+
+    /**
+     * Stops listening to changes of the library. To be called when the dialog is closed.
+     */
+    public void close() {
+        database.getDatabase().unregisterListener(this);
     }
 
     public String getMessage() {
@@ -69,7 +97,26 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     public boolean hasDuplicate(BibEntry entry) {
         return findInternalDuplicate(entry).isPresent()
                 ||
-                new DuplicateCheck(Globals.entryTypesManager).containsDuplicate(database.getDatabase(), entry, database.getMode()).isPresent();
+                findDuplicateInDatabase(entry).isPresent();
+    }
+
+    /**
+     * Checks if there is a duplicate to the given entry in the library the entries are imported to.
+     * The library is indexed once (and again after it has been changed), so that not every entry to be imported has to
+     * be compared with all entries of the library.
+     */
+    private Optional<BibEntry> findDuplicateInDatabase(BibEntry entry) {
+        DuplicateCandidateIndex index;
+        synchronized (databaseDuplicateIndexLock) {
+            // read before indexing, so that changes made while indexing lead to indexing again
+            int revision = databaseRevision.get();
+            if ((databaseDuplicateIndex == null) || (indexedDatabaseRevision != revision)) {
+                databaseDuplicateIndex = new DuplicateCandidateIndex(database.getEntries());
+                indexedDatabaseRevision = revision;
+            }
+            index = databaseDuplicateIndex;
+        }
+        return new DuplicateFinder(Globals.entryTypesManager, database.getMode()).findDuplicate(index, entry);
     }
 
     public void importEntries(List<BibEntry> entriesToImport) {
@@ -136,7 +183,7 @@ public class ImportEntriesViewModel extends AbstractViewModel {
 
     public void resolveDuplicate(BibEntry entry) {
         // First, try to find duplicate in the existing library
-        Optional<BibEntry> other = new DuplicateCheck(Globals.entryTypesManager).containsDuplicate(database.getDatabase(), entry, database.getMode());
+        Optional<BibEntry> other = findDuplicateInDatabase(entry);
         if (other.isPresent()) {
             DuplicateResolverDialog dialog = new DuplicateResolverDialog(other.get(),
                     entry, DuplicateResolverDialog.DuplicateResolverType.INSPECTION, database);
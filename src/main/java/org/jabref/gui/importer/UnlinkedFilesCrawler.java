@@ -1,107 +1,143 @@
 package org.jabref.gui.importer;
 
-import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.collections.FXCollections;
 import javafx.scene.control.CheckBoxTreeItem;
+import javafx.scene.control.TreeItem;
 
+import org.jabref.gui.desktop.JabRefDesktop;
 import org.jabref.gui.externalfiles.FindUnlinkedFilesDialog.FileNodeWrapper;
 import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.io.DirectoryCrawler;
+import org.jabref.logic.util.io.DirectoryIndex;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * Util class for searching files on the file system which are not linked to a provided {@link BibDatabase}.
+ * <p>
+ * The files found are added to the tree of {@link #getRoot()} while searching, on the JavaFX thread. The listings of
+ * the directories searched are kept in a {@link DirectoryIndex}, so that searching again only lists the directories
+ * modified in the meantime.
  */
 public class UnlinkedFilesCrawler extends BackgroundTask<CheckBoxTreeItem<FileNodeWrapper>> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnlinkedFilesCrawler.class);
+
+    private static final Path DIRECTORY_INDEX_FILE = JabRefDesktop.getNativeDesktop().getApplicationDataDirectory().resolve("directory-index");
+
     private final Path directory;
     private final FileFilter fileFilter;
-    private int counter;
     private final BibDatabaseContext databaseContext;
+    private final CheckBoxTreeItem<FileNodeWrapper> root;
+
+    /**
+     * The items of the directories added to the tree so far, only used on the JavaFX thread
+     */
+    private final Map<Path, CheckBoxTreeItem<FileNodeWrapper>> directoryItems = new HashMap<>();
+
+    /**
+     * The files found, but not yet added to the tree
+     */
+    private final Queue<Path> foundFiles = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isTreeUpdateScheduled = new AtomicBoolean();
+    private final AtomicInteger counter = new AtomicInteger();
 
     public UnlinkedFilesCrawler(Path directory, FileFilter fileFilter, BibDatabaseContext databaseContext) {
         this.directory = directory;
         this.fileFilter = fileFilter;
         this.databaseContext = databaseContext;
+        this.root = new CheckBoxTreeItem<>(new FileNodeWrapper(directory, 0));
+        directoryItems.put(directory.toAbsolutePath().normalize(), root);
+    }
+
+    /**
+     * Returns the root of the tree of the files found, which grows while searching
+     */
+    public CheckBoxTreeItem<FileNodeWrapper> getRoot() {
+        return root;
     }
 
     @Override
     protected CheckBoxTreeItem<FileNodeWrapper> call() {
         UnlinkedPDFFileFilter unlinkedPDFFileFilter = new UnlinkedPDFFileFilter(fileFilter, databaseContext);
-        return searchDirectory(directory.toFile(), unlinkedPDFFileFilter);
-    }
+        DirectoryIndex directoryIndex = DirectoryIndex.load(DIRECTORY_INDEX_FILE);
 
-    /**
-     * Searches recursively all files in the specified directory. <br>
-     * <br>
-     * All files matched by the given {@link UnlinkedPDFFileFilter} are taken into the resulting tree. <br>
-     * <br>
-     * The result will be a tree structure of nodes of the type
-     * {@link CheckBoxTreeItem}. <br>
-     * <br>
-     * The user objects that are attached to the nodes is the
-     * {@link FileNodeWrapper}, which wraps the {@link File}-Object. <br>
-     * <br>
-     * For ensuring the capability to cancel the work of this recursive method,
-     * the first position in the integer array 'state' must be set to 1, to keep
-     * the recursion running. When the states value changes, the method will
-     * resolve its recursion and return what it has saved so far.
-     */
-    private CheckBoxTreeItem<FileNodeWrapper> searchDirectory(File directory, UnlinkedPDFFileFilter ff) {
-        // Return null if the directory is not valid.
-        if ((directory == null) || !directory.exists() || !directory.isDirectory()) {
-            return null;
-        }
+        new DirectoryCrawler(directoryIndex, path -> unlinkedPDFFileFilter.accept(path.toFile()))
+                .crawl(directory, this::fileFound, this::isCanceled);
 
-        File[] filesArray = directory.listFiles(ff);
-        List<File> files;
-        if (filesArray == null) {
-            files = Collections.emptyList();
-        } else {
-            files = Arrays.asList(filesArray);
+        try {
+            directoryIndex.store(DIRECTORY_INDEX_FILE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not store directory index", e);
         }
-        CheckBoxTreeItem<FileNodeWrapper> root = new CheckBoxTreeItem<>(new FileNodeWrapper(directory.toPath(), 0));
 
-        int filesCount = 0;
+        // runs before the result is passed on, which also happens on the JavaFX thread
+        DefaultTaskExecutor.runInJavaFXThread(() -> {
+            addFoundFiles();
+            sortTree(root);
+        });
+        return root;
+    }
 
-        filesArray = directory.listFiles(pathname -> (pathname != null) && pathname.isDirectory());
-        List<File> subDirectories;
-        if (filesArray == null) {
-            subDirectories = Collections.emptyList();
-        } else {
-            subDirectories = Arrays.asList(filesArray);
-        }
-        for (File subDirectory : subDirectories) {
-            if (isCanceled()) {
-                return root;
-            }
+    private void fileFound(Path file) {
+        foundFiles.add(file);
+        int count = counter.incrementAndGet();
 
-            CheckBoxTreeItem<FileNodeWrapper> subRoot = searchDirectory(subDirectory, ff);
-            if ((subRoot != null) && (!subRoot.getChildren().isEmpty())) {
-                filesCount += subRoot.getValue().fileCount;
-                root.getChildren().add(subRoot);
+        // the tree is updated with all files found until the JavaFX thread gets to it
+        if (isTreeUpdateScheduled.compareAndSet(false, true)) {
+            if (count == 1) {
+                updateMessage(Localization.lang("One file found"));
+            } else {
+                updateMessage(Localization.lang("%0 files found", Integer.toString(count)));
             }
+            DefaultTaskExecutor.runInJavaFXThread(this::addFoundFiles);
         }
+    }
 
-        root.setValue(new FileNodeWrapper(directory.toPath(), files.size() + filesCount));
-
-        for (File file : files) {
-            root.getChildren().add(new CheckBoxTreeItem<>(new FileNodeWrapper(file.toPath())));
-
-            counter++;
-            if (counter == 1) {
-                updateMessage(Localization.lang("One file found"));
-            } else {
-                updateMessage(Localization.lang("%0 files found", Integer.toString(counter)));
+    private void addFoundFiles() {
+        isTreeUpdateScheduled.set(false);
+        Path file;
+        while ((file = foundFiles.poll()) != null) {
+            CheckBoxTreeItem<FileNodeWrapper> directoryItem = getDirectoryItem(file.getParent());
+            directoryItem.getChildren().add(new CheckBoxTreeItem<>(new FileNodeWrapper(file)));
+            for (TreeItem<FileNodeWrapper> item = directoryItem; item != null; item = item.getParent()) {
+                item.setValue(new FileNodeWrapper(item.getValue().path, item.getValue().fileCount + 1));
             }
         }
+    }
 
-        return root;
+    private CheckBoxTreeItem<FileNodeWrapper> getDirectoryItem(Path directory) {
+        CheckBoxTreeItem<FileNodeWrapper> item = directoryItems.get(directory);
+        if (item == null) {
+            item = new CheckBoxTreeItem<>(new FileNodeWrapper(directory, 0));
+            getDirectoryItem(directory.getParent()).getChildren().add(item);
+            directoryItems.put(directory, item);
+        }
+        return item;
+    }
+
+    /**
+     * Sorts the tree like a file manager: directories first, then files, each by name
+     */
+    private static void sortTree(TreeItem<FileNodeWrapper> item) {
+        FXCollections.sort(item.getChildren(), Comparator.<TreeItem<FileNodeWrapper>, Boolean>comparing(TreeItem::isLeaf)
+                .thenComparing(child -> child.getValue().path.getFileName().toString()));
+        item.getChildren().forEach(UnlinkedFilesCrawler::sortTree);
     }
 }
@@ -1,19 +1,26 @@
 package org.jabref.gui.maintable;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
 
-import javafx.beans.binding.Bindings;
-import javafx.beans.binding.ObjectBinding;
+import javafx.beans.Observable;
+import javafx.beans.binding.StringBinding;
 import javafx.beans.value.ObservableValue;
 
 import org.jabref.logic.layout.LayoutFormatter;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.EntryConverter;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.OrFields;
+import org.jabref.model.entry.field.StandardField;
 
 /**
  * A column that displays the text-value of the field
@@ -26,6 +33,14 @@ public class FieldColumn extends MainTableColumn<String> {
 
     private final LayoutFormatter toUnicode = new LatexToUnicodeFormatter();
 
+    /**
+     * The values of this column by row, so that the text of an entry is computed once and not on every comparison
+     * while sorting. The values only refer to the entries, not to the rows, thus the rows are still weakly referenced.
+     * Only values taken from the fields of the entry itself are kept, as changes of other entries (crossref) or of the
+     * strings of the database are not noticed.
+     */
+    private final Map<BibEntryTableViewModel, ColumnValue> columnValues = new WeakHashMap<>();
+
     public FieldColumn(MainTableColumnModel model, OrFields bibtexFields, BibDatabase database) {
         super(model);
         this.bibtexFields = bibtexFields;
@@ -48,11 +63,60 @@ public class FieldColumn extends MainTableColumn<String> {
             return null;
         }
 
-        ObjectBinding[] dependencies = bibtexFields.stream().map(entry::getField).toArray(ObjectBinding[]::new);
-        return Bindings.createStringBinding(() -> computeText(entry), dependencies);
+        ColumnValue columnValue = columnValues.get(entry);
+        if (columnValue != null) {
+            // recomputes the text if one of the fields it depends on has changed
+            columnValue.get();
+            if (columnValue.isTakenFromEntryOnly()) {
+                return columnValue;
+            }
+            columnValues.remove(entry);
+        }
+
+        columnValue = new ColumnValue(entry.getEntry());
+        columnValue.get();
+        if (columnValue.isTakenFromEntryOnly()) {
+            columnValues.put(entry, columnValue);
+        }
+        return columnValue;
+    }
+
+    /**
+     * Returns the fields of the entry the text of this column may be taken from without referring to other entries
+     */
+    private Set<Field> getDependentFields() {
+        Set<Field> fields = new LinkedHashSet<>();
+        fields.add(StandardField.CROSSREF);
+        for (Field field : bibtexFields) {
+            fields.add(field);
+            Field alias = EntryConverter.FIELD_ALIASES.get(field);
+            if (alias != null) {
+                fields.add(alias);
+            }
+            if (StandardField.DATE.equals(field)) {
+                fields.addAll(List.of(StandardField.YEAR, StandardField.MONTH, StandardField.DAY));
+            } else if (StandardField.YEAR.equals(field) || StandardField.MONTH.equals(field) || StandardField.DAY.equals(field)) {
+                fields.add(StandardField.DATE);
+            }
+        }
+        return fields;
     }
 
-    private String computeText(BibEntryTableViewModel entry) {
+    /**
+     * Checks whether the text of the entry is taken from the fields of this column as they are, i.e. neither from a
+     * crossref'd entry, nor from an alias, nor by resolving strings
+     */
+    private boolean dependsOnEntryOnly(BibEntry entry) {
+        if (entry.hasField(StandardField.CROSSREF) || isResolved(entry)) {
+            return false;
+        }
+        return bibtexFields.stream()
+                           .map(entry::getField)
+                           .flatMap(Optional::stream)
+                           .noneMatch(value -> value.contains("#"));
+    }
+
+    private String computeText(BibEntry entry) {
         boolean isNameColumn = false;
 
         Optional<String> content = Optional.empty();
@@ -111,4 +175,27 @@ public class FieldColumn extends MainTableColumn<String> {
         return (!resolvedFieldContent.equals(plainFieldContent));
     }
 
+    /**
+     * The text of an entry in this column, which is recomputed whenever a field it may be taken from changes
+     */
+    private class ColumnValue extends StringBinding {
+
+        private final BibEntry entry;
+        private boolean takenFromEntryOnly;
+
+        private ColumnValue(BibEntry entry) {
+            this.entry = entry;
+            bind(getDependentFields().stream().map(entry::getFieldBinding).toArray(Observable[]::new));
+        }
+
+        private boolean isTakenFromEntryOnly() {
+            return takenFromEntryOnly;
+        }
+
+        @Override
+        protected String computeValue() {
+            takenFromEntryOnly = dependsOnEntryOnly(entry);
+            return computeText(entry);
+        }
+    }
 }
@@ -1,7 +1,11 @@
 package org.jabref.gui.maintable;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -13,26 +17,46 @@ import javafx.collections.transformation.SortedList;
 import org.jabref.Globals;
 import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.gui.util.DefaultTaskExecutor;
+import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
-import org.jabref.model.search.matchers.MatcherSet;
-import org.jabref.model.search.matchers.MatcherSets;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
+import org.jabref.model.search.SearchCandidates;
+import org.jabref.model.search.SearchIndex;
+
+import com.google.common.eventbus.Subscribe;
 
 public class MainTableDataModel {
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final SortedList<BibEntryTableViewModel> entriesSorted;
     private final GroupViewMode groupViewMode;
+    private final SearchIndex searchIndex;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final IntegerProperty groupMembershipChanges = new SimpleIntegerProperty();
+    private final AtomicBoolean groupMembershipRefreshScheduled = new AtomicBoolean();
+
+    /**
+     * The groups the current filter uses, read by the listener of the group membership index on other threads
+     */
+    private volatile List<GroupTreeNode> filteredGroups = Collections.emptyList();
 
     public MainTableDataModel(BibDatabaseContext context) {
+        searchIndex = new SearchIndex(context.getDatabase());
+        groupMembershipIndex = context.getGroupMembershipIndex();
+        groupMembershipIndex.registerListener(this);
+
         ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
 
         ObservableList<BibEntryTableViewModel> entriesViewModel = BindingsHelper.mapBacked(allEntries, BibEntryTableViewModel::new);
 
         entriesFiltered = new FilteredList<>(entriesViewModel);
         entriesFiltered.predicateProperty().bind(
-                Bindings.createObjectBinding(() -> this::isMatched,
-                        Globals.stateManager.activeGroupProperty(), Globals.stateManager.activeSearchQueryProperty())
+                Bindings.createObjectBinding(this::createFilter,
+                        Globals.stateManager.activeGroupProperty(), Globals.stateManager.activeSearchQueryProperty(),
+                        groupMembershipChanges)
 
         );
 
@@ -44,37 +68,62 @@ public class MainTableDataModel {
         groupViewMode = Globals.prefs.getGroupViewMode();
     }
 
-    private boolean isMatched(BibEntryTableViewModel entry) {
-        return isMatchedByGroup(entry) && isMatchedBySearch(entry);
+    private Predicate<BibEntryTableViewModel> createFilter() {
+        // the index is only queried once per search instead of checking each entry against the search query
+        Optional<SearchQuery> searchQuery = Globals.stateManager.activeSearchQueryProperty().getValue();
+        SearchCandidates searchCandidates = searchQuery.map(query -> query.getCandidates(searchIndex))
+                                                       .orElse(SearchCandidates.all());
+        List<GroupTreeNode> selectedGroups = Globals.stateManager.activeGroupProperty().getValue();
+        filteredGroups = (selectedGroups == null) ? Collections.emptyList() : new ArrayList<>(selectedGroups);
+        return entry -> isMatchedByGroup(entry, selectedGroups) && isMatchedBySearch(entry, searchQuery, searchCandidates);
     }
 
-    private boolean isMatchedBySearch(BibEntryTableViewModel entry) {
-        return Globals.stateManager.activeSearchQueryProperty().getValue()
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
+    private boolean isMatchedBySearch(BibEntryTableViewModel entry, Optional<SearchQuery> searchQuery, SearchCandidates searchCandidates) {
+        return searchQuery
+                .map(matcher -> searchCandidates.isCandidate(entry.getEntry()) && matcher.isMatch(entry.getEntry()))
                 .orElse(true);
     }
 
-    private boolean isMatchedByGroup(BibEntryTableViewModel entry) {
-        return createGroupMatcher(Globals.stateManager.activeGroupProperty().getValue())
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
-    }
-
-    private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
+    private boolean isMatchedByGroup(BibEntryTableViewModel entry, List<GroupTreeNode> selectedGroups) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
-            return Optional.empty();
+            return true;
         }
+        return groupMembershipIndex.isMatch(selectedGroups, groupViewMode == GroupViewMode.INTERSECTION, entry.getEntry());
+    }
 
-        final MatcherSet searchRules = MatcherSets.build(groupViewMode == GroupViewMode.INTERSECTION ? MatcherSets.MatcherType.AND : MatcherSets.MatcherType.OR);
-
-        for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
+    /**
+     * The table evaluates the filter of a changed entry before the index has been updated, thus filter again as soon
+     * as the index reports a changed group membership. Multiple changes (e.g., when editing many entries at once)
+     * lead to a single refresh.
+     * <p>
+     * Only changes of the selected groups matter. Changes of other groups affecting a selected group through the
+     * hierarchy (e.g., a subgroup of a group including its subgroups) are reported for the selected group as well.
+     */
+    @Subscribe
+    public void listen(GroupMembershipChangedEvent event) {
+        if (!isSelected(event.getGroup())) {
+            return;
+        }
+        if (groupMembershipRefreshScheduled.compareAndSet(false, true)) {
+            DefaultTaskExecutor.runInJavaFXThread(() -> {
+                groupMembershipRefreshScheduled.set(false);
+                groupMembershipChanges.set(groupMembershipChanges.get() + 1);
+            });
         }
-        return Optional.of(searchRules);
+    }
+
+    private boolean isSelected(GroupTreeNode group) {
+        // changing the selection filters the table again anyway
+        return filteredGroups.stream().anyMatch(filteredGroup -> filteredGroup == group);
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
         return entriesSorted;
     }
+
+    public void unregister() {
+        searchIndex.close();
+        groupMembershipIndex.unregisterListener(this);
+    }
 }
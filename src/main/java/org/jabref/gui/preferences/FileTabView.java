@@ -25,6 +25,7 @@ public class FileTabView extends AbstractPreferenceTabView<FileTabViewModel> imp
 
     @FXML private CheckBox openLastStartup;
     @FXML private CheckBox backupOldFile;
+    @FXML private CheckBox cacheLibrarySnapshots;
     @FXML private TextField noWrapFiles;
     @FXML private RadioButton resolveStringsBibTex;
     @FXML private RadioButton resolveStringsAll;
@@ -63,6 +64,7 @@ public class FileTabView extends AbstractPreferenceTabView<FileTabViewModel> imp
 
         openLastStartup.selectedProperty().bindBidirectional(viewModel.openLastStartupProperty());
         backupOldFile.selectedProperty().bindBidirectional(viewModel.backupOldFileProperty());
+        cacheLibrarySnapshots.selectedProperty().bindBidirectional(viewModel.cacheLibrarySnapshotsProperty());
         noWrapFiles.textProperty().bindBidirectional(viewModel.noWrapFilesProperty());
         resolveStringsBibTex.selectedProperty().bindBidirectional(viewModel.resolveStringsBibTexProperty());
         resolveStringsAll.selectedProperty().bindBidirectional(viewModel.resolveStringsAllProperty());
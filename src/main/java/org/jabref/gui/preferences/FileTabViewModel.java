@@ -33,6 +33,7 @@ public class FileTabViewModel implements PreferenceTabViewModel {
 
     private final BooleanProperty openLastStartupProperty = new SimpleBooleanProperty();
     private final BooleanProperty backupOldFileProperty = new SimpleBooleanProperty();
+    private final BooleanProperty cacheLibrarySnapshotsProperty = new SimpleBooleanProperty();
     private final StringProperty noWrapFilesProperty = new SimpleStringProperty("");
     private final BooleanProperty resolveStringsBibTexProperty = new SimpleBooleanProperty();
     private final BooleanProperty resolveStringsAllProperty = new SimpleBooleanProperty();
@@ -81,6 +82,7 @@ public class FileTabViewModel implements PreferenceTabViewModel {
     public void setValues() {
         openLastStartupProperty.setValue(preferences.getBoolean(JabRefPreferences.OPEN_LAST_EDITED));
         backupOldFileProperty.setValue(preferences.getBoolean(JabRefPreferences.BACKUP));
+        cacheLibrarySnapshotsProperty.setValue(preferences.getBoolean(JabRefPreferences.CACHE_LIBRARY_SNAPSHOTS));
         noWrapFilesProperty.setValue(preferences.get(JabRefPreferences.NON_WRAPPABLE_FIELDS));
         resolveStringsAllProperty.setValue(preferences.getBoolean(JabRefPreferences.RESOLVE_STRINGS_ALL_FIELDS)); // Flipped around
         resolveStringsBibTexProperty.setValue(!resolveStringsAllProperty.getValue());
@@ -109,6 +111,7 @@ public class FileTabViewModel implements PreferenceTabViewModel {
     public void storeSettings() {
         preferences.putBoolean(JabRefPreferences.OPEN_LAST_EDITED, openLastStartupProperty.getValue());
         preferences.putBoolean(JabRefPreferences.BACKUP, backupOldFileProperty.getValue());
+        preferences.putBoolean(JabRefPreferences.CACHE_LIBRARY_SNAPSHOTS, cacheLibrarySnapshotsProperty.getValue());
         if (!noWrapFilesProperty.getValue().trim().equals(preferences.get(JabRefPreferences.NON_WRAPPABLE_FIELDS))) {
             preferences.put(JabRefPreferences.NON_WRAPPABLE_FIELDS, noWrapFilesProperty.getValue());
         }
@@ -162,6 +165,8 @@ public class FileTabViewModel implements PreferenceTabViewModel {
 
     public BooleanProperty backupOldFileProperty() { return backupOldFileProperty; }
 
+    public BooleanProperty cacheLibrarySnapshotsProperty() { return cacheLibrarySnapshotsProperty; }
+
     public StringProperty noWrapFilesProperty() { return noWrapFilesProperty; }
 
     public BooleanProperty resolveStringsBibTexProperty() { return resolveStringsBibTexProperty; }
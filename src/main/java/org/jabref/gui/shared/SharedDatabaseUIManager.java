@@ -1,6 +1,7 @@
 package org.jabref.gui.shared;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -17,12 +18,14 @@ import org.jabref.gui.entryeditor.EntryEditor;
 import org.jabref.gui.exporter.SaveDatabaseAction;
 import org.jabref.gui.mergeentries.MergeEntriesDialog;
 import org.jabref.gui.undo.UndoableRemoveEntries;
+import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.shared.DBMSConnection;
 import org.jabref.logic.shared.DBMSConnectionProperties;
 import org.jabref.logic.shared.DBMSSynchronizer;
 import org.jabref.logic.shared.event.ConnectionLostEvent;
+import org.jabref.logic.shared.event.EntriesUploadProgressEvent;
 import org.jabref.logic.shared.event.SharedEntriesNotPresentEvent;
 import org.jabref.logic.shared.event.UpdateRefusedEvent;
 import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
@@ -37,6 +40,11 @@ import com.google.common.eventbus.Subscribe;
 
 public class SharedDatabaseUIManager {
 
+    /**
+     * The progress of uploads taking less time is not shown, as adding a few entries does not need to be reported
+     */
+    private static final Duration MIN_REPORTED_UPLOAD_TIME = Duration.ofSeconds(1);
+
     private final JabRefFrame jabRefFrame;
     private DatabaseSynchronizer dbmsSynchronizer;
     private final DialogService dialogService;
@@ -77,7 +85,11 @@ public class SharedDatabaseUIManager {
 
     @Subscribe
     public void listen(UpdateRefusedEvent updateRefusedEvent) {
+        // updates are written in the background
+        DefaultTaskExecutor.runInJavaFXThread(() -> showUpdateRefusedDialog(updateRefusedEvent));
+    }
 
+    private void showUpdateRefusedDialog(UpdateRefusedEvent updateRefusedEvent) {
         jabRefFrame.getDialogService().notify(Localization.lang("Update refused."));
 
         BibEntry localBibEntry = updateRefusedEvent.getLocalBibEntry();
@@ -113,7 +125,25 @@ public class SharedDatabaseUIManager {
             });
 
         }
+    }
+
+    @Subscribe
+    public void listen(EntriesUploadProgressEvent event) {
+        if (event.getElapsedTime().compareTo(MIN_REPORTED_UPLOAD_TIME) < 0) {
+            return;
+        }
 
+        String entriesPerSecond = String.valueOf(Math.round(event.getEntriesPerSecond()));
+        String message;
+        if (event.isFinished()) {
+            message = Localization.lang("Uploaded %0 entries to the shared database (%1 entries per second).",
+                    String.valueOf(event.getTotalEntries()), entriesPerSecond);
+        } else {
+            message = Localization.lang("Uploading entries to the shared database: %0 of %1 (%2 entries per second)...",
+                    String.valueOf(event.getUploadedEntries()), String.valueOf(event.getTotalEntries()), entriesPerSecond);
+        }
+        // entries are uploaded by the thread which added them
+        DefaultTaskExecutor.runInJavaFXThread(() -> dialogService.notify(message));
     }
 
     @Subscribe
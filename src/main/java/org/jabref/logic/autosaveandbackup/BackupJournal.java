@@ -0,0 +1,278 @@
+package org.jabref.logic.autosaveandbackup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.EntryTypeFactory;
+
+import com.google.common.eventbus.Subscribe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the changes of the entries of a library since its last full backup (see {@link BackupManager}). Instead of
+ * writing the whole library again, the recorded changes are appended to a journal file next to the backup file.
+ * <p>
+ * The journal consists of a header line followed by one line per change. The entries are identified by their position
+ * in the full backup, which is written in the original order of the library. Entries added later get the following
+ * numbers. Changes which are not related to entries (e.g., of the meta data) cannot be recorded and require a new full
+ * backup.
+ */
+class BackupJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackupJournal.class);
+
+    private static final String HEADER = "% JabRef backup journal";
+    private static final String ADD = "A";
+    private static final String REMOVE = "R";
+    private static final String SET_FIELD = "S";
+    private static final String CLEAR_FIELD = "C";
+
+    /**
+     * Number of changes after which a full backup is written instead of growing the journal further
+     */
+    private static final int MAX_CHANGES = 10_000;
+
+    private final Map<BibEntry, Integer> entryNumbers = new IdentityHashMap<>();
+    private final List<String> pendingChanges = new ArrayList<>();
+    private int nextEntryNumber;
+    private int recordedChanges;
+    private boolean isFullBackupRequired = true;
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            int number = nextEntryNumber++;
+            entryNumbers.put(entry, number);
+            record(ADD, number, entry.getType().getName());
+            entry.getFieldMap().forEach((field, value) -> record(SET_FIELD, number, field.getName(), value));
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            Integer number = entryNumbers.remove(entry);
+            if (number != null) {
+                record(REMOVE, number);
+            }
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        Integer number = entryNumbers.get(event.getBibEntry());
+        if ((number == null) || (event.getField() == InternalField.INTERNAL_ID_FIELD)) {
+            return;
+        }
+        if (event.getNewValue() == null) {
+            record(CLEAR_FIELD, number, event.getField().getName());
+        } else {
+            record(SET_FIELD, number, event.getField().getName(), event.getNewValue());
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesChangedEvent event) {
+        event.getFieldChanges().forEach(this::listen);
+    }
+
+    private void record(String kind, int number, String... arguments) {
+        StringBuilder change = new StringBuilder(kind).append('\t').append(number);
+        for (String argument : arguments) {
+            change.append('\t').append(escape(argument));
+        }
+        pendingChanges.add(change.toString());
+        recordedChanges++;
+    }
+
+    /**
+     * Requests a full backup, e.g., because a change could not be recorded.
+     */
+    synchronized void requireFullBackup() {
+        isFullBackupRequired = true;
+    }
+
+    synchronized boolean isFullBackupRequired() {
+        return isFullBackupRequired || (recordedChanges > MAX_CHANGES);
+    }
+
+    /**
+     * Starts a full backup of the given entries. Changes recorded afterwards refer to this backup.
+     *
+     * @return the entries in the order they have to be written
+     */
+    synchronized List<BibEntry> startFullBackup(List<BibEntry> entries) {
+        List<BibEntry> entriesToWrite = new ArrayList<>(entries);
+        entryNumbers.clear();
+        for (BibEntry entry : entriesToWrite) {
+            entryNumbers.put(entry, entryNumbers.size());
+        }
+        nextEntryNumber = entriesToWrite.size();
+        pendingChanges.clear();
+        recordedChanges = 0;
+        isFullBackupRequired = false;
+        return entriesToWrite;
+    }
+
+    /**
+     * Starts a new journal for the full backup just written. If writing fails, the next backup is a full one.
+     */
+    void startJournal(Path journalPath, long backupSize, int numberOfEntries) {
+        try (AtomicFileWriter writer = new AtomicFileWriter(journalPath, StandardCharsets.UTF_8)) {
+            writer.write(HEADER + '\t' + backupSize + '\t' + numberOfEntries + '\n');
+        } catch (IOException e) {
+            LOGGER.error("Could not write backup journal {}", journalPath, e);
+            requireFullBackup();
+        }
+    }
+
+    /**
+     * Appends the changes recorded since the last call to the journal. If writing fails, the next backup is a full one.
+     */
+    void appendPendingChanges(Path journalPath) {
+        List<String> changes;
+        synchronized (this) {
+            changes = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        try (Writer writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+            for (String change : changes) {
+                writer.write(change);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not append to backup journal {}", journalPath, e);
+            requireFullBackup();
+        }
+    }
+
+    /**
+     * Applies the changes of the given journal to the given database, which has been read from the full backup.
+     *
+     * @param backupSize the size of the full backup file in bytes
+     * @return <code>false</code> if the journal does not belong to the backup, in which case nothing is applied
+     */
+    static boolean replay(Path journalPath, long backupSize, BibDatabase database) throws IOException {
+        // a line without line break at the end has not been written completely
+        String[] lines = Files.readString(journalPath, StandardCharsets.UTF_8).split("\n", -1);
+        String[] header = lines[0].split("\t");
+        List<BibEntry> backupEntries = database.getEntries();
+        try {
+            if ((lines.length < 2) || (header.length != 3) || !HEADER.equals(header[0])
+                    || (Long.parseLong(header[1]) != backupSize)
+                    || (Integer.parseInt(header[2]) != backupEntries.size())) {
+                // the journal of an older backup, whose changes are contained in the current one
+                return false;
+            }
+
+            Map<Integer, BibEntry> entries = new HashMap<>();
+            for (int i = 0; i < backupEntries.size(); i++) {
+                entries.put(i, backupEntries.get(i));
+            }
+
+            for (int i = 1; i < (lines.length - 1); i++) {
+                String[] parts = lines[i].split("\t", -1);
+                int number = Integer.parseInt(parts[1]);
+                if (ADD.equals(parts[0]) && (parts.length == 3)) {
+                    BibEntry entry = new BibEntry(EntryTypeFactory.parse(unescape(parts[2])));
+                    entries.put(number, entry);
+                    database.insertEntry(entry);
+                } else if (REMOVE.equals(parts[0])) {
+                    BibEntry entry = entries.remove(number);
+                    if (entry != null) {
+                        database.removeEntry(entry);
+                    }
+                } else if (SET_FIELD.equals(parts[0]) && (parts.length == 4) && entries.containsKey(number)) {
+                    setField(entries.get(number), FieldFactory.parseField(unescape(parts[2])), unescape(parts[3]));
+                } else if (CLEAR_FIELD.equals(parts[0]) && (parts.length == 3) && entries.containsKey(number)) {
+                    entries.get(number).clearField(FieldFactory.parseField(unescape(parts[2])));
+                }
+            }
+            return true;
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Malformed backup journal " + journalPath, e);
+        }
+    }
+
+    private static void setField(BibEntry entry, Field field, String value) {
+        if (field == InternalField.TYPE_HEADER) {
+            entry.setType(EntryTypeFactory.parse(value));
+        } else {
+            entry.setField(field, value);
+        }
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            switch (character) {
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case '\t':
+                    escaped.append("\\t");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    escaped.append("\\r");
+                    break;
+                default:
+                    escaped.append(character);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(String text) {
+        StringBuilder unescaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if ((character == '\\') && ((i + 1) < text.length())) {
+                i++;
+                switch (text.charAt(i)) {
+                    case 't':
+                        unescaped.append('\t');
+                        break;
+                    case 'n':
+                        unescaped.append('\n');
+                        break;
+                    case 'r':
+                        unescaped.append('\r');
+                        break;
+                    default:
+                        unescaped.append(text.charAt(i));
+                }
+            } else {
+                unescaped.append(character);
+            }
+        }
+        return unescaped.toString();
+    }
+}
@@ -5,7 +5,9 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
@@ -14,13 +16,21 @@ import java.util.concurrent.ExecutorService;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.IncrementalSaveCache;
 import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.util.DelayTaskThrottler;
 import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.CoarseChangeFilter;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.JabRefPreferences;
 
 import com.google.common.eventbus.Subscribe;
@@ -31,6 +41,10 @@ import org.slf4j.LoggerFactory;
  * Backups the given bib database file from {@link BibDatabaseContext} on every {@link BibDatabaseContextChangedEvent}.
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks.
+ * <p>
+ * A full backup is only written from time to time. In between, the changes of entries are appended to a journal next
+ * to the backup file (see {@link BackupJournal}), which is applied when restoring the backup. Changes of the preamble or
+ * the strings cannot be recorded in the journal, thus a full backup is written if they have changed.
  * This class does not manage the .bak file which is created when opening a database.
  */
 public class BackupManager {
@@ -38,6 +52,7 @@ public class BackupManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(BackupManager.class);
 
     private static final String BACKUP_EXTENSION = ".sav";
+    private static final String JOURNAL_EXTENSION = ".sav.journal";
 
     private static Set<BackupManager> runningInstances = new HashSet<>();
 
@@ -46,6 +61,13 @@ public class BackupManager {
     private final DelayTaskThrottler throttler;
     private final CoarseChangeFilter changeFilter;
     private final BibEntryTypesManager entryTypesManager;
+    private final IncrementalSaveCache saveCache = new IncrementalSaveCache();
+    private final BackupJournal journal = new BackupJournal();
+
+    /**
+     * The parts of the library which cannot be recorded in the journal as of the last full backup
+     */
+    private String unjournaledContent = "";
 
     private BackupManager(BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, JabRefPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
@@ -55,12 +77,18 @@ public class BackupManager {
 
         changeFilter = new CoarseChangeFilter(bibDatabaseContext);
         changeFilter.registerListener(this);
+        // the journal needs all changes, not only the major ones relayed by the filter
+        bibDatabaseContext.getDatabase().registerListener(journal);
     }
 
     static Path getBackupPath(Path originalPath) {
         return FileUtil.addExtension(originalPath, BACKUP_EXTENSION);
     }
 
+    static Path getJournalPath(Path originalPath) {
+        return FileUtil.addExtension(originalPath, JOURNAL_EXTENSION);
+    }
+
     /**
      * Starts the BackupManager which is associated with the given {@link BibDatabaseContext}.
      * As long as no database file is present in {@link BibDatabaseContext}, the {@link BackupManager} will do nothing.
@@ -96,35 +124,84 @@ public class BackupManager {
     }
 
     /**
-     * Restores the backup file by copying and overwriting the original one.
+     * Restores the backup file by overwriting the original one. If there is a journal of changes made after the backup
+     * file has been written, the backup file is read, the changes are applied, and the result is written to the
+     * original file. Otherwise, the backup file is copied.
      *
      * @param originalPath Path to the file which should be equalized to the backup file.
      */
-    public static void restoreBackup(Path originalPath) {
+    public static void restoreBackup(Path originalPath, BibEntryTypesManager entryTypesManager, JabRefPreferences preferences) {
         Path backupPath = getBackupPath(originalPath);
+        Path journalPath = getJournalPath(originalPath);
         try {
+            if (Files.exists(journalPath)) {
+                ParserResult result = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor())
+                        .importDatabase(backupPath, preferences.getDefaultEncoding());
+                if (BackupJournal.replay(journalPath, Files.size(backupPath), result.getDatabase())) {
+                    BibDatabaseContext context = result.getDatabaseContext();
+                    SavePreferences savePreferences = getSavePreferences(context, preferences);
+                    try (AtomicFileWriter fileWriter = new AtomicFileWriter(originalPath, savePreferences.getEncoding())) {
+                        new BibtexDatabaseWriter(fileWriter, savePreferences, entryTypesManager).saveDatabase(context);
+                    }
+                    return;
+                }
+            }
             Files.copy(backupPath, originalPath, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
         }
     }
 
+    private static SavePreferences getSavePreferences(BibDatabaseContext context, JabRefPreferences preferences) {
+        Charset charset = context.getMetaData().getEncoding().orElse(preferences.getDefaultEncoding());
+        return preferences.loadForSaveFromPreferences().withEncoding(charset).withMakeBackup(false);
+    }
+
     private Optional<Path> determineBackupPath() {
         return bibDatabaseContext.getDatabasePath().map(BackupManager::getBackupPath);
     }
 
-    private void performBackup(Path backupPath) {
+    private void performBackup(Path originalPath) {
+        Path backupPath = getBackupPath(originalPath);
+        Path journalPath = getJournalPath(originalPath);
+        String currentUnjournaledContent = getUnjournaledContent();
+        if (!currentUnjournaledContent.equals(unjournaledContent)) {
+            // changes of the preamble or the strings are not announced by events
+            journal.requireFullBackup();
+        }
+        if (!journal.isFullBackupRequired() && Files.exists(backupPath) && Files.exists(journalPath)) {
+            journal.appendPendingChanges(journalPath);
+            return;
+        }
+
         try {
-            Charset charset = bibDatabaseContext.getMetaData().getEncoding().orElse(preferences.getDefaultEncoding());
-            SavePreferences savePreferences = preferences.loadForSaveFromPreferences().withEncoding
-                    (charset).withMakeBackup(false);
-            new BibtexDatabaseWriter(new AtomicFileWriter(backupPath, savePreferences.getEncoding()), savePreferences, entryTypesManager)
-                    .saveDatabase(bibDatabaseContext);
+            SavePreferences savePreferences = getSavePreferences(bibDatabaseContext, preferences);
+            List<BibEntry> entries = journal.startFullBackup(bibDatabaseContext.getDatabase().getEntries());
+            unjournaledContent = currentUnjournaledContent;
+            // the journal refers to the entries by their position in the backup, thus they must not be sorted
+            new BibtexDatabaseWriter(new AtomicFileWriter(backupPath, savePreferences.getEncoding()), savePreferences, entryTypesManager, saveCache)
+                    .savePartOfDatabaseInGivenOrder(bibDatabaseContext, entries);
+            journal.startJournal(journalPath, Files.size(backupPath), entries.size());
         } catch (IOException e) {
+            journal.requireFullBackup();
             logIfCritical(backupPath, e);
         }
     }
 
+    /**
+     * Returns the preamble, the strings and the epilog of the library, whose changes cannot be recorded in the journal
+     */
+    private String getUnjournaledContent() {
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        StringBuilder content = new StringBuilder()
+                .append(database.getPreamble().orElse("")).append('\n')
+                .append(database.getEpilog()).append('\n');
+        database.getStringValues().stream()
+                .sorted(Comparator.comparing(BibtexString::getName))
+                .forEach(string -> content.append(string.getName()).append('=').append(string.getContent()).append('\n'));
+        return content.toString();
+    }
+
     private void logIfCritical(Path backupPath, IOException e) {
         Throwable innermostCause = e;
         while (innermostCause.getCause() != null) {
@@ -139,12 +216,16 @@ public class BackupManager {
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        if (!(event instanceof EntriesEvent)) {
+            // e.g., a change of the meta data, which cannot be recorded in the journal
+            journal.requireFullBackup();
+        }
         startBackupTask();
     }
 
     private void startBackupTask() {
-        throttler.schedule(() -> determineBackupPath().ifPresent(this::performBackup));
+        throttler.schedule(() -> bibDatabaseContext.getDatabasePath().ifPresent(this::performBackup));
     }
 
     /**
@@ -154,8 +235,10 @@ public class BackupManager {
     private void shutdown() {
         changeFilter.unregisterListener(this);
         changeFilter.shutdown();
+        bibDatabaseContext.getDatabase().unregisterListener(journal);
         throttler.shutdown();
         determineBackupPath().ifPresent(this::deleteBackupFile);
+        bibDatabaseContext.getDatabasePath().map(BackupManager::getJournalPath).ifPresent(this::deleteBackupFile);
     }
 
     private void deleteBackupFile(Path backupPath) {
@@ -0,0 +1,153 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Groups a fixed list of entries into blocks of possible duplicates ("blocking"). Only entries sharing at least one
+ * block have to be compared using {@link DuplicateCheck#isDuplicate}, which avoids comparing each entry with every
+ * other entry.
+ * <p>
+ * Entries are put into the same block if they share
+ * <ul>
+ *     <li>an identifier (DOI, ePrint, PMID or ISBN),</li>
+ *     <li>two consecutive words of their normalized title, or</li>
+ *     <li>the last name of the first author (or editor) together with the year.</li>
+ * </ul>
+ * Entries having none of these fields are blocked by their entry type.
+ */
+public class DuplicateCandidateIndex {
+
+    /**
+     * Title word pairs occurring in more entries than this (e.g., "of the") are not used for blocking, as they would
+     * degrade to a comparison of (almost) all entries.
+     */
+    private static final int MAX_TITLE_BLOCK_SIZE = 500;
+
+    private static final Pattern NON_WORD_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final String TITLE_KEY_PREFIX = "title:";
+
+    private final List<BibEntry> entries;
+    private final Map<String, List<Integer>> blocks = new HashMap<>();
+
+    public DuplicateCandidateIndex(List<BibEntry> entries) {
+        this.entries = new ArrayList<>(entries);
+        for (int i = 0; i < this.entries.size(); i++) {
+            for (String key : getBlockingKeys(this.entries.get(i))) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+    }
+
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+
+        List<Field> identifierFields = new ArrayList<>(FieldFactory.getIdentifierFieldNames());
+        identifierFields.add(StandardField.ISBN);
+        for (Field field : identifierFields) {
+            entry.getField(field).ifPresent(identifier -> keys.add(field.getName() + ':' + identifier));
+        }
+
+        entry.getField(StandardField.TITLE).ifPresent(title -> {
+            String[] words = Arrays.stream(NON_WORD_CHARACTERS.split(title.toLowerCase(Locale.ROOT)))
+                                   .filter(word -> !word.isEmpty())
+                                   .toArray(String[]::new);
+            if (words.length == 1) {
+                keys.add(TITLE_KEY_PREFIX + words[0]);
+            }
+            for (int i = 0; i < (words.length - 1); i++) {
+                keys.add(TITLE_KEY_PREFIX + words[i] + ' ' + words[i + 1]);
+            }
+        });
+
+        entry.getField(StandardField.AUTHOR)
+             .or(() -> entry.getField(StandardField.EDITOR))
+             .map(AuthorList::parse)
+             .filter(authors -> !authors.isEmpty())
+             .flatMap(authors -> authors.getAuthor(0).getLast())
+             .ifPresent(lastName -> keys.add("author:" + lastName.toLowerCase(Locale.ROOT) + ':' + entry.getField(StandardField.YEAR).orElse("")));
+
+        if (keys.isEmpty()) {
+            keys.add("type:" + entry.getType().getName());
+        }
+        return keys;
+    }
+
+    private static boolean isUsableBlock(String key, List<Integer> block) {
+        return !key.startsWith(TITLE_KEY_PREFIX) || (block.size() <= MAX_TITLE_BLOCK_SIZE);
+    }
+
+    public List<BibEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns all pairs of indexed entries sharing at least one block. Each pair is encoded as a long with the
+     * position of the first entry in the upper and the position of the second entry in the lower 32 bits, where
+     * the first position is always smaller than the second one. The pairs are sorted ascending.
+     */
+    public long[] getCandidatePairs() {
+        Set<Long> pairs = new HashSet<>();
+        blocks.forEach((key, block) -> {
+            if ((block.size() < 2) || !isUsableBlock(key, block)) {
+                return;
+            }
+            for (int i = 0; i < (block.size() - 1); i++) {
+                for (int j = i + 1; j < block.size(); j++) {
+                    pairs.add(encodePair(block.get(i), block.get(j)));
+                }
+            }
+        });
+        return pairs.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    /**
+     * Returns the indexed entries sharing at least one block with the given entry, in the order of the indexed list.
+     * The given entry does not need to be part of the index.
+     */
+    public List<BibEntry> getCandidates(BibEntry entry) {
+        Set<Integer> positions = new TreeSet<>();
+        for (String key : getBlockingKeys(entry)) {
+            List<Integer> block = blocks.get(key);
+            if ((block != null) && isUsableBlock(key, block)) {
+                positions.addAll(block);
+            }
+        }
+
+        List<BibEntry> candidates = new ArrayList<>(positions.size());
+        for (Integer position : positions) {
+            BibEntry candidate = entries.get(position);
+            if (candidate != entry) {
+                candidates.add(candidate);
+            }
+        }
+        return candidates;
+    }
+
+    static long encodePair(int first, int second) {
+        return ((long) first << 32) | second;
+    }
+
+    static int getFirstOfPair(long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    static int getSecondOfPair(long pair) {
+        return (int) pair;
+    }
+}
@@ -0,0 +1,87 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+/**
+ * Finds duplicates in a list of entries without comparing every entry with every other one.
+ * <p>
+ * The entries are first grouped into blocks of candidates using a {@link DuplicateCandidateIndex}. Only pairs of
+ * entries sharing a block are checked using {@link DuplicateCheck#isDuplicate}. These checks are run in parallel.
+ */
+public class DuplicateFinder {
+
+    /**
+     * Number of candidate pairs checked in parallel before the found duplicates are reported
+     */
+    private static final int CHUNK_SIZE = 10_000;
+
+    private final DuplicateCheck duplicateCheck;
+    private final BibDatabaseMode databaseMode;
+
+    public DuplicateFinder(BibEntryTypesManager entryTypesManager, BibDatabaseMode databaseMode) {
+        this.duplicateCheck = new DuplicateCheck(entryTypesManager);
+        this.databaseMode = databaseMode;
+    }
+
+    /**
+     * Returns all pairs of duplicates in the given entries. The pairs are ordered by the position of the entries in
+     * the given list, with the first entry of a pair always being located before the second one.
+     */
+    public List<List<BibEntry>> findDuplicates(List<BibEntry> entries) {
+        List<List<BibEntry>> duplicates = new ArrayList<>();
+        findDuplicates(entries, (first, second) -> duplicates.add(Arrays.asList(first, second)));
+        return duplicates;
+    }
+
+    /**
+     * Searches for all pairs of duplicates in the given entries and passes them (in the order described in
+     * {@link #findDuplicates(List)}) to the given consumer as soon as they are found. The consumer is always called
+     * from the calling thread. The search stops early if the calling thread is interrupted.
+     */
+    public void findDuplicates(List<BibEntry> entries, BiConsumer<BibEntry, BibEntry> duplicateConsumer) {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(entries);
+        List<BibEntry> indexedEntries = index.getEntries();
+        long[] candidatePairs = index.getCandidatePairs();
+
+        for (int chunkStart = 0; chunkStart < candidatePairs.length; chunkStart += CHUNK_SIZE) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+
+            int chunkEnd = Math.min(chunkStart + CHUNK_SIZE, candidatePairs.length);
+            long[] duplicatePairs = Arrays.stream(candidatePairs, chunkStart, chunkEnd)
+                                          .parallel()
+                                          .filter(pair -> isDuplicate(indexedEntries, pair))
+                                          .toArray();
+            for (long pair : duplicatePairs) {
+                duplicateConsumer.accept(indexedEntries.get(DuplicateCandidateIndex.getFirstOfPair(pair)),
+                        indexedEntries.get(DuplicateCandidateIndex.getSecondOfPair(pair)));
+            }
+        }
+    }
+
+    /**
+     * Returns the first entry of the index which is a duplicate of the given entry. The index should be reused for
+     * checking multiple entries against the same list of entries (e.g., when importing entries into a library).
+     */
+    public Optional<BibEntry> findDuplicate(DuplicateCandidateIndex index, BibEntry entry) {
+        return index.getCandidates(entry)
+                    .stream()
+                    .filter(candidate -> duplicateCheck.isDuplicate(entry, candidate, databaseMode))
+                    .findFirst();
+    }
+
+    private boolean isDuplicate(List<BibEntry> entries, long pair) {
+        BibEntry first = entries.get(DuplicateCandidateIndex.getFirstOfPair(pair));
+        BibEntry second = entries.get(DuplicateCandidateIndex.getSecondOfPair(pair));
+        return duplicateCheck.isDuplicate(first, second, databaseMode);
+    }
+}
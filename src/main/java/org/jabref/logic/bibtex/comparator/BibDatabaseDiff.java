@@ -1,16 +1,23 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.DuplicateCheck;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.Field;
 
 public class BibDatabaseDiff {
 
@@ -20,109 +27,136 @@ public class BibDatabaseDiff {
     private final List<BibStringDiff> bibStringDiffs;
     private final List<BibEntryDiff> entryDiffs;
 
-    private BibDatabaseDiff(BibDatabaseContext originalDatabase, BibDatabaseContext newDatabase) {
+    private BibDatabaseDiff(BibDatabaseContext originalDatabase, List<BibEntry> originalEntries, BibDatabaseContext newDatabase) {
         metaDataDiff = MetaDataDiff.compare(originalDatabase.getMetaData(), newDatabase.getMetaData());
         preambleDiff = PreambleDiff.compare(originalDatabase, newDatabase);
         bibStringDiffs = BibStringDiff.compare(originalDatabase.getDatabase(), newDatabase.getDatabase());
-
-        // Sort both databases according to a common sort key.
-        EntryComparator comparator = getEntryComparator();
-        List<BibEntry> originalEntriesSorted = originalDatabase.getDatabase().getEntriesSorted(comparator);
-        List<BibEntry> newEntriesSorted = newDatabase.getDatabase().getEntriesSorted(comparator);
-
-        entryDiffs = compareEntries(originalEntriesSorted, newEntriesSorted);
-    }
-
-    private static EntryComparator getEntryComparator() {
-        EntryComparator comparator = new EntryComparator(false, true, StandardField.TITLE);
-        comparator = new EntryComparator(false, true, StandardField.AUTHOR, comparator);
-        comparator = new EntryComparator(false, true, StandardField.YEAR, comparator);
-        return comparator;
+        entryDiffs = compareEntries(originalEntries, newDatabase.getDatabase().getEntries());
     }
 
+    /**
+     * Matches the entries in three steps, so that large libraries with few changes are compared in linear time:
+     * <ol>
+     *     <li>Entries with exactly the same fields are matched using a hash map of their fields.</li>
+     *     <li>Of the remaining entries, entries with the same citation key are matched, provided that the key is unique
+     *     among the remaining entries of both databases.</li>
+     *     <li>Only the entries still remaining are compared with each other using {@link
+     *     DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)}, which takes quadratic time.</li>
+     * </ol>
+     * The comparison stops early if the calling thread is interrupted, in which case the result is incomplete.
+     */
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries) {
         List<BibEntryDiff> differences = new ArrayList<>();
 
-        // Create pointers that are incremented as the entries of each base are used in
-        // successive order from the beginning. Entries "further down" in the new database
-        // can also be matched.
-        int positionNew = 0;
-
-        // Create a HashSet where we can put references to entries in the new
-        // database that we have matched. This is to avoid matching them twice.
-        Set<Integer> used = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
+        // Entries of the new database by their fields. Several entries may have the same fields.
+        Map<Map<Field, String>, Deque<BibEntry>> newEntriesByFields = new HashMap<>(newEntries.size());
+        for (BibEntry newEntry : newEntries) {
+            newEntriesByFields.computeIfAbsent(new HashMap<>(newEntry.getFieldMap()), fields -> new ArrayDeque<>())
+                              .add(newEntry);
+        }
 
-        // Loop through the entries of the original database, looking for exact matches in the new one.
-        // We must finish scanning for exact matches before looking for near matches, to avoid an exact
-        // match being "stolen" from another entry.
-        mainLoop:
+        // Look for exact matches first, to avoid an exact match being "stolen" by a close match of another entry.
+        Set<BibEntry> unmatchedNewEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        unmatchedNewEntries.addAll(newEntries);
+        List<BibEntry> unmatchedOriginalEntries = new ArrayList<>();
         for (BibEntry originalEntry : originalEntries) {
-            // First check if the similarly placed entry in the other base matches exactly.
-            if (!used.contains(positionNew) && (positionNew < newEntries.size())) {
-                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(positionNew));
-                if (score > 1) {
-                    used.add(positionNew);
-                    positionNew++;
-                    continue;
-                }
-            }
-            // No? Then check if another entry matches exactly.
-            for (int i = positionNew + 1; i < newEntries.size(); i++) {
-                if (!used.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        used.add(i);
-                        continue mainLoop;
-                    }
-                }
+            Deque<BibEntry> exactMatches = newEntriesByFields.get(originalEntry.getFieldMap());
+            if ((exactMatches != null) && !exactMatches.isEmpty()) {
+                unmatchedNewEntries.remove(exactMatches.poll());
+            } else {
+                unmatchedOriginalEntries.add(originalEntry);
             }
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            return differences;
+        }
 
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
+        // Entries whose citation key is unique among the remaining ones were changed if the key is the same
+        Map<String, BibEntry> newEntriesByKey = getEntriesByUniqueKey(unmatchedNewEntries);
+        Map<String, BibEntry> originalEntriesByKey = getEntriesByUniqueKey(unmatchedOriginalEntries);
+        List<BibEntry> remainingOriginalEntries = new ArrayList<>();
+        for (BibEntry originalEntry : unmatchedOriginalEntries) {
+            Optional<BibEntry> newEntry = originalEntry.getCiteKeyOptional()
+                                                       .filter(key -> originalEntriesByKey.get(key) == originalEntry)
+                                                       .map(newEntriesByKey::get);
+            if (newEntry.isPresent()) {
+                unmatchedNewEntries.remove(newEntry.get());
+                differences.add(new BibEntryDiff(originalEntry, newEntry.get()));
+            } else {
+                remainingOriginalEntries.add(originalEntry);
+            }
         }
 
-        // Now we've found all exact matches, look through the remaining entries, looking for close matches.
-        for (Iterator<BibEntry> iteratorNotMatched = notMatched.iterator(); iteratorNotMatched.hasNext(); ) {
-            BibEntry originalEntry = iteratorNotMatched.next();
+        // Now look through the remaining entries, looking for close matches.
+        List<BibEntry> remainingNewEntries = newEntries.stream()
+                                                       .filter(unmatchedNewEntries::contains)
+                                                       .collect(Collectors.toList());
+        for (BibEntry originalEntry : remainingOriginalEntries) {
+            if (Thread.currentThread().isInterrupted()) {
+                return differences;
+            }
 
             // These two variables will keep track of which entry most closely matches the one we're looking at.
             double bestMatch = 0;
-            int bestMatchIndex = -1;
-            if (positionNew < (newEntries.size() - 1)) {
-                for (int i = positionNew; i < newEntries.size(); i++) {
-                    if (!used.contains(i)) {
-                        double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                        if (score > bestMatch) {
-                            bestMatch = score;
-                            bestMatchIndex = i;
-                        }
-                    }
+            BibEntry bestMatchEntry = null;
+            for (BibEntry newEntry : remainingNewEntries) {
+                if (!unmatchedNewEntries.contains(newEntry)) {
+                    continue;
+                }
+                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntry);
+                if (score > bestMatch) {
+                    bestMatch = score;
+                    bestMatchEntry = newEntry;
                 }
             }
 
             if (bestMatch > MATCH_THRESHOLD) {
-                used.add(bestMatchIndex);
-                iteratorNotMatched.remove();
-
-                differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
+                unmatchedNewEntries.remove(bestMatchEntry);
+                differences.add(new BibEntryDiff(originalEntry, bestMatchEntry));
             } else {
                 differences.add(new BibEntryDiff(originalEntry, null));
             }
         }
-        
+
         // Finally, look if there are still untouched entries in the new database. These may have been added.
-        for (int i = 0; i < newEntries.size(); i++) {
-            if (!used.contains(i)) {
-                differences.add(new BibEntryDiff(null, newEntries.get(i)));
+        for (BibEntry newEntry : newEntries) {
+            if (unmatchedNewEntries.contains(newEntry)) {
+                differences.add(new BibEntryDiff(null, newEntry));
             }
         }
 
         return differences;
     }
 
+    private static Map<String, BibEntry> getEntriesByUniqueKey(Collection<BibEntry> entries) {
+        Map<String, BibEntry> entriesByKey = new HashMap<>();
+        Set<String> duplicateKeys = new HashSet<>();
+        for (BibEntry entry : entries) {
+            entry.getCiteKeyOptional().ifPresent(key -> {
+                if (entriesByKey.putIfAbsent(key, entry) != null) {
+                    duplicateKeys.add(key);
+                }
+            });
+        }
+        entriesByKey.keySet().removeAll(duplicateKeys);
+        return entriesByKey;
+    }
+
+    /**
+     * Compares the given databases. If the calling thread is interrupted, the comparison stops early and the reported
+     * entry differences are incomplete.
+     */
     public static BibDatabaseDiff compare(BibDatabaseContext base, BibDatabaseContext changed) {
-        return new BibDatabaseDiff(base, changed);
+        return new BibDatabaseDiff(base, base.getDatabase().getEntries(), changed);
+    }
+
+    /**
+     * Compares the given database with the changed regions of its file (see {@link
+     * org.jabref.logic.importer.fileformat.ChangedRegionsParser}). Only the given remaining entries of the database are
+     * compared with the entries of the changed regions, as the other entries are known to be unchanged.
+     */
+    public static BibDatabaseDiff compareChangedRegions(BibDatabaseContext base, List<BibEntry> remainingEntries, BibDatabaseContext changedRegions) {
+        return new BibDatabaseDiff(base, remainingEntries, changedRegions);
     }
 
     public Optional<MetaDataDiff> getMetaDataDifferences() {
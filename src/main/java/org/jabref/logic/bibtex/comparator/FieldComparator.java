@@ -1,9 +1,11 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.text.CollationKey;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -34,6 +36,11 @@ public class FieldComparator implements Comparator<BibEntry> {
     private final boolean isNumeric;
     private final int multiplier;
 
+    /**
+     * Identifies the sort keys of this comparator at the entries (see {@link BibEntry#getSortKey})
+     */
+    private final List<Object> sortKeyCriterion;
+
     public FieldComparator(Field field) {
         this(new OrFields(field), false);
     }
@@ -47,6 +54,7 @@ public class FieldComparator implements Comparator<BibEntry> {
         fieldType = determineFieldType();
         isNumeric = this.fields.getPrimary().isNumeric();
         multiplier = descending ? -1 : 1;
+        sortKeyCriterion = List.of(FieldComparator.class, fields);
     }
 
     private static Collator getCollator() {
@@ -82,58 +90,56 @@ public class FieldComparator implements Comparator<BibEntry> {
         return null;
     }
 
-    @Override
-    public int compare(BibEntry e1, BibEntry e2) {
-        String f1;
-        String f2;
+    /**
+     * Computes the normalized value of the given entry, which is compared instead of the field values themselves
+     */
+    private SortKey computeSortKey(BibEntry entry) {
+        String value = fieldType == FieldType.TYPE ? entry.getType().getDisplayName() : getFieldValue(entry);
+        if (value == null) {
+            return SortKey.MISSING;
+        }
 
-        if (fieldType == FieldType.TYPE) {
-            // Sort by type.
-            f1 = e1.getType().getDisplayName();
-            f2 = e2.getType().getDisplayName();
-        } else {
+        if (fieldType == FieldType.YEAR) {
+            return new SortKey(StringUtil.intValueOfOptional(value).orElse(0), null);
+        } else if (fieldType == FieldType.MONTH) {
+            return new SortKey(Month.parse(value).map(Month::getNumber).orElse(-1), null);
+        }
+
+        if (fieldType == FieldType.NAME) {
             // If the field is author or editor, we rearrange names so they are
             // sorted according to last name.
-            f1 = getFieldValue(e1);
-            f2 = getFieldValue(e2);
+            value = AuthorList.fixAuthorForAlphabetization(value);
         }
+        Integer number = isNumeric ? StringUtil.intValueOfOptional(value).orElse(null) : null;
+        return new SortKey(number, COLLATOR.getCollationKey(value.toLowerCase(Locale.ENGLISH)));
+    }
+
+    @Override
+    public int compare(BibEntry e1, BibEntry e2) {
+        SortKey key1 = e1.getSortKey(sortKeyCriterion, this::computeSortKey);
+        SortKey key2 = e2.getSortKey(sortKeyCriterion, this::computeSortKey);
 
         // Catch all cases involving null:
-        if ((f1 == null) && (f2 == null)) {
+        if ((key1 == SortKey.MISSING) && (key2 == SortKey.MISSING)) {
             return 0;
-        } else if (f1 == null) {
+        } else if (key1 == SortKey.MISSING) {
             return multiplier;
-        } else if (f2 == null) {
+        } else if (key2 == SortKey.MISSING) {
             return -multiplier;
         }
 
-        // Now we know that both f1 and f2 are != null
-        if (fieldType == FieldType.NAME) {
-            f1 = AuthorList.fixAuthorForAlphabetization(f1);
-            f2 = AuthorList.fixAuthorForAlphabetization(f2);
-        } else if (fieldType == FieldType.YEAR) {
-            Integer f1year = StringUtil.intValueOfOptional(f1).orElse(0);
-            Integer f2year = StringUtil.intValueOfOptional(f2).orElse(0);
-            int comparisonResult = Integer.compare(f1year, f2year);
-            return comparisonResult * multiplier;
-        } else if (fieldType == FieldType.MONTH) {
-            int month1 = Month.parse(f1).map(Month::getNumber).orElse(-1);
-            int month2 = Month.parse(f2).map(Month::getNumber).orElse(-1);
-            return Integer.compare(month1, month2) * multiplier;
+        if ((fieldType == FieldType.YEAR) || (fieldType == FieldType.MONTH)) {
+            return Integer.compare(key1.number, key2.number) * multiplier;
         }
 
         if (isNumeric) {
-            Optional<Integer> i1 = StringUtil.intValueOfOptional(f1);
-            Optional<Integer> i2 = StringUtil.intValueOfOptional(f2);
-
-            if ((i2.isPresent()) && (i1.isPresent())) {
-                // Ok, parsing was successful. Update f1 and f2:
-                return i1.get().compareTo(i2.get()) * multiplier;
-            } else if (i1.isPresent()) {
+            if ((key1.number != null) && (key2.number != null)) {
+                return key1.number.compareTo(key2.number) * multiplier;
+            } else if (key1.number != null) {
                 // The first one was parseable, but not the second one.
                 // This means we consider one < two
                 return -1 * multiplier;
-            } else if (i2.isPresent()) {
+            } else if (key2.number != null) {
                 // The second one was parseable, but not the first one.
                 // This means we consider one > two
                 return 1 * multiplier;
@@ -141,8 +147,24 @@ public class FieldComparator implements Comparator<BibEntry> {
             // Else none of them were parseable, and we can fall back on comparing strings.
         }
 
-        String ours = f1.toLowerCase(Locale.ENGLISH);
-        String theirs = f2.toLowerCase(Locale.ENGLISH);
-        return COLLATOR.compare(ours, theirs) * multiplier;
+        return key1.collationKey.compareTo(key2.collationKey) * multiplier;
+    }
+
+    /**
+     * The value of an entry as compared by this comparator: the number of the year, month or numeric field and the
+     * collation key of the lower-cased text. Only depends on the fields compared, not on the sort direction, so that
+     * ascending and descending comparators share the keys stored at the entries.
+     */
+    private static class SortKey {
+
+        private static final SortKey MISSING = new SortKey(null, null);
+
+        private final Integer number;
+        private final CollationKey collationKey;
+
+        private SortKey(Integer number, CollationKey collationKey) {
+            this.number = number;
+            this.collationKey = collationKey;
+        }
     }
 }
@@ -5,6 +5,7 @@ import java.util.Objects;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.EntryChangedEvent;
 
 import com.google.common.cache.CacheBuilder;
@@ -61,6 +62,11 @@ public class CitationStyleCache {
             citationStyleCache.invalidate(entryChangedEvent.getBibEntry());
         }
 
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            citationStyleCache.invalidateAll(entriesChangedEvent.getBibEntries());
+        }
+
         /**
          * removes the citation of the removed entries as they are not needed anymore
          */
@@ -1,7 +1,12 @@
 package org.jabref.logic.exporter;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.nio.file.Path;
@@ -15,21 +20,67 @@ import java.util.TreeSet;
  * contents of the target file.
  * Moreover, this writer checks if the chosen encoding supports all text that is written. Characters whose encoding
  * was problematic can be retrieved by {@link #getEncodingProblems()}.
+ * <p>
+ * For incremental saves, the writer keeps track of the number of bytes written and can copy already encoded bytes
+ * from another file (see {@link IncrementalSaveCache}).
  */
 public class AtomicFileWriter extends OutputStreamWriter {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Charset encoding;
     private final CharsetEncoder encoder;
     private final Set<Character> problemCharacters = new TreeSet<>();
+    private final CountingOutputStream countingStream;
+
+    private FileChannel transferSource;
+    private long transferPosition;
+    private long transferCount;
+    private ByteBuffer transferBuffer;
 
     public AtomicFileWriter(Path file, Charset encoding) throws IOException {
         this(file, encoding, false);
     }
 
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
-        super(new AtomicFileOutputStream(file, keepBackup), encoding);
+        this(new CountingOutputStream(new BufferedOutputStream(new AtomicFileOutputStream(file, keepBackup), BUFFER_SIZE)), file, encoding);
+    }
+
+    private AtomicFileWriter(CountingOutputStream countingStream, Path file, Charset encoding) {
+        super(countingStream, encoding);
+        this.countingStream = countingStream;
+        this.file = file;
+        this.encoding = encoding;
         encoder = encoding.newEncoder();
     }
 
+    Path getFile() {
+        return file;
+    }
+
+    Charset getCharset() {
+        return encoding;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        writePendingTransfer();
+        super.write(c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        writePendingTransfer();
+        super.write(cbuf, off, len);
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        writePendingTransfer();
+        super.write(str, off, len);
+    }
+
     @Override
     public void write(String str) throws IOException {
         super.write(str);
@@ -43,6 +94,76 @@ public class AtomicFileWriter extends OutputStreamWriter {
         }
     }
 
+    @Override
+    public void flush() throws IOException {
+        writePendingTransfer();
+        super.flush();
+        countingStream.flushUnderlyingStream();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writePendingTransfer();
+        } finally {
+            super.close();
+        }
+    }
+
+    /**
+     * Returns the number of bytes written so far (including bytes to be copied from other files)
+     */
+    long getPosition() throws IOException {
+        // hands the encoded characters over to the (buffered) stream, which does not trigger a write to the file
+        super.flush();
+        return countingStream.getCount() + transferCount;
+    }
+
+    /**
+     * Copies the given range of bytes of the given file. Consecutive ranges of the same file are copied at once.
+     * The file has to be kept open until the writer is flushed or closed.
+     */
+    void transferFrom(FileChannel source, long position, long count) throws IOException {
+        if ((source == transferSource) && ((transferPosition + transferCount) == position)) {
+            transferCount += count;
+            return;
+        }
+
+        writePendingTransfer();
+        transferSource = source;
+        transferPosition = position;
+        transferCount = count;
+    }
+
+    /**
+     * Writes the bytes to be copied from another file, before anything else is written
+     */
+    void writePendingTransfer() throws IOException {
+        if (transferCount == 0) {
+            return;
+        }
+
+        // hands the characters written before over to the stream to keep the order
+        super.flush();
+        if (transferBuffer == null) {
+            transferBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+        long position = transferPosition;
+        long end = transferPosition + transferCount;
+        while (position < end) {
+            transferBuffer.clear();
+            transferBuffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+            int read = transferSource.read(transferBuffer, position);
+            if (read == -1) {
+                throw new IOException("Unexpected end of file while copying unchanged content");
+            }
+            countingStream.write(transferBuffer.array(), 0, read);
+            position += read;
+        }
+        transferSource = null;
+        transferCount = 0;
+    }
+
     public boolean hasEncodingProblems() {
         return !problemCharacters.isEmpty();
     }
@@ -50,4 +171,42 @@ public class AtomicFileWriter extends OutputStreamWriter {
     public Set<Character> getEncodingProblems() {
         return Collections.unmodifiableSet(problemCharacters);
     }
+
+    /**
+     * Counts the bytes written. Flushes are only passed on explicitly, so that determining the current position does
+     * not write to the file each time.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() {
+            // see flushUnderlyingStream
+        }
+
+        void flushUnderlyingStream() throws IOException {
+            out.flush();
+        }
+    }
 }
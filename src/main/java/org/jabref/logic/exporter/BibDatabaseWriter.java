@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -50,11 +51,24 @@ public abstract class BibDatabaseWriter {
     protected final SavePreferences preferences;
     protected final List<FieldChange> saveActionsFieldChanges = new ArrayList<>();
     protected final BibEntryTypesManager entryTypesManager;
+    private final Optional<IncrementalSaveCache> saveCache;
 
     public BibDatabaseWriter(Writer writer, SavePreferences preferences, BibEntryTypesManager entryTypesManager) {
         this.writer = Objects.requireNonNull(writer);
         this.preferences = preferences;
         this.entryTypesManager = entryTypesManager;
+        this.saveCache = Optional.empty();
+    }
+
+    /**
+     * Creates a writer which only writes the changed entries anew when saving the same library to the same file again.
+     * The unchanged entries are copied from the previous version of the file.
+     */
+    public BibDatabaseWriter(AtomicFileWriter writer, SavePreferences preferences, BibEntryTypesManager entryTypesManager, IncrementalSaveCache saveCache) {
+        this.writer = Objects.requireNonNull(writer);
+        this.preferences = preferences;
+        this.entryTypesManager = entryTypesManager;
+        this.saveCache = Optional.of(saveCache);
     }
 
     private static List<FieldChange> applySaveActions(List<BibEntry> toChange, MetaData metaData) {
@@ -132,6 +146,30 @@ public abstract class BibDatabaseWriter {
         return sorted;
     }
 
+    /**
+     * Sorts the given entries like {@link #getSortedEntries(BibDatabaseContext, List, SavePreferences)}, starting from
+     * the order of the last save. As entries being equal with respect to the save order are kept in their original
+     * order, the result does not depend on the starting order.
+     */
+    private static List<BibEntry> getSortedEntries(BibDatabaseContext bibDatabaseContext, List<BibEntry> entriesToSort, List<BibEntry> previouslySortedEntries, SavePreferences preferences) {
+        if (bibDatabaseContext.getMetaData() == null) {
+            return new LinkedList<>(entriesToSort);
+        }
+
+        Map<BibEntry, Integer> originalPositions = new IdentityHashMap<>(entriesToSort.size());
+        for (int i = 0; i < entriesToSort.size(); i++) {
+            originalPositions.put(entriesToSort.get(i), i);
+        }
+        List<Comparator<BibEntry>> comparators = getSaveComparators(bibDatabaseContext.getMetaData(), preferences);
+        comparators.add(Comparator.comparing(originalPositions::get));
+        FieldComparatorStack<BibEntry> comparatorStack = new FieldComparatorStack<>(comparators);
+
+        // nearly sorted lists are sorted in linear time
+        List<BibEntry> sorted = new ArrayList<>(previouslySortedEntries);
+        sorted.sort(comparatorStack);
+        return sorted;
+    }
+
     private static Optional<SaveOrderConfig> getSaveOrder(MetaData metaData, SavePreferences preferences) {
         /* three options:
          * 1. original order
@@ -165,6 +203,32 @@ public abstract class BibDatabaseWriter {
      * Saves the database, including only the specified entries.
      */
     public void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        savePartOfDatabase(bibDatabaseContext, entries, true);
+    }
+
+    /**
+     * Saves the database, including only the specified entries, which are written exactly in the given order (e.g.,
+     * for backups which refer to the entries by their position). The save order of the preferences and the order
+     * required by cross-references are ignored.
+     */
+    public void savePartOfDatabaseInGivenOrder(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        savePartOfDatabase(bibDatabaseContext, entries, false);
+    }
+
+    private void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries, boolean sortEntries) throws IOException {
+        Optional<IncrementalSaveCache.Session> saveSession = Optional.empty();
+        if (saveCache.isPresent()) {
+            // the writer is an AtomicFileWriter, see constructor
+            saveSession = Optional.of(saveCache.get().startSave((AtomicFileWriter) writer, preferences.isReformatFile()));
+        }
+        try {
+            savePartOfDatabase(bibDatabaseContext, entries, sortEntries, saveSession);
+        } finally {
+            saveSession.ifPresent(IncrementalSaveCache.Session::close);
+        }
+    }
+
+    private void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries, boolean sortEntries, Optional<IncrementalSaveCache.Session> saveSession) throws IOException {
         Optional<String> sharedDatabaseIDOptional = bibDatabaseContext.getDatabase().getSharedDatabaseID();
         if (sharedDatabaseIDOptional.isPresent()) {
             // may throw an IOException. Thus, we do not use "ifPresent", but the "old" isPresent way
@@ -186,7 +250,14 @@ public abstract class BibDatabaseWriter {
         writeStrings(bibDatabaseContext.getDatabase());
 
         // Write database entries.
-        List<BibEntry> sortedEntries = getSortedEntries(bibDatabaseContext, entries, preferences);
+        List<BibEntry> sortedEntries;
+        if (!sortEntries) {
+            sortedEntries = new ArrayList<>(entries);
+        } else if (saveSession.isPresent()) {
+            sortedEntries = getSortedEntries(bibDatabaseContext, entries, saveSession.get().getEntriesInPreviousOrder(entries), preferences);
+        } else {
+            sortedEntries = getSortedEntries(bibDatabaseContext, entries, preferences);
+        }
         List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData());
         saveActionsFieldChanges.addAll(saveActionChanges);
         if (preferences.generateBibtexKeysBeforeSaving()) {
@@ -204,7 +275,11 @@ public abstract class BibDatabaseWriter {
                 entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
             }
 
-            writeEntry(entry, bibDatabaseContext.getMode());
+            if (saveSession.isPresent()) {
+                saveSession.get().writeEntry(entry, bibDatabaseContext.getMode(), this);
+            } else {
+                writeEntry(entry, bibDatabaseContext.getMode());
+            }
         }
 
         if (preferences.getSaveType() != SavePreferences.DatabaseSaveType.PLAIN_BIBTEX) {
@@ -218,7 +293,12 @@ public abstract class BibDatabaseWriter {
         //finally write whatever remains of the file, but at least a concluding newline
         writeEpilogue(bibDatabaseContext.getDatabase().getEpilog());
 
+        if (saveSession.isPresent()) {
+            // the previous version of the file is replaced when closing the writer
+            saveSession.get().finishWriting();
+        }
         writer.close();
+        saveSession.ifPresent(session -> session.commit(sortedEntries));
     }
 
     protected abstract void writePrelogue(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException;
@@ -30,6 +30,10 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
         super(writer, preferences, entryTypesManager);
     }
 
+    public BibtexDatabaseWriter(AtomicFileWriter writer, SavePreferences preferences, BibEntryTypesManager entryTypesManager, IncrementalSaveCache saveCache) {
+        super(writer, preferences, entryTypesManager, saveCache);
+    }
+
     @Override
     protected void writeEpilogue(String epilogue) throws IOException {
         if (!StringUtil.isNullOrEmpty(epilogue)) {
@@ -0,0 +1,205 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Remembers where the entries have been written to during the last save of a library. The next save of the library to
+ * the same file copies the bytes of all entries, which are still written as they were parsed, from the previous
+ * version of the file instead of encoding them again. Changed entries are formatted as usual. Moreover, the order of
+ * the last save is used as a starting point for sorting the entries, which then is nearly linear.
+ * <p>
+ * The remembered locations are only used if the file has not been modified since the last save and the encoding is
+ * still the same. Thus, the first save after opening a library always writes the whole file. A cache instance has to
+ * be used for a single library only.
+ */
+public class IncrementalSaveCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalSaveCache.class);
+
+    private Path file;
+    private Charset encoding;
+    private long fileSize;
+    private FileTime lastModified;
+
+    /**
+     * The parsed serializations (compared by identity) and where they have been written to
+     */
+    private Map<String, ByteRange> entryRanges = new IdentityHashMap<>();
+    private List<BibEntry> entryOrder = Collections.emptyList();
+
+    /**
+     * Starts a save using the given writer. Until the save is committed, the cache is empty.
+     */
+    synchronized Session startSave(AtomicFileWriter writer, boolean reformatFile) throws IOException {
+        FileChannel previousFile = null;
+        Map<String, ByteRange> previousRanges = Collections.emptyMap();
+        if (isUpToDate(writer.getFile(), writer.getCharset())) {
+            previousFile = FileChannel.open(writer.getFile(), StandardOpenOption.READ);
+            previousRanges = entryRanges;
+        }
+        List<BibEntry> previousOrder = entryOrder;
+
+        file = null;
+        entryRanges = new IdentityHashMap<>();
+        entryOrder = Collections.emptyList();
+        return new Session(writer, reformatFile, previousFile, previousRanges, previousOrder);
+    }
+
+    private boolean isUpToDate(Path targetFile, Charset targetEncoding) {
+        if (!targetFile.equals(file) || !targetEncoding.equals(encoding)) {
+            return false;
+        }
+        try {
+            return (Files.size(targetFile) == fileSize) && Files.getLastModifiedTime(targetFile).equals(lastModified);
+        } catch (IOException e) {
+            LOGGER.debug("Could not read attributes of {}", targetFile, e);
+            return false;
+        }
+    }
+
+    private synchronized void commit(Path savedFile, Charset savedEncoding, Map<String, ByteRange> ranges, List<BibEntry> order) {
+        try {
+            fileSize = Files.size(savedFile);
+            lastModified = Files.getLastModifiedTime(savedFile);
+        } catch (IOException e) {
+            LOGGER.debug("Could not read attributes of {}", savedFile, e);
+            return;
+        }
+        file = savedFile;
+        encoding = savedEncoding;
+        entryRanges = ranges;
+        entryOrder = order;
+    }
+
+    /**
+     * A single save of the library
+     */
+    class Session implements AutoCloseable {
+
+        private final AtomicFileWriter writer;
+        private final boolean reformatFile;
+        private final FileChannel previousFile;
+        private final Map<String, ByteRange> previousRanges;
+        private final List<BibEntry> previousOrder;
+        private final Map<String, ByteRange> ranges = new IdentityHashMap<>();
+
+        private Session(AtomicFileWriter writer, boolean reformatFile, FileChannel previousFile, Map<String, ByteRange> previousRanges, List<BibEntry> previousOrder) {
+            this.writer = writer;
+            this.reformatFile = reformatFile;
+            this.previousFile = previousFile;
+            this.previousRanges = previousRanges;
+            this.previousOrder = previousOrder;
+        }
+
+        /**
+         * Returns the given entries in the order of the last save. Entries not saved before are appended in their
+         * original order.
+         */
+        List<BibEntry> getEntriesInPreviousOrder(List<BibEntry> entries) {
+            Set<BibEntry> remainingEntries = Collections.newSetFromMap(new IdentityHashMap<>(entries.size()));
+            remainingEntries.addAll(entries);
+
+            List<BibEntry> orderedEntries = new ArrayList<>(entries.size());
+            for (BibEntry entry : previousOrder) {
+                if (remainingEntries.remove(entry)) {
+                    orderedEntries.add(entry);
+                }
+            }
+            for (BibEntry entry : entries) {
+                if (remainingEntries.remove(entry)) {
+                    orderedEntries.add(entry);
+                }
+            }
+            return orderedEntries;
+        }
+
+        /**
+         * Writes the given entry, either by copying it from the previous version of the file or by using the given
+         * database writer.
+         */
+        void writeEntry(BibEntry entry, BibDatabaseMode mode, BibDatabaseWriter databaseWriter) throws IOException {
+            // the same condition as in BibEntryWriter, such entries are written as they were parsed
+            String parsedSerialization = entry.getParsedSerialization();
+            boolean isWrittenAsParsed = !reformatFile && !entry.hasChanged() && !parsedSerialization.isEmpty();
+
+            long start = writer.getPosition();
+            ByteRange previousRange = isWrittenAsParsed ? previousRanges.get(parsedSerialization) : null;
+            if (previousRange != null) {
+                writer.transferFrom(previousFile, previousRange.getStart(), previousRange.getLength());
+            } else {
+                databaseWriter.writeEntry(entry, mode);
+            }
+
+            if (isWrittenAsParsed) {
+                ranges.put(parsedSerialization, new ByteRange(start, writer.getPosition() - start));
+            }
+        }
+
+        /**
+         * Copies the remaining bytes from the previous version of the file, which may be replaced afterwards
+         */
+        void finishWriting() throws IOException {
+            writer.writePendingTransfer();
+            close();
+        }
+
+        /**
+         * Remembers the locations of the entries, after the file has been written successfully
+         */
+        void commit(List<BibEntry> sortedEntries) {
+            if (writer.hasEncodingProblems()) {
+                // copied entries would not be checked again
+                return;
+            }
+            IncrementalSaveCache.this.commit(writer.getFile(), writer.getCharset(), ranges, sortedEntries);
+        }
+
+        @Override
+        public void close() {
+            if ((previousFile != null) && previousFile.isOpen()) {
+                try {
+                    previousFile.close();
+                } catch (IOException e) {
+                    LOGGER.debug("Could not close {}", writer.getFile(), e);
+                }
+            }
+        }
+    }
+
+    private static class ByteRange {
+
+        private final long start;
+        private final long length;
+
+        ByteRange(long start, long length) {
+            this.start = start;
+            this.length = length;
+        }
+
+        long getStart() {
+            return start;
+        }
+
+        long getLength() {
+            return length;
+        }
+    }
+}
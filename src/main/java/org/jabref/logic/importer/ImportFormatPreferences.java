@@ -17,10 +17,12 @@ public class ImportFormatPreferences {
     private final FieldContentFormatterPreferences fieldContentFormatterPreferences;
     private final XmpPreferences xmpPreferences;
     private final boolean keywordSyncEnabled;
+    private final boolean snapshotCacheEnabled;
 
     public ImportFormatPreferences(Set<CustomImporter> customImportList, Charset encoding, Character keywordSeparator,
                                    BibtexKeyPatternPreferences bibtexKeyPatternPreferences,
-                                   FieldContentFormatterPreferences fieldContentFormatterPreferences, XmpPreferences xmpPreferences, boolean keywordSyncEnabled) {
+                                   FieldContentFormatterPreferences fieldContentFormatterPreferences, XmpPreferences xmpPreferences, boolean keywordSyncEnabled,
+                                   boolean snapshotCacheEnabled) {
         this.customImportList = customImportList;
         this.encoding = encoding;
         this.keywordSeparator = keywordSeparator;
@@ -28,6 +30,7 @@ public class ImportFormatPreferences {
         this.fieldContentFormatterPreferences = fieldContentFormatterPreferences;
         this.xmpPreferences = xmpPreferences;
         this.keywordSyncEnabled = keywordSyncEnabled;
+        this.snapshotCacheEnabled = snapshotCacheEnabled;
     }
 
     /**
@@ -56,7 +59,7 @@ public class ImportFormatPreferences {
 
     public ImportFormatPreferences withEncoding(Charset newEncoding) {
         return new ImportFormatPreferences(customImportList, newEncoding, keywordSeparator, bibtexKeyPatternPreferences,
-                fieldContentFormatterPreferences, xmpPreferences, keywordSyncEnabled);
+                fieldContentFormatterPreferences, xmpPreferences, keywordSyncEnabled, snapshotCacheEnabled);
     }
 
     /**
@@ -70,4 +73,11 @@ public class ImportFormatPreferences {
     public XmpPreferences getXmpPreferences() {
         return xmpPreferences;
     }
+
+    /**
+     * @return whether opened libraries are cached in a binary snapshot next to the library file
+     */
+    public boolean isSnapshotCacheEnabled() {
+        return snapshotCacheEnabled;
+    }
 }
@@ -6,13 +6,17 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.importer.fileformat.ChangedRegionsParser;
+import org.jabref.logic.importer.util.LibrarySnapshotCache;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.specialfields.SpecialFieldsUtils;
 import org.jabref.migrations.ConvertLegacyExplicitGroups;
 import org.jabref.migrations.ConvertMarkingToGroups;
 import org.jabref.migrations.PostOpenMigration;
+import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
 
@@ -23,6 +27,11 @@ public class OpenDatabase {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OpenDatabase.class);
 
+    /**
+     * Files of at least this size (in bytes) are parsed using multiple threads
+     */
+    private static final long PARALLEL_PARSING_THRESHOLD = 1024 * 1024;
+
     private OpenDatabase() {
     }
 
@@ -61,9 +70,43 @@ public class OpenDatabase {
      */
     public static ParserResult loadDatabase(Path fileToOpen, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor)
         throws IOException {
-        ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor).importDatabase(fileToOpen,
-                importFormatPreferences.getEncoding());
+        LibrarySnapshotCache snapshotCache = new LibrarySnapshotCache(importFormatPreferences, fileMonitor);
+        Optional<ParserResult> snapshot = Optional.empty();
+        if (importFormatPreferences.isSnapshotCacheEnabled()) {
+            snapshot = snapshotCache.load(fileToOpen);
+        }
+
+        ParserResult result;
+        if (snapshot.isPresent()) {
+            LOGGER.debug("Opened {} from its snapshot", fileToOpen);
+            result = snapshot.get();
+        } else {
+            boolean parseInParallel = Files.size(fileToOpen) >= PARALLEL_PARSING_THRESHOLD;
+            result = new BibtexImporter(importFormatPreferences, fileMonitor, parseInParallel).importDatabase(fileToOpen,
+                    importFormatPreferences.getEncoding());
+            if (importFormatPreferences.isSnapshotCacheEnabled()) {
+                // store the result before it is changed by the migrations below
+                snapshotCache.store(fileToOpen, result);
+            }
+        }
+
+        performPostLoadActions(result, importFormatPreferences);
 
+        return result;
+    }
+
+    /**
+     * Loads the changed parts of the given file, which has been loaded into the given library before (see {@link
+     * ChangedRegionsParser}). The entries parsed are treated like the ones of a newly opened database.
+     */
+    public static ChangedRegionsParser.Result loadChangedRegions(Path file, BibDatabaseContext loadedDatabase, ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor)
+        throws IOException {
+        ChangedRegionsParser.Result result = new ChangedRegionsParser(importFormatPreferences, fileMonitor).parse(file, loadedDatabase);
+        performPostLoadActions(result.getParserResult(), importFormatPreferences);
+        return result;
+    }
+
+    private static void performPostLoadActions(ParserResult result, ImportFormatPreferences importFormatPreferences) {
         if (importFormatPreferences.isKeywordSyncEnabled()) {
             for (BibEntry entry : result.getDatabase().getEntries()) {
                 SpecialFieldsUtils.syncSpecialFieldsFromKeywords(entry, importFormatPreferences.getKeywordSeparator());
@@ -72,8 +115,6 @@ public class OpenDatabase {
         }
 
         performLoadDatabaseMigrations(result);
-
-        return result;
     }
 
     private static void performLoadDatabaseMigrations(ParserResult parserResult) {
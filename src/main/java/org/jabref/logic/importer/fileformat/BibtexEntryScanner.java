@@ -0,0 +1,117 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Quickly determines where the entries of a BibTeX file presumably are, without actually parsing them. Like the
+ * {@link BibtexParser}, each {@code @} outside of an entry, string, preamble or comment starts a new item. The end of
+ * an item is found by matching the brackets enclosing its content.
+ * <p>
+ * The result is just a guess (e.g., escaped brackets are not taken into account), which has to be verified by parsing.
+ */
+class BibtexEntryScanner {
+
+    private static final Set<String> NON_ENTRY_TYPES = Set.of("preamble", "string", "comment");
+
+    private BibtexEntryScanner() {
+    }
+
+    /**
+     * Returns the ranges of the entries found in the given input, in the order of their occurrence
+     */
+    static List<EntryRange> scan(char[] input, int length) {
+        List<EntryRange> entryRanges = new ArrayList<>();
+        int position = 0;
+        while (position < length) {
+            if (input[position] != '@') {
+                position++;
+                continue;
+            }
+
+            position = skipWhitespace(input, position + 1, length);
+            int typeStart = position;
+            while ((position < length) && BibtexParser.isTextTokenCharacter(input[position])) {
+                position++;
+            }
+            String type = new String(input, typeStart, position - typeStart).toLowerCase(Locale.ROOT);
+            int contentStart = position;
+
+            position = skipWhitespace(input, position, length);
+            if ((position == length) || ((input[position] != '{') && (input[position] != '('))) {
+                // no item, continue with the next @
+                continue;
+            }
+
+            int contentEnd = findEndOfContent(input, position, length);
+            if (contentEnd == -1) {
+                // unbalanced brackets, the rest of the input is left to the parser
+                break;
+            }
+            if (!type.isEmpty() && !NON_ENTRY_TYPES.contains(type)) {
+                entryRanges.add(new EntryRange(type, contentStart, contentEnd));
+            }
+            position = contentEnd;
+        }
+        return entryRanges;
+    }
+
+    private static int skipWhitespace(char[] input, int position, int length) {
+        while ((position < length) && Character.isWhitespace(input[position])) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position after the bracket closing the opening bracket at the given position, or -1 if there is none
+     */
+    private static int findEndOfContent(char[] input, int openingBracketPosition, int length) {
+        boolean isParenthesized = input[openingBracketPosition] == '(';
+        int braces = 0;
+        for (int i = openingBracketPosition + 1; i < length; i++) {
+            char character = input[i];
+            if (character == '{') {
+                braces++;
+            } else if (character == '}') {
+                if (braces == 0) {
+                    return isParenthesized ? -1 : i + 1;
+                }
+                braces--;
+            } else if ((character == ')') && isParenthesized && (braces == 0)) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The part of the input following the type of an entry, up to and including the closing bracket of the entry
+     */
+    static class EntryRange {
+
+        private final String type;
+        private final int start;
+        private final int end;
+
+        EntryRange(String type, int start, int end) {
+            this.type = type;
+            this.start = start;
+            this.end = end;
+        }
+
+        String getType() {
+            return type;
+        }
+
+        int getStart() {
+            return start;
+        }
+
+        int getEnd() {
+            return end;
+        }
+    }
+}
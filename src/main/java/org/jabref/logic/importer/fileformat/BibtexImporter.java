@@ -27,10 +27,20 @@ public class BibtexImporter extends Importer {
 
     private final ImportFormatPreferences importFormatPreferences;
     private final FileUpdateMonitor fileMonitor;
+    private final boolean parseInParallel;
 
     public BibtexImporter(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, false);
+    }
+
+    /**
+     * @param parseInParallel whether the entries should be parsed using multiple threads, which pays off for large
+     *                        files only (see {@link BibtexParser#parseInParallel(java.io.Reader)})
+     */
+    public BibtexImporter(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, boolean parseInParallel) {
         this.importFormatPreferences = importFormatPreferences;
         this.fileMonitor = fileMonitor;
+        this.parseInParallel = parseInParallel;
     }
     /**
      * @return true as we have no effective way to decide whether a file is in bibtex format or not. See
@@ -44,6 +54,13 @@ public class BibtexImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(Path filePath, Charset defaultEncoding) throws IOException {
+        return super.importDatabase(filePath, getEncoding(filePath, defaultEncoding));
+    }
+
+    /**
+     * Returns the encoding supplied in the header of the given file, or the given default encoding if there is none.
+     */
+    public static Charset getEncoding(Path filePath, Charset defaultEncoding) throws IOException {
         // We want to check if there is a JabRef signature in the file, because that would tell us
         // which character encoding is used. However, to read the signature we must be using a compatible
         // encoding in the first place. Since the signature doesn't contain any fancy characters, we can
@@ -60,16 +77,17 @@ public class BibtexImporter extends Importer {
             }
         }
 
-        if (suppliedEncoding.isPresent()) {
-            return super.importDatabase(filePath, suppliedEncoding.get());
-        } else {
-            return super.importDatabase(filePath, defaultEncoding);
-        }
+        return suppliedEncoding.orElse(defaultEncoding);
     }
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+        BibtexParser parser = new BibtexParser(importFormatPreferences, fileMonitor);
+        if (parseInParallel) {
+            return parser.parseInParallel(reader);
+        } else {
+            return parser.parse(reader);
+        }
     }
 
     @Override
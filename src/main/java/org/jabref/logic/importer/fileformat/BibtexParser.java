@@ -4,20 +4,22 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PushbackReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.bibtex.FieldContentFormatter;
@@ -27,6 +29,7 @@ import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexEntryScanner.EntryRange;
 import org.jabref.logic.importer.util.MetaDataParser;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
@@ -60,15 +63,47 @@ import org.slf4j.LoggerFactory;
  * ParserResult result = BibtexParser.parse(reader);
  * <p>
  * Can be used stand-alone.
+ * <p>
+ * The input is read into a character buffer at once. The original serialization of entries and strings is recorded
+ * as a range of this buffer and only copied when it is stored, instead of collecting each character read.
  */
 public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
 
     private static final Integer LOOKAHEAD = 64;
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int MIN_ENTRIES_PER_TASK = 64;
     private final FieldContentFormatter fieldContentFormatter;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private final FileUpdateMonitor fileMonitor;
+
+    private char[] buffer;
+    private int bufferLength;
+    private int position;
+
+    /**
+     * Characters pushed back which differ from the characters read last (see {@link #unread(int)})
+     */
+    private final char[] pushbackBuffer = new char[LOOKAHEAD];
+    private int pushbackCount;
+
+    /**
+     * The text read since the last call of {@link #dumpTextReadSoFarToString()} is the part of the buffer starting at
+     * this position and ending at the current position, unless characters have been pushed back into the
+     * pushbackBuffer. In this case, the text is recorded in detachedTextFromFile.
+     */
+    private int pureTextStart;
+    private StringBuilder detachedTextFromFile;
+    private boolean endOfBufferReached;
+
+    /**
+     * Entries parsed in advance by {@link #parseInParallel(Reader)}, see {@link #takeEntryParsedInAdvance(String)}
+     */
+    private List<EntryRange> entryRanges = Collections.emptyList();
+    private List<ForkJoinTask<BibEntry[]>> entryTasks = Collections.emptyList();
+    private int entriesPerTask;
+    private int nextEntryRange;
+
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
@@ -78,6 +113,7 @@ public class BibtexParser implements Parser {
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.fileMonitor = fileMonitor;
         fieldContentFormatter = new FieldContentFormatter(importFormatPreferences.getFieldContentFormatterPreferences());
         metaDataParser = new MetaDataParser(fileMonitor);
     }
@@ -131,8 +167,46 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        readInput(in);
+
+        return parseBuffer();
+    }
+
+    /**
+     * Parses the BibTeX-Data like {@link #parse(Reader)}, but uses multiple threads for large inputs.
+     * <p>
+     * First, the input is scanned for the presumable ranges of the entries (see {@link BibtexEntryScanner}). These
+     * entries are parsed on the common fork-join pool, while the input is parsed as usual. Strings, comments, the
+     * preamble and the meta data are thus handled sequentially. As soon as the sequential parsing reaches an entry
+     * which has been parsed in advance from exactly the same text without any warning, the parsed entry is taken.
+     * Otherwise, the entry is parsed again. Hence, the result is the same as the one of {@link #parse(Reader)}.
+     */
+    public ParserResult parseInParallel(Reader in) throws IOException {
+        Objects.requireNonNull(in);
+        readInput(in);
+
+        entryRanges = BibtexEntryScanner.scan(buffer, bufferLength);
+        entriesPerTask = Math.max(MIN_ENTRIES_PER_TASK, entryRanges.size() / (4 * ForkJoinPool.getCommonPoolParallelism()));
+        entryTasks = new ArrayList<>();
+        char[] input = buffer;
+        for (int start = 0; start < entryRanges.size(); start += entriesPerTask) {
+            List<EntryRange> ranges = entryRanges.subList(start, Math.min(start + entriesPerTask, entryRanges.size()));
+            entryTasks.add(ForkJoinPool.commonPool().submit(() ->
+                    new BibtexParser(importFormatPreferences, fileMonitor).parseEntriesInAdvance(input, ranges)));
+        }
+        nextEntryRange = 0;
 
+        try {
+            return parseBuffer();
+        } finally {
+            entryTasks.forEach(task -> task.cancel(false));
+            entryRanges = Collections.emptyList();
+            entryTasks = Collections.emptyList();
+            nextEntryRange = 0;
+        }
+    }
+
+    private ParserResult parseBuffer() throws IOException {
         // Bibtex related contents.
         initializeParserResult();
 
@@ -147,6 +221,97 @@ public class BibtexParser implements Parser {
         }
     }
 
+    private void readInput(Reader in) throws IOException {
+        char[] chars = new char[INITIAL_BUFFER_SIZE];
+        int length = 0;
+        int charactersRead;
+        while ((charactersRead = in.read(chars, length, chars.length - length)) != -1) {
+            length += charactersRead;
+            if (length == chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            }
+        }
+
+        buffer = chars;
+        bufferLength = length;
+        position = 0;
+        pushbackCount = 0;
+        pureTextStart = 0;
+        detachedTextFromFile = null;
+        endOfBufferReached = false;
+    }
+
+    /**
+     * Parses the entries in the given ranges of the input. An entry which cannot be parsed exactly like during
+     * sequential parsing is left out (null).
+     */
+    private BibEntry[] parseEntriesInAdvance(char[] input, List<EntryRange> ranges) {
+        BibEntry[] entries = new BibEntry[ranges.size()];
+        for (int i = 0; i < ranges.size(); i++) {
+            entries[i] = parseEntryInRange(input, ranges.get(i)).orElse(null);
+        }
+        return entries;
+    }
+
+    /**
+     * Parses the content of the entry in the given range. The entry is only returned if exactly the range is read and
+     * there are no warnings (which would refer to wrong line numbers).
+     */
+    private Optional<BibEntry> parseEntryInRange(char[] input, EntryRange range) {
+        buffer = input;
+        bufferLength = range.getEnd();
+        position = range.getStart();
+        pushbackCount = 0;
+        pureTextStart = position;
+        detachedTextFromFile = null;
+        endOfBufferReached = false;
+        eof = false;
+        initializeParserResult();
+
+        BibEntry entry;
+        try {
+            entry = parseEntryContent(range.getType());
+        } catch (IOException | RuntimeException e) {
+            // the entry is parsed (and the error reported) during sequential parsing
+            return Optional.empty();
+        }
+
+        boolean isRangeReadExactly = (position == bufferLength) && (pushbackCount == 0)
+                && (detachedTextFromFile == null) && !endOfBufferReached;
+        if (!isRangeReadExactly || parserResult.hasWarnings()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * Returns the entry parsed in advance whose content starts at the current position, and skips its content.
+     */
+    private Optional<BibEntry> takeEntryParsedInAdvance(String entryType) {
+        if (pushbackCount > 0) {
+            return Optional.empty();
+        }
+        while ((nextEntryRange < entryRanges.size()) && (entryRanges.get(nextEntryRange).getStart() < position)) {
+            nextEntryRange++;
+        }
+        if (nextEntryRange >= entryRanges.size()) {
+            return Optional.empty();
+        }
+
+        EntryRange range = entryRanges.get(nextEntryRange);
+        if ((range.getStart() != position) || !range.getType().equals(entryType)) {
+            return Optional.empty();
+        }
+        BibEntry entry = entryTasks.get(nextEntryRange / entriesPerTask).join()[nextEntryRange % entriesPerTask];
+        nextEntryRange++;
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        consumeBufferUpTo(range.getEnd());
+        return Optional.of(entry);
+    }
+
     private void initializeParserResult() {
         database = new BibDatabase();
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
@@ -359,12 +524,43 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
+        String text;
+        if (detachedTextFromFile == null) {
+            text = new String(buffer, pureTextStart, position - pureTextStart);
+        } else {
+            text = detachedTextFromFile.toString();
+            detachedTextFromFile.setLength(0);
+            if (pushbackCount == 0) {
+                // continue recording as part of the buffer
+                detachedTextFromFile = null;
+            }
         }
+        pureTextStart = position;
+        return text;
+    }
 
-        return entry.toString();
+    /**
+     * Switches to recording the text read into {@link #detachedTextFromFile}, starting with the text read so far
+     */
+    private void detachTextFromFile() {
+        detachedTextFromFile = new StringBuilder();
+        detachedTextFromFile.append(buffer, pureTextStart, position - pureTextStart);
+    }
+
+    /**
+     * Consumes the characters of the buffer up to the given (exclusive) position at once. They must neither be EOF
+     * characters nor be pushed back.
+     */
+    private void consumeBufferUpTo(int end) {
+        for (int i = position; i < end; i++) {
+            if (buffer[i] == '\n') {
+                line++;
+            }
+        }
+        if (detachedTextFromFile != null) {
+            detachedTextFromFile.append(buffer, position, end - position);
+        }
+        position = end;
     }
 
     /**
@@ -374,8 +570,9 @@ public class BibtexParser implements Parser {
      */
     private String purgeEOFCharacters(String input) {
 
-        StringBuilder remainingText = new StringBuilder();
-        for (Character character : input.toCharArray()) {
+        StringBuilder remainingText = new StringBuilder(input.length());
+        for (int i = 0; i < input.length(); i++) {
+            char character = input.charAt(i);
             if (!(isEOFCharacter(character))) {
                 remainingText.append(character);
             }
@@ -467,24 +664,65 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
-
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+        int character;
+        if (pushbackCount > 0) {
+            character = pushbackBuffer[--pushbackCount];
+            if (!isEOFCharacter(character)) {
+                detachedTextFromFile.append((char) character);
+            }
+        } else if (position < bufferLength) {
+            character = buffer[position++];
+            if (detachedTextFromFile != null) {
+                if (!isEOFCharacter(character)) {
+                    detachedTextFromFile.append((char) character);
+                }
+            } else if (isEOFCharacter(character)) {
+                // EOF characters are not recorded, thus the recorded text is no longer a part of the buffer
+                position--;
+                detachTextFromFile();
+                position++;
+            }
+        } else {
+            character = -1;
+            endOfBufferReached = true;
         }
+
         if (character == '\n') {
             line++;
         }
         return character;
     }
 
+    /**
+     * Pushes back the given character. In most cases, this is the character read last, which is handled by moving
+     * back in the buffer.
+     */
     private void unread(int character) throws IOException {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+
+        if ((detachedTextFromFile == null) && (position == pureTextStart)) {
+            // nothing has been recorded that could be removed
+            detachTextFromFile();
+        }
+        if ((pushbackCount == 0) && (position > 0) && (buffer[position - 1] == character)) {
+            position--;
+        } else {
+            if (pushbackCount == LOOKAHEAD) {
+                throw new IOException("Pushback buffer overflow");
+            }
+            if (detachedTextFromFile == null) {
+                detachTextFromFile();
+            }
+            pushbackBuffer[pushbackCount++] = (char) character;
+        }
+
+        if (detachedTextFromFile != null) {
+            int last = detachedTextFromFile.length() - 1;
+            if ((last >= 0) && (detachedTextFromFile.charAt(last) == character)) {
+                detachedTextFromFile.setLength(last);
+            }
         }
     }
 
@@ -515,6 +753,21 @@ public class BibtexParser implements Parser {
     }
 
     private BibEntry parseEntry(String entryType) throws IOException {
+        Optional<BibEntry> entryParsedInAdvance = takeEntryParsedInAdvance(entryType);
+        BibEntry result;
+        if (entryParsedInAdvance.isPresent()) {
+            result = entryParsedInAdvance.get();
+        } else {
+            result = parseEntryContent(entryType);
+        }
+
+        // Consume new line which signals end of entry
+        skipOneNewline();
+
+        return result;
+    }
+
+    private BibEntry parseEntryContent(String entryType) throws IOException {
         BibEntry result = new BibEntry(EntryTypeFactory.parse(entryType));
 
         skipWhitespace();
@@ -548,9 +801,6 @@ public class BibtexParser implements Parser {
 
         consume('}', ')');
 
-        // Consume new line which signals end of entry
-        skipOneNewline();
-
         return result;
     }
 
@@ -624,6 +874,20 @@ public class BibtexParser implements Parser {
      * numbers outside brackets.
      */
     private String parseTextToken() throws IOException {
+        if (pushbackCount == 0) {
+            // Token characters are neither line breaks nor EOF characters, thus they can be taken from the buffer at once
+            int start = position;
+            int end = start;
+            while ((end < bufferLength) && isTextTokenCharacter(buffer[end])) {
+                end++;
+            }
+            consumeBufferUpTo(end);
+            if (end == bufferLength) {
+                eof = true;
+            }
+            return new String(buffer, start, end - start);
+        }
+
         StringBuilder token = new StringBuilder(20);
 
         while (true) {
@@ -634,7 +898,7 @@ public class BibtexParser implements Parser {
                 return token.toString();
             }
 
-            if (Character.isLetterOrDigit((char) character) || (":-_*+./'".indexOf(character) >= 0)) {
+            if (isTextTokenCharacter((char) character)) {
                 token.append((char) character);
             } else {
                 unread(character);
@@ -643,6 +907,10 @@ public class BibtexParser implements Parser {
         }
     }
 
+    static boolean isTextTokenCharacter(char character) {
+        return Character.isLetterOrDigit(character) || (":-_*+./'".indexOf(character) >= 0);
+    }
+
     /**
      * Tries to restore the key
      *
@@ -855,10 +1123,14 @@ public class BibtexParser implements Parser {
     }
 
     private StringBuilder parseBracketedTextExactly() throws IOException {
-        StringBuilder value = new StringBuilder();
-
         consume('{');
 
+        Optional<StringBuilder> bufferedText = parseBracketedTextFromBuffer();
+        if (bufferedText.isPresent()) {
+            return bufferedText.get();
+        }
+
+        StringBuilder value = new StringBuilder();
         int brackets = 0;
         char character;
         char lastCharacter = '\0';
@@ -884,6 +1156,38 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /**
+     * Searches the buffer for the end of the bracketed text. If it is found, the text is consumed at once. Otherwise
+     * (e.g., on EOF), nothing is consumed so that the text is parsed character by character.
+     */
+    private Optional<StringBuilder> parseBracketedTextFromBuffer() {
+        if (pushbackCount > 0) {
+            return Optional.empty();
+        }
+
+        int brackets = 0;
+        char lastCharacter = '\0';
+        for (int i = position; i < bufferLength; i++) {
+            char character = buffer[i];
+            boolean isClosingBracket = (character == '}') && (lastCharacter != '\\');
+
+            if (isClosingBracket && (brackets == 0)) {
+                StringBuilder value = new StringBuilder(i - position);
+                value.append(buffer, position, i - position);
+                consumeBufferUpTo(i + 1);
+                return Optional.of(value);
+            } else if (isEOFCharacter(character)) {
+                return Optional.empty();
+            } else if ((character == '{') && (!isEscapeSymbol(lastCharacter))) {
+                brackets++;
+            } else if (isClosingBracket) {
+                brackets--;
+            }
+            lastCharacter = character;
+        }
+        return Optional.empty();
+    }
+
     private boolean isEscapeSymbol(char character) {
         return '\\' == character;
     }
@@ -0,0 +1,165 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.BufferedReader;
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.Importer;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexEntryScanner.EntryRange;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.util.FileUpdateMonitor;
+
+/**
+ * Parses only the changed regions of a file which has been loaded into a library before and has been modified by
+ * another program since then.
+ * <p>
+ * The entries of the file are located using the {@link BibtexEntryScanner}. An entry whose text is exactly the text an
+ * unchanged entry of the library has been parsed from (see {@link BibEntry#getParsedSerialization()}) is not parsed
+ * again, but cut out of the file. The remaining text (changed and added entries, strings, the preamble and the meta
+ * data) is parsed as usual. Thus, the result only contains the entries which differ from the library, together with the
+ * entries of the library which have not been found unchanged in the file.
+ */
+public class ChangedRegionsParser {
+
+    private final ImportFormatPreferences importFormatPreferences;
+    private final FileUpdateMonitor fileMonitor;
+
+    public ChangedRegionsParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this.importFormatPreferences = importFormatPreferences;
+        this.fileMonitor = fileMonitor;
+    }
+
+    /**
+     * @param filePath       the modified file of the library
+     * @param loadedDatabase the library the file has been loaded into
+     */
+    public Result parse(Path filePath, BibDatabaseContext loadedDatabase) throws IOException {
+        Charset encoding = BibtexImporter.getEncoding(filePath, importFormatPreferences.getEncoding());
+        char[] input;
+        try (BufferedReader reader = Importer.getReader(filePath, encoding)) {
+            input = readFully(reader);
+        }
+
+        Map<String, Deque<BibEntry>> unchangedEntriesByText = getUnchangedEntriesByText(loadedDatabase.getEntries());
+        Set<BibEntry> entriesFound = Collections.newSetFromMap(new IdentityHashMap<>());
+        StringBuilder changedRegions = new StringBuilder();
+        int copiedUpTo = 0;
+        for (EntryRange range : BibtexEntryScanner.scan(input, input.length)) {
+            Deque<BibEntry> unchangedEntries = unchangedEntriesByText.get(getEntryText(input, range));
+            if ((unchangedEntries == null) || unchangedEntries.isEmpty()) {
+                continue;
+            }
+            entriesFound.add(unchangedEntries.poll());
+
+            // cut out the entry, starting at the @ in front of its type
+            int entryStart = range.getStart() - range.getType().length();
+            while ((entryStart > copiedUpTo) && (input[entryStart] != '@')) {
+                entryStart--;
+            }
+            changedRegions.append(input, copiedUpTo, entryStart - copiedUpTo);
+            copiedUpTo = range.getEnd();
+        }
+        changedRegions.append(input, copiedUpTo, input.length - copiedUpTo);
+
+        ParserResult parserResult = new BibtexParser(importFormatPreferences, fileMonitor)
+                .parse(new CharArrayReader(changedRegions.toString().toCharArray()));
+        parserResult.getMetaData().setEncoding(encoding);
+        parserResult.setFile(filePath.toFile());
+        if (parserResult.getMetaData().getMode().isEmpty()) {
+            // the mode cannot be inferred from the changed entries alone
+            parserResult.getMetaData().setMode(loadedDatabase.getMetaData().getMode()
+                                                             .orElseGet(() -> BibDatabaseModeDetection.inferMode(loadedDatabase.getDatabase())));
+        }
+
+        List<BibEntry> remainingEntries = new ArrayList<>();
+        for (BibEntry entry : loadedDatabase.getEntries()) {
+            if (!entriesFound.contains(entry)) {
+                remainingEntries.add(entry);
+            }
+        }
+        return new Result(parserResult, remainingEntries);
+    }
+
+    private static char[] readFully(Reader reader) throws IOException {
+        char[] chars = new char[8192];
+        int length = 0;
+        int charactersRead;
+        while ((charactersRead = reader.read(chars, length, chars.length - length)) != -1) {
+            length += charactersRead;
+            if (length == chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            }
+        }
+        return Arrays.copyOf(chars, length);
+    }
+
+    /**
+     * Returns the entries which have not been changed since they have been parsed, by the text of the entry itself
+     * (without the comments in front of it)
+     */
+    private static Map<String, Deque<BibEntry>> getUnchangedEntriesByText(List<BibEntry> entries) {
+        Map<String, Deque<BibEntry>> entriesByText = new HashMap<>(entries.size());
+        for (BibEntry entry : entries) {
+            String serialization = entry.getParsedSerialization();
+            if (entry.hasChanged() || (serialization == null)) {
+                continue;
+            }
+
+            char[] serializationChars = serialization.toCharArray();
+            List<EntryRange> ranges = BibtexEntryScanner.scan(serializationChars, serializationChars.length);
+            if (!ranges.isEmpty()) {
+                String text = getEntryText(serializationChars, ranges.get(ranges.size() - 1));
+                entriesByText.computeIfAbsent(text, key -> new ArrayDeque<>()).add(entry);
+            }
+        }
+        return entriesByText;
+    }
+
+    private static String getEntryText(char[] input, EntryRange range) {
+        return range.getType() + new String(input, range.getStart(), range.getEnd() - range.getStart());
+    }
+
+    public static class Result {
+
+        private final ParserResult parserResult;
+        private final List<BibEntry> remainingEntries;
+
+        private Result(ParserResult parserResult, List<BibEntry> remainingEntries) {
+            this.parserResult = parserResult;
+            this.remainingEntries = remainingEntries;
+        }
+
+        /**
+         * Returns the result of parsing the changed regions. Its database contains the strings and the preamble of the
+         * file, but only the entries which are not contained in the library unchanged.
+         */
+        public ParserResult getParserResult() {
+            return parserResult;
+        }
+
+        /**
+         * Returns the entries of the library which have not been found unchanged in the file, i.e., the entries which
+         * have been changed or removed by the other program or changed in the library.
+         */
+        public List<BibEntry> getRemainingEntries() {
+            return remainingEntries;
+        }
+    }
+}
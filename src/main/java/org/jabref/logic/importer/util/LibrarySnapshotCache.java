@@ -0,0 +1,290 @@
+package org.jabref.logic.importer.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+
+import org.jabref.logic.exporter.MetaDataSerializer;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryType;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.types.EntryTypeFactory;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.util.FileUpdateMonitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the result of parsing a library in a binary snapshot next to the library file (a "sidecar" file), so that the
+ * library can be opened again without parsing it as long as it has not been changed.
+ * <p>
+ * The snapshot contains the entries (including their parsed serialization), the strings, the preamble, the epilog and
+ * the serialized meta data. It is only used if the path, the size, the modification time and the checksum of the
+ * library file as well as the preferences affecting the parser are the same as when the snapshot was written.
+ * Otherwise (or if the snapshot cannot be read), the library has to be parsed.
+ */
+public class LibrarySnapshotCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibrarySnapshotCache.class);
+
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+    private static final int MAGIC_NUMBER = 0x4A52534E;
+    private static final int FORMAT_VERSION = 1;
+
+    private final ImportFormatPreferences importFormatPreferences;
+    private final FileUpdateMonitor fileMonitor;
+
+    public LibrarySnapshotCache(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this.importFormatPreferences = importFormatPreferences;
+        this.fileMonitor = fileMonitor;
+    }
+
+    static Path getSnapshotPath(Path file) {
+        return FileUtil.addExtension(file, SNAPSHOT_EXTENSION);
+    }
+
+    /**
+     * Rebuilds the parser result of the given library from its snapshot.
+     *
+     * @return the parser result, or an empty optional if there is no (valid) snapshot for the current state of the file
+     */
+    public Optional<ParserResult> load(Path file) {
+        Path snapshotPath = getSnapshotPath(file);
+        if (!Files.exists(snapshotPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            // the snapshot is not mapped into memory, as a mapped file cannot be replaced on Windows until the mapping
+            // is garbage collected
+            SnapshotReader reader = new SnapshotReader(ByteBuffer.wrap(Files.readAllBytes(snapshotPath)));
+            if ((reader.readInt() != MAGIC_NUMBER) || (reader.readInt() != FORMAT_VERSION)
+                    || !reader.readString().equals(file.toAbsolutePath().toString())
+                    || (reader.readLong() != Files.size(file))
+                    || (reader.readLong() != Files.getLastModifiedTime(file).toMillis())
+                    || !reader.readString().equals(getParserFingerprint())
+                    || (reader.readLong() != computeChecksum(file))) {
+                LOGGER.debug("Snapshot of {} is outdated", file);
+                return Optional.empty();
+            }
+            return Optional.of(readParserResult(reader, file));
+        } catch (IOException | ParseException | BufferUnderflowException | IllegalArgumentException e) {
+            LOGGER.warn("Could not read snapshot of {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes a snapshot of the given parser result of the given (unchanged) library. Results with warnings are not
+     * stored, as these would not be shown again when opening the library from the snapshot.
+     */
+    public void store(Path file, ParserResult parserResult) {
+        if (parserResult.hasWarnings() || parserResult.isInvalid()) {
+            return;
+        }
+
+        Path snapshotPath = getSnapshotPath(file);
+        Path temporaryPath = FileUtil.addExtension(snapshotPath, ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+                output.writeInt(MAGIC_NUMBER);
+                output.writeInt(FORMAT_VERSION);
+                writeString(output, file.toAbsolutePath().toString());
+                output.writeLong(Files.size(file));
+                output.writeLong(Files.getLastModifiedTime(file).toMillis());
+                writeString(output, getParserFingerprint());
+                output.writeLong(computeChecksum(file));
+                writeParserResult(output, parserResult);
+            }
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write snapshot of {}", file, e);
+            try {
+                Files.deleteIfExists(temporaryPath);
+            } catch (IOException ignored) {
+                // nothing left to do
+            }
+        }
+    }
+
+    /**
+     * The preferences used by the parser, which thus have to be the same when using the snapshot
+     */
+    private String getParserFingerprint() {
+        return importFormatPreferences.getEncoding().name() + ';'
+                + importFormatPreferences.getKeywordSeparator() + ';'
+                + importFormatPreferences.getFieldContentFormatterPreferences().getNonWrappableFields().stream()
+                                         .map(Field::getName)
+                                         .collect(Collectors.joining(","));
+    }
+
+    private static long computeChecksum(Path file) throws IOException {
+        // the library is not mapped into memory, as a mapped file cannot be replaced on Windows (e.g., when saving)
+        CRC32C checksum = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+        }
+        return checksum.getValue();
+    }
+
+    private void writeParserResult(DataOutputStream output, ParserResult parserResult) throws IOException {
+        BibDatabase database = parserResult.getDatabase();
+        writeString(output, database.getSharedDatabaseID().orElse(""));
+        writeString(output, database.getPreamble().orElse(""));
+        writeString(output, database.getEpilog());
+        writeString(output, parserResult.getMetaData().getEncoding().map(Charset::name).orElse(""));
+
+        Map<String, String> metaData = MetaDataSerializer.getSerializedStringMap(parserResult.getMetaData(),
+                importFormatPreferences.getBibtexKeyPatternPreferences().getKeyPattern());
+        output.writeInt(metaData.size());
+        for (Map.Entry<String, String> metaItem : metaData.entrySet()) {
+            writeString(output, metaItem.getKey());
+            writeString(output, metaItem.getValue());
+        }
+
+        output.writeInt(parserResult.getEntryTypes().size());
+        for (BibEntryType entryType : parserResult.getEntryTypes()) {
+            writeString(output, BibEntryTypesManager.serialize(entryType));
+        }
+
+        output.writeInt(database.getStringCount());
+        for (BibtexString string : database.getStringValues()) {
+            writeString(output, string.getName());
+            writeString(output, string.getContent());
+            writeString(output, string.getParsedSerialization());
+        }
+
+        output.writeInt(database.getEntryCount());
+        for (BibEntry entry : database.getEntries()) {
+            writeString(output, entry.getType().getName());
+            writeString(output, entry.getUserComments());
+            writeString(output, entry.getParsedSerialization());
+            Map<Field, String> fields = entry.getFieldMap();
+            output.writeInt(fields.size());
+            for (Map.Entry<Field, String> field : fields.entrySet()) {
+                writeString(output, field.getKey().getName());
+                writeString(output, field.getValue());
+            }
+        }
+    }
+
+    private ParserResult readParserResult(SnapshotReader reader, Path file) throws ParseException {
+        BibDatabase database = new BibDatabase();
+        String sharedDatabaseID = reader.readString();
+        if (!sharedDatabaseID.isEmpty()) {
+            database.setSharedDatabaseID(sharedDatabaseID);
+        }
+        String preamble = reader.readString();
+        if (!preamble.isEmpty()) {
+            database.setPreamble(preamble);
+        }
+        database.setEpilog(reader.readString());
+        String encoding = reader.readString();
+
+        int numberOfMetaItems = reader.readInt();
+        Map<String, String> serializedMetaData = new HashMap<>();
+        for (int i = 0; i < numberOfMetaItems; i++) {
+            serializedMetaData.put(reader.readString(), reader.readString());
+        }
+        MetaData metaData = new MetaDataParser(fileMonitor).parse(serializedMetaData, importFormatPreferences.getKeywordSeparator());
+        if (!encoding.isEmpty()) {
+            metaData.setEncoding(Charset.forName(encoding));
+        }
+
+        int numberOfEntryTypes = reader.readInt();
+        Set<BibEntryType> entryTypes = new HashSet<>();
+        for (int i = 0; i < numberOfEntryTypes; i++) {
+            BibEntryTypesManager.parse(reader.readString()).ifPresent(entryTypes::add);
+        }
+
+        ParserResult parserResult = new ParserResult(database, metaData, entryTypes);
+        parserResult.setFile(file.toFile());
+
+        int numberOfStrings = reader.readInt();
+        for (int i = 0; i < numberOfStrings; i++) {
+            BibtexString string = new BibtexString(reader.readString(), reader.readString());
+            string.setParsedSerialization(reader.readString());
+            database.addString(string);
+        }
+
+        int numberOfEntries = reader.readInt();
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry(EntryTypeFactory.parse(reader.readString()));
+            entry.setCommentsBeforeEntry(reader.readString());
+            String parsedSerialization = reader.readString();
+            int numberOfFields = reader.readInt();
+            for (int j = 0; j < numberOfFields; j++) {
+                entry.setField(FieldFactory.parseField(reader.readString()), reader.readString());
+            }
+            entry.setParsedSerialization(parsedSerialization);
+
+            if (database.insertEntry(entry)) {
+                parserResult.addDuplicateKey(entry.getCiteKey());
+            }
+        }
+        return parserResult;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static class SnapshotReader {
+
+        private final ByteBuffer buffer;
+
+        SnapshotReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readInt() {
+            return buffer.getInt();
+        }
+
+        long readLong() {
+            return buffer.getLong();
+        }
+
+        String readString() {
+            int length = buffer.getInt();
+            if ((length < 0) || (length > buffer.remaining())) {
+                throw new IllegalArgumentException("Invalid string length " + length);
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
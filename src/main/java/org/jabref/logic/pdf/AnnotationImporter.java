@@ -2,10 +2,21 @@ package org.jabref.logic.pdf;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.model.pdf.FileAnnotation;
 
 public interface AnnotationImporter {
 
     List<FileAnnotation> importAnnotations(final Path path);
+
+    /**
+     * Imports the annotations of the file specified by its path, telling whether the file could be read.
+     *
+     * @param path a path to a file
+     * @return the annotations found in the file, or an empty optional if the file could not be read
+     */
+    default Optional<List<FileAnnotation>> readAnnotations(final Path path) {
+        return Optional.of(importAnnotations(path));
+    }
 }
@@ -32,11 +32,14 @@ public class FileAnnotationCache {
 
     }
 
-    public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences) {
+    /**
+     * @param store keeps the annotations of the files across sessions, so that only files modified since are read
+     */
+    public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences, FileAnnotationStore store) {
         annotationCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<BibEntry, Map<Path, List<FileAnnotation>>>() {
             @Override
             public Map<Path, List<FileAnnotation>> load(BibEntry entry) throws Exception {
-                return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences);
+                return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences, store);
             }
         });
     }
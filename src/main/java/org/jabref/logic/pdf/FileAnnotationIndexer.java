@@ -0,0 +1,72 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.metadata.FilePreferences;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the annotations of the PDFs attached to the entries of a library into a {@link FileAnnotationStore}, so that
+ * they are available later on without opening the PDFs. Only PDFs modified since they have been indexed are read.
+ * <p>
+ * The indexer is meant to run in the background: it lowers the priority of its thread while running and stops as soon
+ * as its thread is interrupted.
+ */
+public class FileAnnotationIndexer implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileAnnotationIndexer.class);
+
+    /**
+     * The store is written after indexing this many entries, so that the work done is kept if JabRef is quit
+     */
+    private static final int ENTRIES_BETWEEN_STORING = 500;
+
+    private final BibDatabaseContext databaseContext;
+    private final FilePreferences filePreferences;
+    private final FileAnnotationStore store;
+    private final List<BibEntry> entries;
+
+    /**
+     * Has to be created on the thread changing the library, as the entries to index are determined here.
+     */
+    public FileAnnotationIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences, FileAnnotationStore store) {
+        this.databaseContext = databaseContext;
+        this.filePreferences = filePreferences;
+        this.store = store;
+        this.entries = new ArrayList<>(databaseContext.getEntries());
+    }
+
+    @Override
+    public void run() {
+        Thread thread = Thread.currentThread();
+        int originalPriority = thread.getPriority();
+        thread.setPriority(Thread.MIN_PRIORITY);
+        try {
+            store.load();
+            int indexedEntries = 0;
+            for (BibEntry entry : entries) {
+                if (thread.isInterrupted()) {
+                    LOGGER.debug("Indexing of file annotations interrupted");
+                    break;
+                }
+                new EntryAnnotationImporter(entry).importAnnotationsFromFiles(databaseContext, filePreferences, store);
+
+                indexedEntries++;
+                if ((indexedEntries % ENTRIES_BETWEEN_STORING) == 0) {
+                    store.store();
+                }
+            }
+            store.store();
+        } catch (IOException e) {
+            LOGGER.warn("Could not store file annotations", e);
+        } finally {
+            thread.setPriority(originalPriority);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package org.jabref.logic.pdf;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the annotations of files, so that a file is only read again if it has been modified since. A file counts as
+ * modified if its modification time or its size has changed.
+ * <p>
+ * The store is kept in a file across sessions (see {@link #load()} and {@link #store()}), thus the annotations of a
+ * library are available without opening its PDFs once they have been indexed (see {@link FileAnnotationIndexer}). The
+ * store can be used by several threads at once.
+ * <p>
+ * The store serves the file annotation tab of the entry editor only. The search does not take annotations into
+ * account.
+ */
+public class FileAnnotationStore implements AnnotationImporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileAnnotationStore.class);
+
+    private static final int MAGIC_NUMBER = 0x4A524641;
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Guards against allocating huge arrays when reading a damaged store file
+     */
+    private static final int MAX_STRING_LENGTH = 1 << 24;
+
+    private final Path storeFile;
+    private final AnnotationImporter importer;
+    private final Map<Path, StoredAnnotations> annotations = new ConcurrentHashMap<>();
+    private volatile boolean changed;
+    private volatile boolean loaded;
+
+    /**
+     * @param storeFile the file the store is kept in
+     * @param importer  reads the annotations of files which are not contained in the store or have been modified
+     */
+    public FileAnnotationStore(Path storeFile, AnnotationImporter importer) {
+        this.storeFile = storeFile;
+        this.importer = importer;
+    }
+
+    /**
+     * Returns the annotations of the given file. The file is only read if it is not contained in the store or has been
+     * modified since it has been read.
+     */
+    @Override
+    public List<FileAnnotation> importAnnotations(Path path) {
+        return readAnnotations(path).orElse(Collections.emptyList());
+    }
+
+    /**
+     * Returns the annotations of the given file. The file is only read if it is not contained in the store or has been
+     * modified since it has been read. If the file cannot be read, nothing is stored, so that it is read again the next
+     * time.
+     *
+     * @return the annotations, or an empty optional if the file could not be read
+     */
+    @Override
+    public Optional<List<FileAnnotation>> readAnnotations(Path path) {
+        if (!loaded) {
+            load();
+        }
+        Path file = path.toAbsolutePath().normalize();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // the importer decides how to handle files which cannot be read
+            return importer.readAnnotations(path);
+        }
+
+        StoredAnnotations stored = annotations.get(file);
+        if ((stored != null) && stored.isUpToDate(attributes)) {
+            return Optional.of(stored.annotations);
+        }
+
+        Optional<List<FileAnnotation>> imported = importer.readAnnotations(path)
+                                                          .map(fileAnnotations -> Collections.unmodifiableList(new ArrayList<>(fileAnnotations)));
+        imported.ifPresent(fileAnnotations -> {
+            annotations.put(file, new StoredAnnotations(attributes.lastModifiedTime().toMillis(), attributes.size(), fileAnnotations));
+            changed = true;
+        });
+        return imported;
+    }
+
+    /**
+     * Loads the annotations kept in the store file, if this has not been done before. This happens at the latest when
+     * the store is used or written for the first time, so that writing does not drop the annotations kept in the file.
+     * Annotations read in the meantime are kept, annotations of files which do not exist anymore are skipped. If the
+     * store file does not exist or cannot be read, nothing is loaded.
+     */
+    public synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.exists(storeFile)) {
+            return;
+        }
+
+        Map<Path, StoredAnnotations> storedAnnotations = new ConcurrentHashMap<>();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(storeFile)))) {
+            if ((input.readInt() != MAGIC_NUMBER) || (input.readInt() != FORMAT_VERSION)) {
+                return;
+            }
+            int numberOfFiles = input.readInt();
+            for (int i = 0; i < numberOfFiles; i++) {
+                Path file = Paths.get(input.readUTF());
+                long lastModified = input.readLong();
+                long size = input.readLong();
+                int numberOfAnnotations = input.readInt();
+                List<FileAnnotation> fileAnnotations = new ArrayList<>();
+                for (int j = 0; j < numberOfAnnotations; j++) {
+                    fileAnnotations.add(readAnnotation(input));
+                }
+                if (Files.exists(file)) {
+                    storedAnnotations.put(file, new StoredAnnotations(lastModified, size, Collections.unmodifiableList(fileAnnotations)));
+                } else {
+                    changed = true;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not read file annotation store {}", storeFile, e);
+            return;
+        }
+        storedAnnotations.forEach(annotations::putIfAbsent);
+    }
+
+    /**
+     * Writes the store to its file, replacing the file atomically. Annotations of files which do not exist anymore are
+     * removed. Nothing is written if no file has been read or removed since the last time.
+     */
+    public synchronized void store() throws IOException {
+        load();
+        if (!changed) {
+            return;
+        }
+        changed = false;
+        try {
+            writeStoreFile();
+        } catch (IOException e) {
+            // the store is written again the next time
+            changed = true;
+            throw e;
+        }
+    }
+
+    private void writeStoreFile() throws IOException {
+        annotations.keySet().removeIf(file -> !Files.exists(file));
+
+        Path directory = storeFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        // a temporary file of its own, as several instances of JabRef may write the store at the same time
+        Path temporaryFile = Files.createTempFile(directory, storeFile.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(MAGIC_NUMBER);
+                output.writeInt(FORMAT_VERSION);
+                List<Map.Entry<Path, StoredAnnotations>> entries = new ArrayList<>(annotations.entrySet());
+                output.writeInt(entries.size());
+                for (Map.Entry<Path, StoredAnnotations> entry : entries) {
+                    StoredAnnotations stored = entry.getValue();
+                    output.writeUTF(entry.getKey().toString());
+                    output.writeLong(stored.lastModified);
+                    output.writeLong(stored.size);
+                    output.writeInt(stored.annotations.size());
+                    for (FileAnnotation annotation : stored.annotations) {
+                        writeAnnotation(output, annotation);
+                    }
+                }
+            }
+            Files.move(temporaryFile, storeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static void writeAnnotation(DataOutputStream output, FileAnnotation annotation) throws IOException {
+        output.writeBoolean(annotation.getAuthor() != null);
+        if (annotation.getAuthor() != null) {
+            writeString(output, annotation.getAuthor());
+        }
+        output.writeUTF(annotation.getTimeModified().toString());
+        output.writeInt(annotation.getPage());
+        writeString(output, annotation.getContent());
+        output.writeUTF(annotation.getAnnotationType().name());
+        output.writeBoolean(annotation.hasLinkedAnnotation());
+        if (annotation.hasLinkedAnnotation()) {
+            writeAnnotation(output, annotation.getLinkedFileAnnotation());
+        }
+    }
+
+    private static FileAnnotation readAnnotation(DataInputStream input) throws IOException {
+        String author = input.readBoolean() ? readString(input) : null;
+        LocalDateTime timeModified = LocalDateTime.parse(input.readUTF());
+        int page = input.readInt();
+        String content = readString(input);
+        FileAnnotationType type = FileAnnotationType.valueOf(input.readUTF());
+        Optional<FileAnnotation> linkedAnnotation = input.readBoolean() ? Optional.of(readAnnotation(input)) : Optional.empty();
+        return new FileAnnotation(author, timeModified, page, content, type, linkedAnnotation);
+    }
+
+    /**
+     * Unlike {@link DataOutputStream#writeUTF(String)}, strings of any length can be written, as notes can be long
+     */
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if ((length < 0) || (length > MAX_STRING_LENGTH)) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static class StoredAnnotations {
+
+        private final long lastModified;
+        private final long size;
+        private final List<FileAnnotation> annotations;
+
+        private StoredAnnotations(long lastModified, long size, List<FileAnnotation> annotations) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.annotations = annotations;
+        }
+
+        private boolean isUpToDate(BasicFileAttributes attributes) {
+            return (attributes.lastModifiedTime().toMillis() == lastModified) && (attributes.size() == size);
+        }
+    }
+}
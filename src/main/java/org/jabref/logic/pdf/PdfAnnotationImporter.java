@@ -35,10 +35,22 @@ public class PdfAnnotationImporter implements AnnotationImporter {
      */
     @Override
     public List<FileAnnotation> importAnnotations(final Path path) {
+        return readAnnotations(path).orElse(Collections.emptyList());
+    }
+
+    /**
+     * Imports the comments from a pdf specified by its path
+     *
+     * @param path a path to a pdf
+     * @return a list with the all the annotations found in the file of the path, or an empty optional if the file
+     * could not be read
+     */
+    @Override
+    public Optional<List<FileAnnotation>> readAnnotations(final Path path) {
 
         if (!validatePath(path)) {
-            // Path could not be validated, return default result
-            return Collections.emptyList();
+            // Path could not be validated
+            return Optional.empty();
         }
 
         List<FileAnnotation> annotationsList = new LinkedList<>();
@@ -63,8 +75,9 @@ public class PdfAnnotationImporter implements AnnotationImporter {
             }
         } catch (IOException e) {
             LOGGER.error(String.format("Failed to read file '%s'.", path), e);
+            return Optional.empty();
         }
-        return annotationsList;
+        return Optional.of(annotationsList);
     }
 
     private boolean isSupportedAnnotationType(PDAnnotation annotation) {
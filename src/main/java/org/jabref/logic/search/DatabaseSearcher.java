@@ -32,7 +32,8 @@ public class DatabaseSearcher {
             return Collections.emptyList();
         }
 
-        List<BibEntry> matchEntries = database.getEntries().stream().filter(query::isMatch).collect(Collectors.toList());
+        // the search rules are immutable once the query has been validated, thus the entries can be checked in parallel
+        List<BibEntry> matchEntries = database.getEntries().parallelStream().filter(query::isMatch).collect(Collectors.toList());
         return BibDatabases.purgeEmptyEntries(matchEntries);
     }
 
@@ -9,6 +9,8 @@ import java.util.regex.Pattern;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchCandidates;
+import org.jabref.model.search.SearchIndex;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.rules.ContainBasedSearchRule;
 import org.jabref.model.search.rules.GrammarBasedSearchRule;
@@ -59,6 +61,14 @@ public class SearchQuery implements SearchMatcher {
         return rule.applyRule(getQuery(), entry);
     }
 
+    /**
+     * Returns the entries of the given index which might be matched by this query.
+     * Only these entries need to be checked using {@link #isMatch(BibEntry)}.
+     */
+    public SearchCandidates getCandidates(SearchIndex index) {
+        return rule.getCandidates(getQuery(), index);
+    }
+
     public boolean isValid() {
         return rule.validateSearchStrings(getQuery());
     }
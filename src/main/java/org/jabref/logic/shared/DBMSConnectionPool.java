@@ -0,0 +1,83 @@
+package org.jabref.logic.shared;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
+import org.jabref.model.database.shared.DatabaseConnectionProperties;
+
+/**
+ * Keeps further connections to a shared database open for reuse. Each connection is used by a {@link DBMSProcessor} of
+ * its own, which caches the prepared statements for that connection. In this way, work running in the background (e.g.,
+ * writing changes) does not have to wait for the work on the primary connection of the library and vice versa.
+ */
+class DBMSConnectionPool implements AutoCloseable {
+
+    /**
+     * Maximum number of connections kept open while not being used
+     */
+    private static final int MAX_IDLE_CONNECTIONS = 2;
+
+    private final DBMSConnectionProperties properties;
+    private final Deque<DBMSProcessor> idleProcessors = new ArrayDeque<>();
+    private boolean isClosed;
+
+    DBMSConnectionPool(DatabaseConnectionProperties properties) {
+        this.properties = new DBMSConnectionPropertiesBuilder()
+                .setType(properties.getType())
+                .setHost(properties.getHost())
+                .setPort(properties.getPort())
+                .setDatabase(properties.getDatabase())
+                .setUser(properties.getUser())
+                .setPassword(properties.getPassword())
+                .setUseSSL(properties.isUseSSL())
+                .setAllowPublicKeyRetrieval(properties.isAllowPublicKeyRetrieval())
+                .setServerTimezone(properties.getServerTimezone())
+                .setKeyStore(properties.getKeyStore())
+                .createDBMSConnectionProperties();
+    }
+
+    /**
+     * Returns a processor using an idle connection, or a new connection if there is no idle one. The processor has to
+     * be handed back using {@link #releaseProcessor(DBMSProcessor)}.
+     */
+    DBMSProcessor acquireProcessor() throws SQLException {
+        synchronized (this) {
+            DBMSProcessor processor;
+            while ((processor = idleProcessors.pollFirst()) != null) {
+                if (processor.isConnectionValid()) {
+                    return processor;
+                }
+                processor.close();
+            }
+        }
+
+        try {
+            return DBMSProcessor.getProcessorInstance(new DBMSConnection(properties));
+        } catch (InvalidDBMSConnectionPropertiesException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    /**
+     * Hands back a processor acquired before, so that its connection can be reused.
+     */
+    synchronized void releaseProcessor(DBMSProcessor processor) {
+        if (!isClosed && (idleProcessors.size() < MAX_IDLE_CONNECTIONS)) {
+            idleProcessors.addFirst(processor);
+        } else {
+            processor.close();
+        }
+    }
+
+    /**
+     * Closes all idle connections. Connections released afterwards are closed immediately.
+     */
+    @Override
+    public synchronized void close() {
+        isClosed = true;
+        idleProcessors.forEach(DBMSProcessor::close);
+        idleProcessors.clear();
+    }
+}
@@ -5,19 +5,27 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.jabref.logic.shared.event.EntriesUploadProgressEvent;
 import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.database.shared.DBMSType;
 import org.jabref.model.database.shared.DatabaseConnection;
@@ -34,6 +42,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Processes all incoming or outgoing bib data to external SQL Database and manages its structure.
+ * <p>
+ * The prepared statements of recurring queries are cached for the connection of the processor. Thus, the methods
+ * using them are synchronized. Concurrent work, like writing changes in the background (see
+ * {@link SharedEntryUpdateQueue}), uses a processor of its own (see {@link DBMSConnectionPool}).
  */
 public abstract class DBMSProcessor {
 
@@ -41,15 +53,128 @@ public abstract class DBMSProcessor {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
+    /**
+     * Maximum number of entries sent or queried with a single statement
+     */
+    protected static final int MAX_ENTRIES_PER_STATEMENT = 1000;
+
+    /**
+     * Sizes of the IN lists used to query or delete several entries. The IDs are split into chunks and each chunk is
+     * padded to the next of these sizes, so that only a few different queries are prepared and these can be cached.
+     */
+    private static final int[] IN_LIST_SIZES = {1, 10, 100, MAX_ENTRIES_PER_STATEMENT};
+
+    /**
+     * Maximum number of prepared statements kept open for reuse
+     */
+    private static final int MAX_CACHED_STATEMENTS = 32;
+
     protected final Connection connection;
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    /**
+     * The prepared statements by their query, least recently used first
+     */
+    private final Map<String, PreparedStatement> cachedStatements = new LinkedHashMap<>(16, 0.75f, true);
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
     }
 
+    /**
+     * Returns a prepared statement for the given query, which is reused for further calls with the same query. The
+     * statement must not be closed by the caller. Queries whose text depends on the number of parameters (e.g., IN
+     * lists) must not be cached, as they would displace the statements used frequently, unless the number of
+     * parameters is one of a few fixed sizes (see {@link #getInList(int)}).
+     */
+    protected PreparedStatement prepareCachedStatement(String query) throws SQLException {
+        PreparedStatement statement = cachedStatements.get(query);
+        if ((statement == null) || statement.isClosed()) {
+            statement = connection.prepareStatement(query);
+            cachedStatements.put(query, statement);
+            if (cachedStatements.size() > MAX_CACHED_STATEMENTS) {
+                Iterator<PreparedStatement> leastRecentlyUsed = cachedStatements.values().iterator();
+                closeStatement(leastRecentlyUsed.next());
+                leastRecentlyUsed.remove();
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * Splits the given IDs into chunks, which are queried using one IN list each. Duplicate IDs are dropped and the IDs
+     * are sorted, so that the results of all chunks together are ordered by the ID.
+     */
+    private static List<List<Integer>> getChunks(Collection<Integer> ids) {
+        List<Integer> sortedIDs = ids.stream().distinct().sorted().collect(Collectors.toList());
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int start = 0; start < sortedIDs.size(); start += MAX_ENTRIES_PER_STATEMENT) {
+            chunks.add(sortedIDs.subList(start, Math.min(start + MAX_ENTRIES_PER_STATEMENT, sortedIDs.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the size of the IN list to use for the given number of IDs, which is at most
+     * {@link #MAX_ENTRIES_PER_STATEMENT}.
+     */
+    private static int getInListSize(int numberOfIDs) {
+        for (int size : IN_LIST_SIZES) {
+            if (numberOfIDs <= size) {
+                return size;
+            }
+        }
+        throw new IllegalArgumentException("Too many IDs for a single statement: " + numberOfIDs);
+    }
+
+    /**
+     * Returns the parameters of an IN list of the given size (see {@link #getInListSize(int)}), e.g., "(?, ?)"
+     */
+    private static String getInList(int size) {
+        return "(" + "?, ".repeat(size - 1) + "?)";
+    }
+
+    /**
+     * Sets the given IDs as the parameters of an IN list starting at the first parameter. The remaining parameters of
+     * the IN list are filled with the last ID, which does not change the result.
+     */
+    private static void setInListParameters(PreparedStatement statement, List<Integer> ids, int inListSize) throws SQLException {
+        for (int i = 0; i < inListSize; i++) {
+            statement.setInt(i + 1, ids.get(Math.min(i, ids.size() - 1)));
+        }
+    }
+
+    private void closeStatement(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Could not close statement", e);
+        }
+    }
+
+    boolean isConnectionValid() {
+        try {
+            return connection.isValid(0);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes the cached statements and the connection of this processor.
+     */
+    synchronized void close() {
+        cachedStatements.values().forEach(this::closeStatement);
+        cachedStatements.clear();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
     /**
      * Scans the database for required tables.
      *
@@ -60,6 +185,16 @@ public abstract class DBMSProcessor {
         return checkTableAvailability("ENTRY", "FIELD", "METADATA");
     }
 
+    /**
+     * Scans the database for the table logging the changes of entries, which is missing in shared databases set up by
+     * former versions.
+     *
+     * @return <code>true</code> if the table is present, <code>false</code> if not.
+     */
+    public boolean checkChangeLogIntegrity() throws SQLException {
+        return checkTableAvailability("ENTRY_LOG");
+    }
+
     /**
      * Determines whether the database is using an pre-3.6 structure.
      *
@@ -107,6 +242,9 @@ public abstract class DBMSProcessor {
      */
     public void setupSharedDatabase() throws SQLException {
         setUp();
+        if (!checkChangeLogIntegrity()) {
+            setUpChangeLog();
+        }
 
         if (!checkBaseIntegrity()) {
             // can only happen with users direct intervention on shared database
@@ -121,6 +259,14 @@ public abstract class DBMSProcessor {
      */
     protected abstract void setUp() throws SQLException;
 
+    /**
+     * Creates the table logging the changes of entries according to the database type. Each change gets a new, higher
+     * revision number.
+     *
+     * @throws SQLException
+     */
+    protected abstract void setUpChangeLog() throws SQLException;
+
     /**
      * Escapes parts of SQL expressions such as a table name or a field name to match the conventions of the database
      * system using the current dbmsType.
@@ -132,6 +278,19 @@ public abstract class DBMSProcessor {
      */
     abstract String escape(String expression);
 
+    /**
+     * Locks the change log against logging by other connections until the current transaction ends or
+     * {@link #unlockChangeLog()} is called. Reading the change log must not be blocked.
+     */
+    protected abstract void lockChangeLog() throws SQLException;
+
+    /**
+     * Releases a lock acquired by {@link #lockChangeLog()} which is not released at the end of the transaction.
+     */
+    protected void unlockChangeLog() throws SQLException {
+        // locks are released at the end of the transaction by default
+    }
+
     /**
      * For use in test only. Inserts the BibEntry into the shared database.
      *
@@ -147,12 +306,53 @@ public abstract class DBMSProcessor {
      * @param bibEntries List of {@link BibEntry} to be inserted
      */
     public void insertEntries(List<BibEntry> bibEntries) {
+        insertEntries(bibEntries, progress -> {
+        });
+    }
+
+    /**
+     * Inserts the List of BibEntry into the shared database. The entries are sent in chunks of bounded size using one
+     * transaction, so that either all or none of them are inserted.
+     *
+     * @param bibEntries       List of {@link BibEntry} to be inserted
+     * @param progressListener Notified after each chunk of entries has been sent, and once more after the transaction
+     *                         has been committed (see {@link EntriesUploadProgressEvent#isFinished()})
+     */
+    public synchronized void insertEntries(List<BibEntry> bibEntries, Consumer<EntriesUploadProgressEvent> progressListener) {
         List<BibEntry> notYetExistingEntries = getNotYetExistingEntries(bibEntries);
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+
+        long startTime = System.nanoTime();
+        try {
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+            try {
+                for (int start = 0; start < notYetExistingEntries.size(); start += MAX_ENTRIES_PER_STATEMENT) {
+                    List<BibEntry> chunk = notYetExistingEntries.subList(start, Math.min(start + MAX_ENTRIES_PER_STATEMENT, notYetExistingEntries.size()));
+                    insertIntoEntryTable(chunk);
+                    insertIntoFieldTable(chunk);
+                    int uploadedEntries = start + chunk.size();
+                    if (uploadedEntries < notYetExistingEntries.size()) {
+                        progressListener.accept(new EntriesUploadProgressEvent(uploadedEntries, notYetExistingEntries.size(),
+                                Duration.ofNanos(System.nanoTime() - startTime)));
+                    }
+                }
+                logEntryChangesAndCommit(notYetExistingEntries);
+                // the upload is only finished once it has been committed
+                progressListener.accept(new EntriesUploadProgressEvent(notYetExistingEntries.size(), notYetExistingEntries.size(),
+                        Duration.ofNanos(System.nanoTime() - startTime)));
+            } catch (SQLException e) {
+                connection.rollback(); // undo changes made in current transaction
+                // the generated IDs are not valid anymore
+                notYetExistingEntries.forEach(entry -> entry.getSharedBibEntryData().setSharedID(-1));
+                throw e;
+            } finally {
+                connection.setAutoCommit(true); // enable auto commit mode again
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
     }
 
     /**
@@ -160,7 +360,7 @@ public abstract class DBMSProcessor {
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
      */
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape("ENTRY"))
@@ -190,8 +390,6 @@ public abstract class DBMSProcessor {
                     LOGGER.error("Error: Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -199,83 +397,52 @@ public abstract class DBMSProcessor {
      * Filters a list of BibEntry to and returns those which do not exist in the database
      *
      * @param bibEntries {@link BibEntry} to be checked
-     * @return <code>true</code> if existent, else <code>false</code>
+     * @return the entries not existing in the database
      */
     private List<BibEntry> getNotYetExistingEntries(List<BibEntry> bibEntries) {
-
-        List<Integer> remoteIds = new ArrayList<>();
-        List<Integer> localIds = bibEntries.stream()
-                                           .map(BibEntry::getSharedBibEntryData)
-                                           .map(SharedBibEntryData::getSharedID)
-                                           .filter((id) -> id != -1)
-                                           .collect(Collectors.toList());
+        Set<Integer> localIds = bibEntries.stream()
+                                          .map(BibEntry::getSharedBibEntryData)
+                                          .map(SharedBibEntryData::getSharedID)
+                                          .filter((id) -> id != -1)
+                                          .collect(Collectors.toSet());
         if (localIds.isEmpty()) {
             return bibEntries;
         }
-        try {
-            StringBuilder selectQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("ENTRY"));
 
-            try (ResultSet resultSet = connection.createStatement().executeQuery(selectQuery.toString())) {
-                while (resultSet.next()) {
-                    int id = resultSet.getInt("SHARED_ID");
-                    remoteIds.add(id);
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
-        }
+        Set<Integer> remoteIds = getSharedIDVersionMapping(localIds).keySet();
         return bibEntries.stream().filter((entry) ->
                 !remoteIds.contains(entry.getSharedBibEntryData().getSharedID()))
                 .collect(Collectors.toList());
-        }
+    }
 
     /**
-     * Inserts the given list of BibEntry into FIELD table.
+     * Inserts the given list of BibEntry into FIELD table. The rows are sent as one batch.
      *
      * @param bibEntries {@link BibEntry} to be inserted
      */
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
-            // Number of commas is fields.size() - 1
-            for (int i = 0; i < numFields - 1; i++) {
-                insertFieldQuery.append(", (?, ?, ?)");
-            }
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
-                }
-                preparedFieldStatement.executeUpdate();
+    protected void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)");
+
+        PreparedStatement preparedFieldStatement = prepareCachedStatement(insertFieldQuery.toString());
+        for (BibEntry bibEntry : bibEntries) {
+            for (Map.Entry<Field, String> field : bibEntry.getFieldMap().entrySet()) {
+                // columnIndex starts with 1
+                preparedFieldStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
+                preparedFieldStatement.setString(2, field.getKey().getName());
+                preparedFieldStatement.setString(3, field.getValue());
+                preparedFieldStatement.addBatch();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
+        preparedFieldStatement.executeBatch();
     }
 
     /**
@@ -285,26 +452,61 @@ public abstract class DBMSProcessor {
      * @throws SQLException
      */
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
-        connection.setAutoCommit(false); // disable auto commit due to transaction
-
+        List<OfflineLockException> refusedUpdates;
         try {
-            Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
-
-            if (!sharedEntryOptional.isPresent()) {
-                return;
-            }
+            refusedUpdates = updateEntries(Collections.singletonList(localBibEntry));
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+            return;
+        }
+        if (!refusedUpdates.isEmpty()) {
+            throw refusedUpdates.get(0);
+        }
+    }
 
-            BibEntry sharedBibEntry = sharedEntryOptional.get();
+    /**
+     * Updates the given entries on shared database within a single transaction. Entries whose shared version is newer
+     * than the local one are not updated. If the update fails, none of the entries is updated.
+     * <p>
+     * The local version of each updated entry is set to the new shared version, so that pulling the changes does not
+     * overwrite the entry again.
+     *
+     * @param localBibEntries {@link BibEntry}s affected by changes
+     * @return one {@link OfflineLockException} for each entry which has not been updated due to a newer shared version
+     */
+    public synchronized List<OfflineLockException> updateEntries(List<BibEntry> localBibEntries) throws SQLException {
+        List<Integer> sharedIDs = localBibEntries.stream()
+                                                 .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                                                 .collect(Collectors.toList());
+        List<OfflineLockException> refusedUpdates = new ArrayList<>();
+        List<BibEntry> updatedEntries = new ArrayList<>();
+        Map<Integer, BibEntry> sharedEntries = new HashMap<>();
 
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
+        connection.setAutoCommit(false); // disable auto commit due to transaction
+        try {
+            for (BibEntry sharedEntry : getSharedEntries(sharedIDs)) {
+                sharedEntries.put(sharedEntry.getSharedBibEntryData().getSharedID(), sharedEntry);
+            }
 
-            // update only if local version is higher or the entries are equal
-            if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
-                                                                                     .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
+            for (BibEntry localBibEntry : localBibEntries) {
+                BibEntry sharedBibEntry = sharedEntries.get(localBibEntry.getSharedBibEntryData().getSharedID());
+                if (sharedBibEntry == null) {
+                    continue;
+                }
 
-                insertOrUpdateFields(localBibEntry);
+                // update only if local version is higher or the entries are equal
+                if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
+                                                                                         .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
+                    // remove shared fields which do not exist locally
+                    removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
+                    insertOrUpdateFields(localBibEntry);
+                    updatedEntries.add(localBibEntry);
+                } else {
+                    refusedUpdates.add(new OfflineLockException(localBibEntry, sharedBibEntry));
+                }
+            }
 
+            if (!updatedEntries.isEmpty()) {
                 // updating entry type
                 StringBuilder updateEntryTypeQuery = new StringBuilder()
                         .append("UPDATE ")
@@ -319,22 +521,29 @@ public abstract class DBMSProcessor {
                         .append(escape("SHARED_ID"))
                         .append(" = ?");
 
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery.toString())) {
+                PreparedStatement preparedUpdateEntryTypeStatement = prepareCachedStatement(updateEntryTypeQuery.toString());
+                for (BibEntry localBibEntry : updatedEntries) {
                     preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
                     preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
+                    preparedUpdateEntryTypeStatement.addBatch();
                 }
-
-                connection.commit(); // apply all changes in current transaction
+                preparedUpdateEntryTypeStatement.executeBatch();
+                logEntryChangesAndCommit(updatedEntries);
             } else {
-                throw new OfflineLockException(localBibEntry, sharedBibEntry);
+                connection.commit(); // apply all changes in current transaction
             }
         } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
             connection.rollback(); // undo changes made in current transaction
+            throw e;
         } finally {
             connection.setAutoCommit(true); // enable auto commit mode again
         }
+
+        for (BibEntry localBibEntry : updatedEntries) {
+            SharedBibEntryData sharedData = sharedEntries.get(localBibEntry.getSharedBibEntryData().getSharedID()).getSharedBibEntryData();
+            localBibEntry.getSharedBibEntryData().setVersion(sharedData.getVersion() + 1);
+        }
+        return refusedUpdates;
     }
 
     /**
@@ -353,12 +562,10 @@ public abstract class DBMSProcessor {
                     .append(escape("ENTRY_SHARED_ID"))
                     .append(" = ?");
 
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery.toString())) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
-            }
+            PreparedStatement preparedDeleteFieldStatement = prepareCachedStatement(deleteFieldQuery.toString());
+            preparedDeleteFieldStatement.setString(1, nullField.getName());
+            preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+            preparedDeleteFieldStatement.executeUpdate();
         }
     }
 
@@ -384,51 +591,45 @@ public abstract class DBMSProcessor {
                     .append(escape("ENTRY_SHARED_ID"))
                     .append(" = ?");
 
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery.toString())) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        StringBuilder updateFieldQuery = new StringBuilder()
-                                .append("UPDATE ")
-                                .append(escape("FIELD"))
-                                .append(" SET ")
-                                .append(escape("VALUE"))
-                                .append(" = ? WHERE ")
-                                .append(escape("NAME"))
-                                .append(" = ? AND ")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(" = ?");
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery.toString())) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        StringBuilder insertFieldQuery = new StringBuilder()
-                                .append("INSERT INTO ")
-                                .append(escape("FIELD"))
-                                .append("(")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES(?, ?, ?)");
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery.toString())) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
+            PreparedStatement preparedSelectFieldStatement = prepareCachedStatement(selectFieldQuery.toString());
+            preparedSelectFieldStatement.setString(1, field.getName());
+            preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+
+            try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
+                if (selectFieldResultSet.next()) { // check if field already exists
+                    StringBuilder updateFieldQuery = new StringBuilder()
+                            .append("UPDATE ")
+                            .append(escape("FIELD"))
+                            .append(" SET ")
+                            .append(escape("VALUE"))
+                            .append(" = ? WHERE ")
+                            .append(escape("NAME"))
+                            .append(" = ? AND ")
+                            .append(escape("ENTRY_SHARED_ID"))
+                            .append(" = ?");
+
+                    PreparedStatement preparedUpdateFieldStatement = prepareCachedStatement(updateFieldQuery.toString());
+                    preparedUpdateFieldStatement.setString(1, value);
+                    preparedUpdateFieldStatement.setString(2, field.getName());
+                    preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
+                    preparedUpdateFieldStatement.executeUpdate();
+                } else {
+                    StringBuilder insertFieldQuery = new StringBuilder()
+                            .append("INSERT INTO ")
+                            .append(escape("FIELD"))
+                            .append("(")
+                            .append(escape("ENTRY_SHARED_ID"))
+                            .append(", ")
+                            .append(escape("NAME"))
+                            .append(", ")
+                            .append(escape("VALUE"))
+                            .append(") VALUES(?, ?, ?)");
+
+                    PreparedStatement preparedFieldStatement = prepareCachedStatement(insertFieldQuery.toString());
+                    preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
+                    preparedFieldStatement.setString(2, field.getName());
+                    preparedFieldStatement.setString(3, value);
+                    preparedFieldStatement.executeUpdate();
                 }
             }
         }
@@ -439,28 +640,145 @@ public abstract class DBMSProcessor {
      *
      * @param bibEntries {@link BibEntry} to be deleted
      */
-    public void removeEntries(List<BibEntry> bibEntries) {
+    public synchronized void removeEntries(List<BibEntry> bibEntries) {
         Objects.requireNonNull(bibEntries);
         if (bibEntries.isEmpty()) {
             return;
         }
-        StringBuilder query = new StringBuilder()
+        List<Integer> sharedIDs = bibEntries.stream()
+                                            .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                                            .collect(Collectors.toList());
+
+        try {
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+            try {
+                for (List<Integer> chunk : getChunks(sharedIDs)) {
+                    int inListSize = getInListSize(chunk.size());
+                    StringBuilder query = new StringBuilder()
+                            .append("DELETE FROM ")
+                            .append(escape("ENTRY"))
+                            .append(" WHERE ")
+                            .append(escape("SHARED_ID"))
+                            .append(" IN ")
+                            .append(getInList(inListSize));
+                    PreparedStatement preparedStatement = prepareCachedStatement(query.toString());
+                    setInListParameters(preparedStatement, chunk, inListSize);
+                    preparedStatement.executeUpdate();
+                }
+                logEntryChangesAndCommit(bibEntries);
+            } catch (SQLException e) {
+                connection.rollback(); // undo changes made in current transaction
+                throw e;
+            } finally {
+                connection.setAutoCommit(true); // enable auto commit mode again
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    /**
+     * Records the changes of the given entries in the change log and commits the current transaction.
+     * <p>
+     * Revisions are assigned when a change is logged, but become visible only when the transaction commits. The change
+     * log is therefore locked from logging until the commit, so that no transaction logs a change while another one
+     * has not committed yet. Thus, revisions become visible in ascending order and a client which has seen a revision
+     * has seen all lower ones, too.
+     *
+     * @param bibEntries {@link BibEntry} which have been changed
+     */
+    private void logEntryChangesAndCommit(List<BibEntry> bibEntries) throws SQLException {
+        lockChangeLog();
+        try {
+            logEntryChanges(bibEntries);
+            connection.commit(); // apply all changes in current transaction
+        } finally {
+            unlockChangeLog();
+        }
+    }
+
+    /**
+     * Records a change (insertion, update, or removal) of the given entries in the change log. Older records of these
+     * entries are not needed anymore and thus removed.
+     *
+     * @param bibEntries {@link BibEntry} which have been changed
+     */
+    private void logEntryChanges(List<BibEntry> bibEntries) throws SQLException {
+        StringBuilder deleteQuery = new StringBuilder()
                 .append("DELETE FROM ")
-                .append(escape("ENTRY"))
+                .append(escape("ENTRY_LOG"))
+                .append(" WHERE ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?");
+        StringBuilder insertQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("ENTRY_LOG"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(") VALUES(?)");
+
+        PreparedStatement deleteStatement = prepareCachedStatement(deleteQuery.toString());
+        PreparedStatement insertStatement = prepareCachedStatement(insertQuery.toString());
+        for (BibEntry bibEntry : bibEntries) {
+            deleteStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
+            deleteStatement.addBatch();
+            insertStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
+            insertStatement.addBatch();
+        }
+        deleteStatement.executeBatch();
+        insertStatement.executeBatch();
+    }
+
+    /**
+     * Retrieves the latest revision of the change log, or 0 if nothing has been logged yet.
+     */
+    public synchronized long getLatestRevision() {
+        StringBuilder selectQuery = new StringBuilder()
+                .append("SELECT MAX(")
+                .append(escape("REVISION"))
+                .append(") FROM ")
+                .append(escape("ENTRY_LOG"));
+
+        try (ResultSet resultSet = prepareCachedStatement(selectQuery.toString()).executeQuery()) {
+            if (resultSet.next()) {
+                return resultSet.getLong(1);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        return 0;
+    }
+
+    /**
+     * Retrieves the changes of entries logged after the given revision.
+     *
+     * @return a mapping from the revisions to the IDs of the changed entries, ordered by revision
+     */
+    public synchronized SortedMap<Long, Integer> getEntryChangesSince(long revision) {
+        SortedMap<Long, Integer> changes = new TreeMap<>();
+        StringBuilder selectQuery = new StringBuilder()
+                .append("SELECT ")
+                .append(escape("REVISION"))
+                .append(", ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" FROM ")
+                .append(escape("ENTRY_LOG"))
                 .append(" WHERE ")
-                .append(escape("SHARED_ID"))
-                .append(" IN (");
-        query.append("?, ".repeat(bibEntries.size() - 1));
-        query.append("?)");
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            for (int j = 0; j < bibEntries.size(); j++) {
-                preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
+                .append(escape("REVISION"))
+                .append(" > ?");
+
+        try {
+            PreparedStatement preparedStatement = prepareCachedStatement(selectQuery.toString());
+            preparedStatement.setLong(1, revision);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    changes.put(resultSet.getLong("REVISION"), resultSet.getInt("ENTRY_SHARED_ID"));
+                }
             }
-            preparedStatement.executeUpdate();
         } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+            LOGGER.error("SQL Error", e);
         }
+        return changes;
     }
 
     /**
@@ -481,11 +799,26 @@ public abstract class DBMSProcessor {
      *
      * @param sharedIDs the list of Ids to filter. If list is empty, then no filter is applied
      */
-    public List<BibEntry> getSharedEntries(List<Integer> sharedIDs) {
+    public synchronized List<BibEntry> getSharedEntries(List<Integer> sharedIDs) {
         Objects.requireNonNull(sharedIDs);
 
         List<BibEntry> sharedEntries = new ArrayList<>();
+        if (sharedIDs.isEmpty()) {
+            getSharedEntries(Collections.emptyList(), 0, sharedEntries);
+        } else {
+            // bounded number of parameters per query, as the databases restrict it
+            for (List<Integer> chunk : getChunks(sharedIDs)) {
+                getSharedEntries(chunk, getInListSize(chunk.size()), sharedEntries);
+            }
+        }
+        return sharedEntries;
+    }
 
+    /**
+     * Adds the shared entries with the given IDs to the given list, using an IN list of the given size. If the size is
+     * zero, all shared entries are added.
+     */
+    private void getSharedEntries(List<Integer> sharedIDs, int inListSize, List<BibEntry> sharedEntries) {
         StringBuilder query = new StringBuilder();
         query.append("SELECT ")
              .append(escape("ENTRY")).append(".").append(escape("SHARED_ID")).append(", ")
@@ -502,53 +835,45 @@ public abstract class DBMSProcessor {
              .append(escape("ENTRY")).append(".").append(escape("SHARED_ID"))
              .append(" = F.").append(escape("ENTRY_SHARED_ID"));
 
-        if (!sharedIDs.isEmpty()) {
+        if (inListSize > 0) {
             query.append(" where ")
-                 .append(escape("SHARED_ID")).append(" in (")
-                 .append("?, ".repeat(sharedIDs.size() - 1))
-                 .append("?)");
+                 .append(escape("SHARED_ID")).append(" in ")
+                 .append(getInList(inListSize));
         }
         query.append(" order by ")
              .append(escape("SHARED_ID"));
 
-        PreparedStatement preparedStatement;
         try {
-            preparedStatement = connection.prepareStatement(query.toString());
-            for (int i = 0; i < sharedIDs.size(); i++) {
-                preparedStatement.setInt(i + 1, sharedIDs.get(i));
+            PreparedStatement preparedStatement = prepareCachedStatement(query.toString());
+            if (inListSize > 0) {
+                setInListParameters(preparedStatement, sharedIDs, inListSize);
             }
-        } catch (SQLException e) {
-            LOGGER.debug("Executed >{}<", query.toString());
-            LOGGER.error("SQL Error", e);
-            return Collections.emptyList();
-        }
-        try (ResultSet selectEntryResultSet = preparedStatement.executeQuery()) {
-            BibEntry bibEntry = null;
-            int lastId = -1;
-            while (selectEntryResultSet.next()) {
-                // We get a list of field values of bib entries "grouped" by bib entries
-                // Thus, the first change in the shared id leads to a new BibEntry
-                if (selectEntryResultSet.getInt("SHARED_ID") > lastId) {
-                    bibEntry = new BibEntry();
-                    bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
-                    bibEntry.setType(EntryTypeFactory.parse(selectEntryResultSet.getString("TYPE")));
-                    bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
-                    sharedEntries.add(bibEntry);
-                    lastId = selectEntryResultSet.getInt("SHARED_ID");
-                }
+            try (ResultSet selectEntryResultSet = preparedStatement.executeQuery()) {
+                BibEntry bibEntry = null;
+                int lastId = -1;
+                while (selectEntryResultSet.next()) {
+                    // We get a list of field values of bib entries "grouped" by bib entries
+                    // Thus, the first change in the shared id leads to a new BibEntry
+                    if (selectEntryResultSet.getInt("SHARED_ID") > lastId) {
+                        bibEntry = new BibEntry();
+                        bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
+                        bibEntry.setType(EntryTypeFactory.parse(selectEntryResultSet.getString("TYPE")));
+                        bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
+                        sharedEntries.add(bibEntry);
+                        lastId = selectEntryResultSet.getInt("SHARED_ID");
+                    }
 
-                // In all cases, we set the field value of the newly created BibEntry object
-                String value = selectEntryResultSet.getString("VALUE");
-                if (value != null) {
-                    bibEntry.setField(FieldFactory.parseField(selectEntryResultSet.getString("NAME")), value, EntriesEventSource.SHARED);
+                    // In all cases, we set the field value of the newly created BibEntry object
+                    String value = selectEntryResultSet.getString("VALUE");
+                    if (value != null) {
+                        bibEntry.setField(FieldFactory.parseField(selectEntryResultSet.getString("NAME")), value, EntriesEventSource.SHARED);
+                    }
                 }
             }
         } catch (SQLException e) {
             LOGGER.error("Executed >{}<", query.toString());
             LOGGER.error("SQL Error", e);
         }
-
-        return sharedEntries;
     }
 
     public List<BibEntry> getSharedEntries() {
@@ -558,7 +883,7 @@ public abstract class DBMSProcessor {
     /**
      * Retrieves a mapping between the columns SHARED_ID and VERSION.
      */
-    public Map<Integer, Integer> getSharedIDVersionMapping() {
+    public synchronized Map<Integer, Integer> getSharedIDVersionMapping() {
         Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
         StringBuilder selectEntryQuery = new StringBuilder()
                 .append("SELECT * FROM ")
@@ -566,7 +891,7 @@ public abstract class DBMSProcessor {
                 .append(" ORDER BY ")
                 .append(escape("SHARED_ID"));
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery.toString())) {
+        try (ResultSet selectEntryResultSet = prepareCachedStatement(selectEntryQuery.toString()).executeQuery()) {
             while (selectEntryResultSet.next()) {
                 sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
             }
@@ -577,13 +902,50 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Retrieves a mapping between the columns SHARED_ID and VERSION for the given shared IDs. IDs of entries which do
+     * not exist (anymore) are not contained.
+     */
+    public synchronized Map<Integer, Integer> getSharedIDVersionMapping(Collection<Integer> sharedIDs) {
+        Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
+        // bounded number of parameters per query, as the databases restrict it
+        for (List<Integer> chunk : getChunks(sharedIDs)) {
+            int inListSize = getInListSize(chunk.size());
+            StringBuilder selectEntryQuery = new StringBuilder()
+                    .append("SELECT ")
+                    .append(escape("SHARED_ID"))
+                    .append(", ")
+                    .append(escape("VERSION"))
+                    .append(" FROM ")
+                    .append(escape("ENTRY"))
+                    .append(" WHERE ")
+                    .append(escape("SHARED_ID"))
+                    .append(" IN ")
+                    .append(getInList(inListSize));
+
+            try {
+                PreparedStatement preparedStatement = prepareCachedStatement(selectEntryQuery.toString());
+                setInListParameters(preparedStatement, chunk, inListSize);
+                try (ResultSet selectEntryResultSet = preparedStatement.executeQuery()) {
+                    while (selectEntryResultSet.next()) {
+                        sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
+                    }
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error", e);
+            }
+        }
+
+        return sharedIDVersionMapping;
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
-    public Map<String, String> getSharedMetaData() {
+    public synchronized Map<String, String> getSharedMetaData() {
         Map<String, String> data = new HashMap<>();
 
-        try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT * FROM " + escape("METADATA"))) {
+        try (ResultSet resultSet = prepareCachedStatement("SELECT * FROM " + escape("METADATA")).executeQuery()) {
             while (resultSet.next()) {
                 data.put(resultSet.getString("KEY"), resultSet.getString("VALUE"));
             }
@@ -599,7 +961,7 @@ public abstract class DBMSProcessor {
      *
      * @param data JabRef meta data as map
      */
-    public void setSharedMetaData(Map<String, String> data) throws SQLException {
+    public synchronized void setSharedMetaData(Map<String, String> data) throws SQLException {
         StringBuilder updateQuery = new StringBuilder()
                 .append("UPDATE ")
                 .append(escape("METADATA"))
@@ -620,12 +982,14 @@ public abstract class DBMSProcessor {
                 .append(") VALUES(?, ?)");
 
         for (Map.Entry<String, String> metaEntry : data.entrySet()) {
-            try (PreparedStatement updateStatement = connection.prepareStatement(updateQuery.toString())) {
+            try {
+                PreparedStatement updateStatement = prepareCachedStatement(updateQuery.toString());
                 updateStatement.setString(2, metaEntry.getKey());
                 updateStatement.setString(1, metaEntry.getValue());
                 if (updateStatement.executeUpdate() == 0) {
                     // No rows updated -> insert data
-                    try (PreparedStatement insertStatement = connection.prepareStatement(insertQuery.toString())) {
+                    try {
+                        PreparedStatement insertStatement = prepareCachedStatement(insertQuery.toString());
                         insertStatement.setString(1, metaEntry.getKey());
                         insertStatement.setString(2, metaEntry.getValue());
                         insertStatement.executeUpdate();
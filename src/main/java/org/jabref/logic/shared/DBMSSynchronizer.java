@@ -3,11 +3,15 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.exporter.BibDatabaseWriter;
@@ -28,6 +32,7 @@ import org.jabref.model.database.shared.DatabaseConnectionProperties;
 import org.jabref.model.database.shared.DatabaseNotSupportedException;
 import org.jabref.model.database.shared.DatabaseSynchronizer;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
@@ -49,6 +54,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
 
     private DBMSProcessor dbmsProcessor;
+    private DBMSConnectionPool connectionPool;
+    private SharedEntryUpdateQueue updateQueue;
     private String dbName;
     private final BibDatabaseContext bibDatabaseContext;
     private MetaData metaData;
@@ -59,6 +66,17 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final GlobalBibtexKeyPattern globalCiteKeyPattern;
     private final FileUpdateMonitor fileMonitor;
 
+    /**
+     * Latest revision of the change log which has been synchronized, or -1 if all entries have to be synchronized
+     */
+    private long lastSeenRevision = -1;
+
+    /**
+     * Shared IDs of the entries whose local changes have been refused due to a newer shared version. These entries are
+     * not overwritten by shared changes until the conflict has been resolved (see {@link #synchronizeSharedEntry(BibEntry)}).
+     */
+    private final Set<Integer> conflictingSharedIDs = ConcurrentHashMap.newKeySet();
+
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             GlobalBibtexKeyPattern globalCiteKeyPattern, FileUpdateMonitor fileMonitor) {
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
@@ -80,14 +98,16 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
+            flushEntryUpdates();
             synchronizeLocalMetaData();
             synchronizeLocalDatabase(); // Pull changes for the case that there were some
-            dbmsProcessor.insertEntries(event.getBibEntries());
+            dbmsProcessor.insertEntries(event.getBibEntries(), eventBus::post);
             }
         }
 
     /**
-     * Listening method. Updates an existing shared {@link BibEntry}.
+     * Listening method. Schedules the update of an existing shared {@link BibEntry}. The update is performed in the
+     * background, together with further changes made meanwhile (see {@link SharedEntryUpdateQueue}).
      *
      * @param event {@link FieldChangedEvent} object
      */
@@ -95,11 +115,31 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     public void listen(FieldChangedEvent event) {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
-        if (isPresentLocalBibEntry(event.getBibEntry()) && isEventSourceAccepted(event) && checkCurrentConnection()) {
-            synchronizeLocalMetaData();
+        if (isPresentLocalBibEntry(event.getBibEntry()) && isEventSourceAccepted(event)) {
             BibEntry bibEntry = event.getBibEntry();
-            synchronizeSharedEntry(bibEntry);
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
+            updateQueue.add(bibEntry);
+        }
+    }
+
+    /**
+     * Listening method. Schedules the update of the shared {@link BibEntry} objects changed in a batch (see
+     * {@link BibDatabase#runInBatch(Runnable)}). Each entry is updated only once.
+     *
+     * @param event {@link EntriesChangedEvent} object
+     */
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        Map<String, BibEntry> changedEntries = new LinkedHashMap<>();
+        for (FieldChangedEvent fieldChange : event.getFieldChanges()) {
+            BibEntry bibEntry = fieldChange.getBibEntry();
+            if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(fieldChange)) {
+                changedEntries.put(bibEntry.getId(), bibEntry);
+            }
+        }
+        for (BibEntry bibEntry : changedEntries.values()) {
+            BibDatabaseWriter.applySaveActions(bibEntry, metaData);
+            updateQueue.add(bibEntry);
         }
     }
 
@@ -114,6 +154,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to delete the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
+            flushEntryUpdates();
             List<BibEntry> entries = event.getBibEntries();
             dbmsProcessor.removeEntries(entries);
             synchronizeLocalMetaData();
@@ -129,6 +170,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     @Subscribe
     public void listen(MetaDataChangedEvent event) {
         if (checkCurrentConnection()) {
+            flushEntryUpdates();
             synchronizeSharedMetaData(event.getMetaData(), globalCiteKeyPattern);
             synchronizeLocalDatabase();
             applyMetaData();
@@ -154,6 +196,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
                 // Calling dbmsProcessor.setupSharedDatabase() lets dbmsProcessor.checkBaseIntegrity() be true.
                 dbmsProcessor.setupSharedDatabase();
+            } else if (!dbmsProcessor.checkChangeLogIntegrity()) {
+                LOGGER.info("Change log missing. Adding...");
+                dbmsProcessor.setUpChangeLog();
             }
         } catch (SQLException e) {
             LOGGER.error("Could not check intergrity", e);
@@ -168,6 +213,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
      * {@link BibEntry}.
+     * <p>
+     * The first synchronization compares all entries. Afterwards, only the entries logged as changed since the last
+     * synchronization are compared.
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -175,42 +223,90 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
+        // write pending local changes first, so that they are checked against the shared changes instead of being overwritten
+        flushEntryUpdates();
+        if (lastSeenRevision < 0) {
+            synchronizeAllEntries();
+        } else {
+            synchronizeChangedEntries();
+        }
+    }
+
+    private void synchronizeAllEntries() {
+        // changes logged while synchronizing are pulled again the next time, which does not harm
+        long latestRevision = dbmsProcessor.getLatestRevision();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        removeNotSharedEntries(bibDatabase.getEntries(), idVersionMap.keySet());
+        mergeSharedEntries(idVersionMap);
+        lastSeenRevision = latestRevision;
+    }
+
+    private void synchronizeChangedEntries() {
+        // logging is serialized until the commit (see DBMSProcessor), thus revisions become visible in ascending order
+        // and no change below the last seen revision can show up later
+        SortedMap<Long, Integer> changes = dbmsProcessor.getEntryChangesSince(lastSeenRevision);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> changedIDs = new HashSet<>(changes.values());
+        Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping(changedIDs);
+
+        // changed entries which do not exist anymore have been removed
+        Set<Integer> removedIDs = new HashSet<>(changedIDs);
+        removedIDs.removeAll(idVersionMap.keySet());
+        removeEntriesLocally(bibDatabase.getEntries().stream()
+                                        .filter(localEntry -> removedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                        .collect(Collectors.toList()));
+
+        mergeSharedEntries(idVersionMap);
+        lastSeenRevision = changes.lastKey();
+    }
+
+    /**
+     * Updates the local entries whose shared version is newer and inserts the shared entries not present locally.
+     *
+     * @param idVersionMap mapping between the shared IDs and the versions of the shared entries to compare
+     */
+    private void mergeSharedEntries(Map<Integer, Integer> idVersionMap) {
+        Map<Integer, BibEntry> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntriesBySharedID.put(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
         // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (localEntry == null) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if ((idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())
+                    && !hasUnsynchronizedChanges(localEntry)) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+
+        if (!entriesToUpdateInLocalDatabase.isEmpty()) {
+            for (BibEntry sharedEntry : dbmsProcessor.getSharedEntries(entriesToUpdateInLocalDatabase)) {
+                BibEntry localEntry = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+                // update fields
+                localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+                localEntry.getSharedBibEntryData()
+                          .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+                sharedEntry.getFieldMap().forEach(
+                        // copy remote values to local entry
+                        (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+                );
+
+                // locally remove not existing fields
+                localEntry.getFields().stream()
+                          .filter(field -> !sharedEntry.hasField(field))
+                          .forEach(
+                                  field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                          );
             }
         }
 
@@ -220,6 +316,15 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Checks whether the local entry has changes which have not been written to the shared database, because they are
+     * still to be written or have been refused due to a conflict the user has to resolve.
+     */
+    private boolean hasUnsynchronizedChanges(BibEntry localEntry) {
+        return updateQueue.isPending(localEntry)
+                || conflictingSharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID());
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -227,10 +332,12 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      * @param sharedIDs    Set of all IDs which are present on shared database
      */
     private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
-        List<BibEntry> entriesToRemove =
-                localEntries.stream()
-                            .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
-                            .collect(Collectors.toList());
+        removeEntriesLocally(localEntries.stream()
+                                         .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                         .collect(Collectors.toList()));
+    }
+
+    private void removeEntriesLocally(List<BibEntry> entriesToRemove) {
         if (!entriesToRemove.isEmpty()) {
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
@@ -249,13 +356,31 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         try {
             BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
             dbmsProcessor.updateEntry(bibEntry);
+            // the shared entry contains the local changes now
+            conflictingSharedIDs.remove(bibEntry.getSharedBibEntryData().getSharedID());
         } catch (OfflineLockException exception) {
-            eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+            refuseUpdate(exception);
         } catch (SQLException e) {
             LOGGER.error("SQL Error", e);
         }
     }
 
+    /**
+     * Keeps the local entry whose update has been refused from being overwritten and notifies the listeners about the
+     * conflict.
+     */
+    private void refuseUpdate(OfflineLockException exception) {
+        conflictingSharedIDs.add(exception.getLocalBibEntry().getSharedBibEntryData().getSharedID());
+        eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+    }
+
+    /**
+     * Writes the changes of entries scheduled to be written in the background and waits until they are written.
+     */
+    public void flushEntryUpdates() {
+        updateQueue.flush();
+    }
+
     /**
      * Synchronizes all meta data locally.
      */
@@ -302,7 +427,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
                     dbmsProcessor.updateEntry(bibEntry);
                 }
             } catch (OfflineLockException exception) {
-                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+                refuseUpdate(exception);
             } catch (SQLException e) {
                 LOGGER.error("SQL Error: ", e);
             }
@@ -359,11 +484,18 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         this.dbName = connection.getProperties().getDatabase();
         this.currentConnection = connection.getConnection();
         this.dbmsProcessor = DBMSProcessor.getProcessorInstance(connection);
+        this.lastSeenRevision = -1;
+        this.conflictingSharedIDs.clear();
+        this.connectionPool = new DBMSConnectionPool(connection.getProperties());
+        this.updateQueue = new SharedEntryUpdateQueue(connectionPool, SharedEntryUpdateQueue.DEFAULT_DELAY,
+                this::refuseUpdate, this::pullChanges);
         initializeDatabases();
     }
 
     @Override
     public void closeSharedDatabase() {
+        updateQueue.close();
+        connectionPool.close();
         try {
             dbmsProcessor.stopNotificationListener();
             currentConnection.close();
@@ -373,7 +505,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     }
 
     private boolean isPresentLocalBibEntry(BibEntry bibEntry) {
-        return bibDatabase.getEntries().contains(bibEntry);
+        return bibDatabase.containsEntryWithId(bibEntry.getId());
     }
 
     @Override
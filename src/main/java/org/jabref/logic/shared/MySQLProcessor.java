@@ -1,6 +1,8 @@
 package org.jabref.logic.shared;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import org.jabref.model.database.shared.DatabaseConnection;
 
@@ -9,6 +11,12 @@ import org.jabref.model.database.shared.DatabaseConnection;
  */
 public class MySQLProcessor extends DBMSProcessor {
 
+    /**
+     * Named locks are global to the server, thus the name of the database is part of the lock name
+     */
+    private static final String CHANGE_LOG_LOCK = "CONCAT(DATABASE(), '.ENTRY_LOG')";
+    private static final int CHANGE_LOG_LOCK_TIMEOUT_SECONDS = 60;
+
     public MySQLProcessor(DatabaseConnection connection) {
         super(connection);
     }
@@ -39,6 +47,35 @@ public class MySQLProcessor extends DBMSProcessor {
                 "`VALUE` text NOT NULL)");
     }
 
+    @Override
+    protected void setUpChangeLog() throws SQLException {
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `ENTRY_LOG` (" +
+                "`REVISION` BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT, " +
+                "`ENTRY_SHARED_ID` INT(11) NOT NULL)");
+    }
+
+    /**
+     * A named lock is used, as locking a table commits the current transaction in MySQL. The lock is bound to the
+     * connection, not to the transaction, and thus has to be released explicitly.
+     */
+    @Override
+    protected void lockChangeLog() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT GET_LOCK(" + CHANGE_LOG_LOCK + ", " + CHANGE_LOG_LOCK_TIMEOUT_SECONDS + ")")) {
+            if (!resultSet.next() || (resultSet.getInt(1) != 1)) {
+                throw new SQLException("Could not lock the change log");
+            }
+        }
+    }
+
+    @Override
+    protected void unlockChangeLog() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeQuery("SELECT RELEASE_LOCK(" + CHANGE_LOG_LOCK + ")").close();
+        }
+    }
+
     @Override
     String escape(String expression) {
         return "`" + expression + "`";
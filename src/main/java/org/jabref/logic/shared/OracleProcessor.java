@@ -1,21 +1,18 @@
 package org.jabref.logic.shared;
 
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
+import java.sql.CallableStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
-import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.listener.OracleNotificationListener;
 import org.jabref.model.database.shared.DatabaseConnection;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.field.Field;
 
 import oracle.jdbc.OracleConnection;
 import oracle.jdbc.OracleStatement;
+import oracle.jdbc.OracleTypes;
 import oracle.jdbc.dcn.DatabaseChangeRegistration;
 
 /**
@@ -67,6 +64,30 @@ public class OracleProcessor extends DBMSProcessor {
                 "\"VALUE\"  CLOB NOT NULL)");
     }
 
+    @Override
+    protected void setUpChangeLog() throws SQLException {
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE \"ENTRY_LOG\" (" +
+                "\"REVISION\" NUMBER NOT NULL, " +
+                "\"ENTRY_SHARED_ID\" NUMBER NOT NULL, " +
+                "CONSTRAINT \"ENTRY_LOG_PK\" PRIMARY KEY (\"REVISION\"))");
+
+        connection.createStatement().executeUpdate("CREATE SEQUENCE \"ENTRY_LOG_SEQ\"");
+
+        connection.createStatement().executeUpdate("CREATE TRIGGER \"ENTRY_LOG_T\" BEFORE INSERT ON \"ENTRY_LOG\" " +
+                "FOR EACH ROW BEGIN SELECT \"ENTRY_LOG_SEQ\".NEXTVAL INTO :NEW.revision FROM DUAL; END;");
+    }
+
+    /**
+     * The lock mode conflicts with itself, but not with reading.
+     */
+    @Override
+    protected void lockChangeLog() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LOCK TABLE \"ENTRY_LOG\" IN EXCLUSIVE MODE");
+        }
+    }
+
     @Override
     String escape(String expression) {
         return expression;
@@ -104,74 +125,37 @@ public class OracleProcessor extends DBMSProcessor {
 
     }
 
+    /**
+     * Inserts all given entries with a single statement. The insert is run by a PL/SQL block as a bulk operation
+     * (FORALL), as the driver cannot return the keys generated by a JDBC batch. The generated IDs are returned in the
+     * order of the entries.
+     */
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> entries) {
-        try {
-            for (BibEntry entry : entries) {
-                String insertIntoEntryQuery =
-                        "INSERT INTO " +
-                                escape("ENTRY") +
-                                "(" +
-                                escape("TYPE") +
-                                ") VALUES(?)";
-
-                try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery,
-                        new String[]{"SHARED_ID"})) {
-
-                    preparedEntryStatement.setString(1, entry.getType().getName());
-                    preparedEntryStatement.executeUpdate();
-
-                    try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                        if (generatedKeys.next()) {
-                            entry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
-                        }
-                    }
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
-        }
-    }
-
-    @Override
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(entry -> new ArrayList<>(entry.getFields()))
-                    .collect(Collectors.toList());
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT ALL");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
+    protected void insertIntoEntryTable(List<BibEntry> entries) throws SQLException {
+        String insertIntoEntryQuery =
+                "DECLARE " +
+                        "\"TYPES\" SYS.ODCIVARCHAR2LIST := ?; " +
+                        "\"IDS\" SYS.ODCINUMBERLIST; " +
+                "BEGIN " +
+                        "FORALL i IN 1 .. \"TYPES\".COUNT " +
+                        "INSERT INTO \"ENTRY\"(\"TYPE\") VALUES(\"TYPES\"(i)) " +
+                        "RETURNING \"SHARED_ID\" BULK COLLECT INTO \"IDS\"; " +
+                        "? := \"IDS\"; " +
+                "END;";
+
+        Object[] types = entries.stream().map(entry -> entry.getType().getName()).toArray();
+        try (CallableStatement preparedEntryStatement = connection.prepareCall(insertIntoEntryQuery)) {
+            preparedEntryStatement.setArray(1, connection.unwrap(OracleConnection.class).createOracleArray("SYS.ODCIVARCHAR2LIST", types));
+            preparedEntryStatement.registerOutParameter(2, OracleTypes.ARRAY, "SYS.ODCINUMBERLIST");
+            preparedEntryStatement.execute();
+
+            Object[] generatedKeys = (Object[]) preparedEntryStatement.getArray(2).getArray();
+            if (generatedKeys.length != entries.size()) {
+                throw new SQLException("Expected " + entries.size() + " generated IDs, but got " + generatedKeys.length);
             }
-            for (int i = 0; i < numFields; i++) {
-                insertFieldQuery.append(" INTO ")
-                                .append(escape("FIELD"))
-                                .append(" (")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES (?, ?, ?)");
+            for (int i = 0; i < entries.size(); i++) {
+                entries.get(i).getSharedBibEntryData().setSharedID(((Number) generatedKeys[i]).intValue()); // set generated ID locally
             }
-            insertFieldQuery.append(" SELECT * FROM DUAL");
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
-                }
-                preparedFieldStatement.executeUpdate();            }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
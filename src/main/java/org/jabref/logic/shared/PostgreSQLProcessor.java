@@ -50,7 +50,15 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     }
 
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void setUpChangeLog() throws SQLException {
+        connection.createStatement().executeUpdate(
+                                                   "CREATE TABLE IF NOT EXISTS \"ENTRY_LOG\" (" +
+                                                   "\"REVISION\" BIGSERIAL PRIMARY KEY, " +
+                                                   "\"ENTRY_SHARED_ID\" INTEGER NOT NULL)");
+    }
+
+    @Override
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape("ENTRY"))
@@ -79,8 +87,16 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                     LOGGER.error("Error: Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    /**
+     * The lock mode conflicts with itself, but not with reading.
+     */
+    @Override
+    protected void lockChangeLog() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LOCK TABLE \"ENTRY_LOG\" IN SHARE ROW EXCLUSIVE MODE");
         }
     }
 
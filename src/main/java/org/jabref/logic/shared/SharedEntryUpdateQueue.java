@@ -0,0 +1,189 @@
+package org.jabref.logic.shared;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes changed entries to the shared database in the background. Entries changed within a short period of time are
+ * collected and written within a single transaction. An entry changed several times during this period (e.g., while
+ * typing in the entry editor) is written only once, using its values at the time of writing.
+ * <p>
+ * The changes are written using a connection of the given pool, so that writing does not block other work on the
+ * shared database. Updates refused because of a newer shared version are passed to the given listener on the
+ * background thread. If the changes cannot be written (e.g., because the connection has been lost), writing is retried
+ * after increasing delays.
+ */
+class SharedEntryUpdateQueue implements AutoCloseable {
+
+    /**
+     * Time to wait after the first change before the collected changes are written
+     */
+    static final Duration DEFAULT_DELAY = Duration.ofMillis(500);
+
+    /**
+     * Longest time to wait before writing changes again which could not be written
+     */
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedEntryUpdateQueue.class);
+
+    private final DBMSConnectionPool connectionPool;
+    private final Duration delay;
+    private final Consumer<OfflineLockException> refusedUpdateListener;
+    private final Runnable afterWriting;
+    private volatile Thread writerThread;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        writerThread = new Thread(runnable, "Shared entry updates");
+        writerThread.setDaemon(true);
+        return writerThread;
+    });
+
+    /**
+     * The entries to be written, by their id
+     */
+    private final Map<String, BibEntry> pendingEntries = new LinkedHashMap<>();
+
+    /**
+     * The ids of the entries currently being written
+     */
+    private Set<String> writingEntryIds = Set.of();
+    private boolean isWriteScheduled;
+
+    /**
+     * Time to wait before writing again after a failed write, doubled after each failure
+     */
+    private Duration retryDelay;
+
+    /**
+     * @param refusedUpdateListener notified about each entry which has not been written due to a newer shared version
+     * @param afterWriting          run after the collected changes have been written
+     */
+    SharedEntryUpdateQueue(DBMSConnectionPool connectionPool, Duration delay, Consumer<OfflineLockException> refusedUpdateListener, Runnable afterWriting) {
+        this.connectionPool = connectionPool;
+        this.delay = delay;
+        this.refusedUpdateListener = refusedUpdateListener;
+        this.afterWriting = afterWriting;
+        this.retryDelay = delay;
+    }
+
+    /**
+     * Schedules writing the given entry to the shared database.
+     */
+    synchronized void add(BibEntry entry) {
+        pendingEntries.put(entry.getId(), entry);
+        if (!isWriteScheduled) {
+            // the delay is not extended by further changes, so that continuous typing does not defer the write forever
+            executor.schedule(this::writePendingEntries, delay.toMillis(), TimeUnit.MILLISECONDS);
+            isWriteScheduled = true;
+        }
+    }
+
+    /**
+     * Checks whether changes of the given entry have not been written yet, i.e., the entry is waiting to be written or
+     * is being written.
+     */
+    synchronized boolean isPending(BibEntry entry) {
+        return pendingEntries.containsKey(entry.getId()) || writingEntryIds.contains(entry.getId());
+    }
+
+    /**
+     * Writes all collected changes and waits until they are written.
+     */
+    void flush() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        if (Thread.currentThread() == writerThread) {
+            // called while reacting to the changes just written
+            writePendingEntries();
+            return;
+        }
+        try {
+            executor.submit(this::writePendingEntries).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.error("Could not write changed entries", e);
+        }
+    }
+
+    private void writePendingEntries() {
+        List<BibEntry> entries;
+        synchronized (this) {
+            entries = new ArrayList<>(pendingEntries.values());
+            writingEntryIds = new HashSet<>(pendingEntries.keySet());
+            pendingEntries.clear();
+            isWriteScheduled = false;
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            DBMSProcessor dbmsProcessor = connectionPool.acquireProcessor();
+            try {
+                dbmsProcessor.updateEntries(entries).forEach(refusedUpdateListener);
+            } finally {
+                connectionPool.releaseProcessor(dbmsProcessor);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+            // keep the changes to retry later, changes made meanwhile are newer
+            synchronized (this) {
+                for (BibEntry entry : entries) {
+                    pendingEntries.putIfAbsent(entry.getId(), entry);
+                }
+                writingEntryIds = Set.of();
+                scheduleRetry();
+            }
+            return;
+        }
+        synchronized (this) {
+            writingEntryIds = Set.of();
+            retryDelay = delay;
+        }
+        afterWriting.run();
+    }
+
+    private synchronized void scheduleRetry() {
+        if (isWriteScheduled || executor.isShutdown()) {
+            return;
+        }
+        executor.schedule(this::writePendingEntries, retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+        isWriteScheduled = true;
+        Duration doubledDelay = retryDelay.multipliedBy(2);
+        retryDelay = (doubledDelay.compareTo(MAX_RETRY_DELAY) < 0) ? doubledDelay : MAX_RETRY_DELAY;
+    }
+
+    /**
+     * Writes all collected changes and stops the background thread. Changes which cannot be written are dropped.
+     */
+    @Override
+    public void close() {
+        flush();
+        // pending retries are not waited for
+        executor.shutdownNow();
+        synchronized (this) {
+            if (!pendingEntries.isEmpty()) {
+                LOGGER.warn("{} changed entries could not be written to the shared database", pendingEntries.size());
+            }
+        }
+    }
+}
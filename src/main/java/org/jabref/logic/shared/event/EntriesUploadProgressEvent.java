@@ -0,0 +1,50 @@
+package org.jabref.logic.shared.event;
+
+import java.time.Duration;
+
+/**
+ * A new {@link EntriesUploadProgressEvent} is fired, whenever a chunk of entries has been sent to the shared database
+ * while inserting many entries at once. The last event, which is {@link #isFinished() finished}, is fired after the
+ * entries have been committed.
+ */
+public class EntriesUploadProgressEvent {
+
+    private final int uploadedEntries;
+    private final int totalEntries;
+    private final Duration elapsedTime;
+
+    /**
+     * @param uploadedEntries Number of entries sent so far
+     * @param totalEntries    Number of entries to be sent in total
+     * @param elapsedTime     Time elapsed since the upload started
+     */
+    public EntriesUploadProgressEvent(int uploadedEntries, int totalEntries, Duration elapsedTime) {
+        this.uploadedEntries = uploadedEntries;
+        this.totalEntries = totalEntries;
+        this.elapsedTime = elapsedTime;
+    }
+
+    public int getUploadedEntries() {
+        return uploadedEntries;
+    }
+
+    public int getTotalEntries() {
+        return totalEntries;
+    }
+
+    public Duration getElapsedTime() {
+        return elapsedTime;
+    }
+
+    public boolean isFinished() {
+        return uploadedEntries == totalEntries;
+    }
+
+    /**
+     * Returns the throughput of the upload so far
+     */
+    public double getEntriesPerSecond() {
+        long elapsedMillis = Math.max(1, elapsedTime.toMillis());
+        return (uploadedEntries * 1000.0) / elapsedMillis;
+    }
+}
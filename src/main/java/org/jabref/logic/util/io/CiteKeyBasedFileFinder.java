@@ -1,33 +1,45 @@
 package org.jabref.logic.util.io;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiPredicate;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.bibtexkeypattern.BibtexKeyGenerator;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.FileHelper;
 
+/**
+ * Finds the files whose names start with the citation key of an entry. The directories are searched only once: the
+ * files found are kept sorted by name, so that looking up the files of an entry does not go through all files.
+ */
 class CiteKeyBasedFileFinder implements FileFinder {
 
     private final boolean exactKeyOnly;
+    private final DirectoryIndex directoryIndex;
+
+    private List<Path> indexedDirectories;
+    private List<String> indexedExtensions;
+    private NavigableMap<String, List<Path>> filesByName;
 
     CiteKeyBasedFileFinder(boolean exactKeyOnly) {
+        this(exactKeyOnly, new DirectoryIndex());
+    }
+
+    CiteKeyBasedFileFinder(boolean exactKeyOnly, DirectoryIndex directoryIndex) {
         this.exactKeyOnly = exactKeyOnly;
+        this.directoryIndex = directoryIndex;
     }
 
     @Override
@@ -43,22 +55,22 @@ class CiteKeyBasedFileFinder implements FileFinder {
 
         List<Path> result = new ArrayList<>();
 
-        // First scan directories
-        Set<Path> filesWithExtension = findFilesByExtension(directories, extensions);
-
-        // Now look for keys
-        for (Path file : filesWithExtension) {
-            String name = file.getFileName().toString();
+        // All files starting with the key follow each other in the sorted map
+        for (Map.Entry<String, List<Path>> filesWithName : getFilesByName(directories, extensions).tailMap(citeKey, true).entrySet()) {
+            String name = filesWithName.getKey();
+            if (!name.startsWith(citeKey)) {
+                break;
+            }
             String nameWithoutExtension = FileUtil.getBaseName(name);
 
             // First, look for exact matches
             if (nameWithoutExtension.equals(citeKey)) {
-                result.add(file);
+                result.addAll(filesWithName.getValue());
                 continue;
             }
             // If we get here, we did not find any exact matches. If non-exact matches are allowed, try to find one
             if (!exactKeyOnly && matches(name, citeKey)) {
-                result.add(file);
+                result.addAll(filesWithName.getValue());
             }
         }
 
@@ -66,7 +78,7 @@ class CiteKeyBasedFileFinder implements FileFinder {
     }
 
     private boolean matches(String filename, String citeKey) {
-        boolean startsWithKey = filename.startsWith(citeKey);
+        boolean startsWithKey = filename.startsWith(citeKey) && (filename.length() > citeKey.length());
         if (startsWithKey) {
             // The file name starts with the key, that's already a good start
             // However, we do not want to match "JabRefa" for "JabRef" since this is probably a file belonging to another entry published in the same time / same name
@@ -77,22 +89,35 @@ class CiteKeyBasedFileFinder implements FileFinder {
     }
 
     /**
-     * Returns a list of all files in the given directories which have one of the given extension.
+     * Returns all files in the given directories which have one of the given extensions, grouped by their name. The
+     * directories are only searched again if other directories or extensions are requested than the last time.
      */
-    private Set<Path> findFilesByExtension(List<Path> directories, List<String> extensions) throws IOException {
+    private synchronized NavigableMap<String, List<Path>> getFilesByName(List<Path> directories, List<String> extensions) {
         Objects.requireNonNull(extensions, "Extensions must not be null!");
 
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, attributes) -> !Files.isDirectory(path)
-                && extensions.contains(FileHelper.getFileExtension(path).orElse(""));
+        if ((filesByName == null) || !directories.equals(indexedDirectories) || !extensions.equals(indexedExtensions)) {
+            filesByName = new TreeMap<>();
+            for (Path file : findFilesByExtension(directories, extensions)) {
+                filesByName.computeIfAbsent(file.getFileName().toString(), name -> new ArrayList<>(1)).add(file);
+            }
+            indexedDirectories = new ArrayList<>(directories);
+            indexedExtensions = new ArrayList<>(extensions);
+        }
+        return filesByName;
+    }
 
-        Set<Path> result = new HashSet<>();
+    /**
+     * Returns a list of all files in the given directories which have one of the given extension.
+     */
+    private Set<Path> findFilesByExtension(List<Path> directories, List<String> extensions) {
+        Set<Path> result = ConcurrentHashMap.newKeySet();
+        DirectoryCrawler crawler = new DirectoryCrawler(directoryIndex,
+                path -> extensions.contains(FileHelper.getFileExtension(path).orElse("")));
         for (Path directory : directories) {
             if (Files.exists(directory)) {
-                try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension, FileVisitOption.FOLLOW_LINKS)) {
-                    result.addAll(pathStream.collect(Collectors.toSet()));
-                } catch (UncheckedIOException e) {
-                    throw new IOException("Problem in finding files", e);
-                }
+                // the crawler passes absolute paths, the files are returned relative to the given directory as before
+                Path absoluteDirectory = directory.toAbsolutePath().normalize();
+                crawler.crawl(directory, file -> result.add(directory.resolve(absoluteDirectory.relativize(file))), () -> false);
             }
         }
         return result;
@@ -0,0 +1,149 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Searches a directory and all its subdirectories for files. The directories are listed in parallel, each one by a task
+ * of a fork-join pool, using the given {@link DirectoryIndex}. Thus, only directories modified since the last search
+ * are listed again if the index is kept (see {@link DirectoryIndex#store(Path)}).
+ * <p>
+ * Links are followed. A directory which is reached again through a link below itself is skipped, to avoid cycles.
+ */
+public class DirectoryCrawler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryCrawler.class);
+
+    /**
+     * Listing directories mostly waits for the file system (especially on network shares), thus more threads than
+     * processors are used
+     */
+    private static final int PARALLELISM = Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+
+    private final DirectoryIndex directoryIndex;
+    private final Predicate<Path> fileFilter;
+
+    /**
+     * @param fileFilter decides which files are passed on, is called by several threads at once
+     */
+    public DirectoryCrawler(DirectoryIndex directoryIndex, Predicate<Path> fileFilter) {
+        this.directoryIndex = directoryIndex;
+        this.fileFilter = fileFilter;
+    }
+
+    /**
+     * Searches the given directory and passes each file accepted by the filter to the given consumer as soon as it has
+     * been found. The consumer is called by several threads at once. This method returns after all directories have
+     * been searched or the search has been canceled.
+     * <p>
+     * Unless the search has been canceled, the listings of directories which no longer exist are removed from the
+     * index.
+     *
+     * @param isCanceled checked before each directory is searched
+     */
+    public void crawl(Path directory, Consumer<Path> fileConsumer, BooleanSupplier isCanceled) {
+        Set<Path> visitedDirectories = ConcurrentHashMap.newKeySet();
+        ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+        try {
+            pool.invoke(new DirectoryTask(null, directory.toAbsolutePath().normalize(), fileConsumer, isCanceled, visitedDirectories));
+        } finally {
+            pool.shutdown();
+        }
+
+        if (!isCanceled.getAsBoolean()) {
+            directoryIndex.removeUnvisited(directory, visitedDirectories);
+        }
+    }
+
+    private class DirectoryTask extends RecursiveAction {
+
+        private final DirectoryTask parent;
+        private final Path directory;
+        private final Consumer<Path> fileConsumer;
+        private final BooleanSupplier isCanceled;
+        private final Set<Path> visitedDirectories;
+
+        /**
+         * Identifies the directory independent of the path it is reached by, set before the subdirectories are searched
+         */
+        private Object directoryKey;
+
+        private DirectoryTask(DirectoryTask parent, Path directory, Consumer<Path> fileConsumer, BooleanSupplier isCanceled, Set<Path> visitedDirectories) {
+            this.parent = parent;
+            this.directory = directory;
+            this.fileConsumer = fileConsumer;
+            this.isCanceled = isCanceled;
+            this.visitedDirectories = visitedDirectories;
+        }
+
+        @Override
+        protected void compute() {
+            if (isCanceled.getAsBoolean()) {
+                return;
+            }
+
+            DirectoryIndex.Listing listing;
+            try {
+                directoryKey = getDirectoryKey();
+                if (isCycle()) {
+                    LOGGER.debug("Skipping {}, as it links to a directory containing it", directory);
+                    return;
+                }
+                listing = directoryIndex.list(directory);
+            } catch (IOException e) {
+                LOGGER.warn("Could not list directory {}", directory, e);
+                return;
+            }
+            visitedDirectories.add(directory);
+
+            List<DirectoryTask> subdirectoryTasks = Collections.emptyList();
+            if (!listing.getSubdirectories().isEmpty()) {
+                subdirectoryTasks = new ArrayList<>(listing.getSubdirectories().size());
+                for (Path subdirectory : listing.getSubdirectories()) {
+                    DirectoryTask task = new DirectoryTask(this, subdirectory, fileConsumer, isCanceled, visitedDirectories);
+                    task.fork();
+                    subdirectoryTasks.add(task);
+                }
+            }
+
+            for (DirectoryIndex.IndexedFile file : listing.getFiles()) {
+                if (fileFilter.test(file.getPath())) {
+                    fileConsumer.accept(file.getPath());
+                }
+            }
+
+            subdirectoryTasks.forEach(ForkJoinTask::join);
+        }
+
+        private Object getDirectoryKey() throws IOException {
+            Object fileKey = Files.readAttributes(directory, BasicFileAttributes.class).fileKey();
+            // the file key is not available on all platforms (e.g., Windows)
+            return (fileKey != null) ? fileKey : directory.toRealPath();
+        }
+
+        private boolean isCycle() {
+            for (DirectoryTask ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+                if (directoryKey.equals(ancestor.directoryKey)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
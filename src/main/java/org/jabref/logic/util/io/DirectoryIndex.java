@@ -0,0 +1,239 @@
+package org.jabref.logic.util.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the listings of directories (the files with their size and modification time, and the subdirectories), so that
+ * a directory is only listed again if it has been modified since. Adding, removing or renaming a file changes the
+ * modification time of its directory, thus checking a directory costs a single file system access as long as it has
+ * not been changed.
+ * <p>
+ * The index can be stored in a file and loaded again, so that it can be used across sessions. This pays off for large
+ * directory trees, especially on network shares. The index can be used by several threads at once.
+ */
+public class DirectoryIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryIndex.class);
+
+    private static final int MAGIC_NUMBER = 0x4A524449;
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * A listing made this shortly after the last modification of the directory is not kept, as the directory might
+     * have been modified again without changing the modification time (which has a limited resolution)
+     */
+    private static final long MODIFICATION_TIME_RESOLUTION_MILLIS = 2000;
+
+    private final Map<Path, Listing> listings = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the index stored in the given file. If the file does not exist or cannot be read, the index is empty.
+     */
+    public static DirectoryIndex load(Path indexFile) {
+        DirectoryIndex index = new DirectoryIndex();
+        if (!Files.exists(indexFile)) {
+            return index;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if ((input.readInt() != MAGIC_NUMBER) || (input.readInt() != FORMAT_VERSION)) {
+                return index;
+            }
+            int numberOfListings = input.readInt();
+            for (int i = 0; i < numberOfListings; i++) {
+                Path directory = Paths.get(input.readUTF());
+                FileTime lastModified = FileTime.fromMillis(input.readLong());
+                int numberOfFiles = input.readInt();
+                List<IndexedFile> files = new ArrayList<>(numberOfFiles);
+                for (int j = 0; j < numberOfFiles; j++) {
+                    files.add(new IndexedFile(directory.resolve(input.readUTF()), input.readLong(), FileTime.fromMillis(input.readLong())));
+                }
+                int numberOfSubdirectories = input.readInt();
+                List<Path> subdirectories = new ArrayList<>(numberOfSubdirectories);
+                for (int j = 0; j < numberOfSubdirectories; j++) {
+                    subdirectories.add(directory.resolve(input.readUTF()));
+                }
+                index.listings.put(directory, new Listing(lastModified, files, subdirectories));
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not read directory index {}", indexFile, e);
+            index.listings.clear();
+        }
+        return index;
+    }
+
+    /**
+     * Stores this index in the given file, replacing the file atomically.
+     */
+    public void store(Path indexFile) throws IOException {
+        Path directory = indexFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        // a temporary file of its own, as several instances of JabRef may write the index at the same time
+        Path temporaryFile = Files.createTempFile(directory, indexFile.getFileName().toString(), ".tmp");
+        try {
+            writeIndexFile(temporaryFile);
+            Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private void writeIndexFile(Path temporaryFile) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(FORMAT_VERSION);
+            List<Map.Entry<Path, Listing>> entries = new ArrayList<>(listings.entrySet());
+            output.writeInt(entries.size());
+            for (Map.Entry<Path, Listing> entry : entries) {
+                Listing listing = entry.getValue();
+                output.writeUTF(entry.getKey().toString());
+                output.writeLong(listing.lastModified.toMillis());
+                output.writeInt(listing.files.size());
+                for (IndexedFile file : listing.files) {
+                    output.writeUTF(file.getPath().getFileName().toString());
+                    output.writeLong(file.getSize());
+                    output.writeLong(file.getLastModified().toMillis());
+                }
+                output.writeInt(listing.subdirectories.size());
+                for (Path subdirectory : listing.subdirectories) {
+                    output.writeUTF(subdirectory.getFileName().toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the listing of the given directory. The directory is only listed if it is not contained in the index or
+     * has been modified since it has been listed.
+     */
+    public Listing list(Path directory) throws IOException {
+        Path absoluteDirectory = directory.toAbsolutePath().normalize();
+        FileTime lastModified = Files.getLastModifiedTime(absoluteDirectory);
+        Listing listing = listings.get(absoluteDirectory);
+        if ((listing != null) && listing.lastModified.equals(lastModified)) {
+            return listing;
+        }
+
+        long listingTime = System.currentTimeMillis();
+        listing = readListing(absoluteDirectory, lastModified);
+        if ((listingTime - lastModified.toMillis()) >= MODIFICATION_TIME_RESOLUTION_MILLIS) {
+            listings.put(absoluteDirectory, listing);
+        } else {
+            listings.remove(absoluteDirectory);
+        }
+        return listing;
+    }
+
+    private static Listing readListing(Path directory, FileTime lastModified) throws IOException {
+        List<IndexedFile> files = new ArrayList<>();
+        List<Path> subdirectories = new ArrayList<>();
+        // walking with a depth of one lists the directory and provides the attributes of its content at once, links are
+        // followed, thus links to directories are listed as subdirectories (cycles are skipped by the DirectoryCrawler)
+        Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), 1, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (attributes.isDirectory()) {
+                    subdirectories.add(file);
+                } else if (attributes.isRegularFile()) {
+                    files.add(new IndexedFile(file, attributes.size(), attributes.lastModifiedTime()));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exception) throws IOException {
+                if (file.equals(directory)) {
+                    throw exception;
+                }
+                LOGGER.debug("Could not read {}", file, exception);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return new Listing(lastModified, files, subdirectories);
+    }
+
+    /**
+     * Removes the listings of the directories below the given one (including itself) which are not contained in the
+     * given directories, e.g., because they have been deleted since they have been listed.
+     */
+    public void removeUnvisited(Path directory, Collection<Path> visitedDirectories) {
+        Path absoluteDirectory = directory.toAbsolutePath().normalize();
+        listings.keySet().removeIf(indexedDirectory -> indexedDirectory.startsWith(absoluteDirectory)
+                && !visitedDirectories.contains(indexedDirectory));
+    }
+
+    public static class Listing {
+
+        private final FileTime lastModified;
+        private final List<IndexedFile> files;
+        private final List<Path> subdirectories;
+
+        private Listing(FileTime lastModified, List<IndexedFile> files, List<Path> subdirectories) {
+            this.lastModified = lastModified;
+            this.files = Collections.unmodifiableList(files);
+            this.subdirectories = Collections.unmodifiableList(subdirectories);
+        }
+
+        /**
+         * Returns the files contained in the directory (not in its subdirectories), with absolute paths
+         */
+        public List<IndexedFile> getFiles() {
+            return files;
+        }
+
+        /**
+         * Returns the directories contained in the directory, with absolute paths
+         */
+        public List<Path> getSubdirectories() {
+            return subdirectories;
+        }
+    }
+
+    public static class IndexedFile {
+
+        private final Path path;
+        private final long size;
+        private final FileTime lastModified;
+
+        private IndexedFile(Path path, long size, FileTime lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public FileTime getLastModified() {
+            return lastModified;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package org.jabref.logic.util.io;
 public class FileFinders {
     /**
      * Creates a preconfigurated file finder based on the given AutoLink preferences.
+     * <p>
+     * The finder lists each directory only once, so that searching the files of many entries does not search the file
+     * system again for each entry. Thus, a new finder should be created for each search run.
      */
     public static FileFinder constructFromConfiguration(AutoLinkPreferences autoLinkPreferences) {
         if (autoLinkPreferences.isUseRegularExpression()) {
@@ -1,44 +1,80 @@
 package org.jabref.logic.util.io;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.function.BiPredicate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.bibtexkeypattern.BracketedPattern;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.strings.StringUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class RegExpBasedFileFinder implements FileFinder {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegExpBasedFileFinder.class);
+
     private static final String EXT_MARKER = "__EXTENSION__";
 
     private static final Pattern ESCAPE_PATTERN = Pattern.compile("([^\\\\])\\\\([^\\\\])");
 
     private static final Pattern SQUARE_BRACKETS_PATTERN = Pattern.compile("\\[.*?\\]");
-    private final String regExp;
+
+    private static final Pattern WINDOWS_DRIVE_LETTER_PATTERN = Pattern.compile("^.:$");
+
     private final Character keywordDelimiter;
+    private final DirectoryIndex directoryIndex;
+
+    /**
+     * The directory parts of the expression, followed by the file name part
+     */
+    private final String[] fileParts;
+    private final String fileNamePart;
+    private final boolean startsInWorkingDirectory;
+
+    /**
+     * The listings of the directories searched so far, kept for the lifetime of this finder
+     */
+    private final Map<Path, Optional<DirectoryIndex.Listing>> listings = new ConcurrentHashMap<>();
 
     /**
      * @param regExp The expression deciding which names are acceptable.
      */
     RegExpBasedFileFinder(String regExp, Character keywordDelimiter) {
-        this.regExp = regExp;
+        this(regExp, keywordDelimiter, new DirectoryIndex());
+    }
+
+    RegExpBasedFileFinder(String regExp, Character keywordDelimiter, DirectoryIndex directoryIndex) {
         this.keywordDelimiter = keywordDelimiter;
+        this.directoryIndex = directoryIndex;
+
+        String fileName = regExp;
+        startsInWorkingDirectory = fileName.startsWith("/");
+        if (startsInWorkingDirectory) {
+            fileName = fileName.substring(1);
+        }
+
+        // Escape handling...
+        Matcher m = ESCAPE_PATTERN.matcher(fileName);
+        StringBuilder s = new StringBuilder();
+        while (m.find()) {
+            m.appendReplacement(s, m.group(1) + '/' + m.group(2));
+        }
+        m.appendTail(s);
+        fileParts = s.toString().split("/");
+        fileNamePart = (fileParts.length == 0) ? "" : fileParts[fileParts.length - 1].replace("[extension]", EXT_MARKER);
     }
 
     /**
@@ -106,48 +142,41 @@ class RegExpBasedFileFinder implements FileFinder {
      */
     private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
         List<Path> res = new ArrayList<>();
+        if (fileParts.length == 0) {
+            return res;
+        }
+
+        // the file name to look for depends on the entry only, thus it is the same in all directories
+        String filenameToLookFor = expandBrackets(fileNamePart, entry, null, keywordDelimiter).replace(EXT_MARKER, extensionRegExp);
+        Pattern fileNamePattern;
+        try {
+            fileNamePattern = Pattern.compile('^' + filenameToLookFor.replace("\\\\", "\\") + '$',
+                    Pattern.CASE_INSENSITIVE);
+        } catch (PatternSyntaxException e) {
+            throw new IOException("Could not look for " + filenameToLookFor, e);
+        }
+
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            Path actualDirectory = startsInWorkingDirectory ? Paths.get(".") : directory;
+            res.addAll(findFile(entry, actualDirectory, 0, fileNamePattern));
         }
         return res;
     }
 
     /**
      * The actual work-horse. Will find absolute filepaths starting from the
-     * given directory using the given regular expression string for search.
+     * given directory using the parts of the regular expression starting at the given one.
      */
-    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp) throws IOException {
+    private List<Path> findFile(final BibEntry entry, final Path directory, final int firstFilePart, final Pattern fileNamePattern) {
         List<Path> resultFiles = new ArrayList<>();
+        Path actualDirectory = directory;
 
-        String fileName = file;
-        Path actualDirectory;
-        if (fileName.startsWith("/")) {
-            actualDirectory = Paths.get(".");
-            fileName = fileName.substring(1);
-        } else {
-            actualDirectory = directory;
-        }
-
-        // Escape handling...
-        Matcher m = ESCAPE_PATTERN.matcher(fileName);
-        StringBuilder s = new StringBuilder();
-        while (m.find()) {
-            m.appendReplacement(s, m.group(1) + '/' + m.group(2));
-        }
-        m.appendTail(s);
-        fileName = s.toString();
-        String[] fileParts = fileName.split("/");
-
-        if (fileParts.length == 0) {
-            return resultFiles;
-        }
-
-        for (int index = 0; index < (fileParts.length - 1); index++) {
+        for (int index = firstFilePart; index < (fileParts.length - 1); index++) {
 
             String dirToProcess = fileParts[index];
             dirToProcess = expandBrackets(dirToProcess, entry, null, keywordDelimiter);
 
-            if (dirToProcess.matches("^.:$")) { // Windows Drive Letter
+            if (WINDOWS_DRIVE_LETTER_PATTERN.matcher(dirToProcess).matches()) { // Windows Drive Letter
                 actualDirectory = Paths.get(dirToProcess + '/');
                 continue;
             }
@@ -159,57 +188,71 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-                File[] subDirs = actualDirectory.toFile().listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
-                        }
-                    }
+                for (Path subDir : getSubdirectories(actualDirectory)) {
+                    resultFiles.addAll(findFile(entry, subDir, index + 1, fileNamePattern));
                 }
             }
             // Do for all direct and indirect subdirs
             if ("**".equals(dirToProcess)) {
-                String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
-
-                final Path rootDirectory = actualDirectory;
-                try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
-                    // We only want to transverse directory (and not the current one; this is already done below)
-                    for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
-                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp));
-                    }
-                } catch (UncheckedIOException ioe) {
-                    throw new IOException(ioe);
+                // We only want to transverse directory (and not the current one; this is already done below)
+                for (Path path : getAllSubdirectories(actualDirectory)) {
+                    resultFiles.addAll(findFile(entry, path, index + 1, fileNamePattern));
                 }
             } // End process directory information
         }
 
         // Last step: check if the given file can be found in this directory
-        String filePart = fileParts[fileParts.length - 1].replace("[extension]", EXT_MARKER);
-        String filenameToLookFor = expandBrackets(filePart, entry, null, keywordDelimiter).replaceAll(EXT_MARKER, extensionRegExp);
-
-        try {
-            final Pattern toMatch = Pattern.compile('^' + filenameToLookFor.replaceAll("\\\\\\\\", "\\\\") + '$',
-                    Pattern.CASE_INSENSITIVE);
-            BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches();
-            resultFiles.addAll(collectFilesWithMatcher(actualDirectory, matcher));
-        } catch (UncheckedIOException | PatternSyntaxException e) {
-            throw new IOException("Could not look for " + filenameToLookFor, e);
+        for (DirectoryIndex.IndexedFile file : list(actualDirectory).map(DirectoryIndex.Listing::getFiles).orElse(Collections.emptyList())) {
+            String fileName = file.getPath().getFileName().toString();
+            if (fileNamePattern.matcher(fileName).matches()) {
+                resultFiles.add(actualDirectory.resolve(fileName));
+            }
         }
 
         return resultFiles;
     }
 
-    private List<Path> collectFilesWithMatcher(Path actualDirectory, BiPredicate<Path, BasicFileAttributes> matcher) {
-        try (Stream<Path> pathStream = Files.find(actualDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
-            return pathStream.collect(Collectors.toList());
-        } catch (UncheckedIOException | IOException ioe) {
-            return Collections.emptyList();
+    /**
+     * Returns the direct subdirectories of the given directory, relative to it in the same way as the directory itself
+     */
+    private List<Path> getSubdirectories(Path directory) {
+        return list(directory).map(listing -> listing.getSubdirectories().stream()
+                                                      .map(subdirectory -> directory.resolve(subdirectory.getFileName()))
+                                                      .collect(Collectors.toList()))
+                              .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Returns the direct and indirect subdirectories of the given directory, each directory followed by its own
+     * subdirectories. Links to directories are not followed, to avoid cycles.
+     */
+    private List<Path> getAllSubdirectories(Path directory) {
+        List<Path> result = new ArrayList<>();
+        for (Path subdirectory : getSubdirectories(directory)) {
+            if (Files.isSymbolicLink(subdirectory)) {
+                continue;
+            }
+            result.add(subdirectory);
+            result.addAll(getAllSubdirectories(subdirectory));
         }
+        return result;
     }
 
-    private boolean isSubDirectory(Path rootDirectory, Path path) {
-        return !rootDirectory.equals(path) && Files.isDirectory(path);
+    /**
+     * Lists the given directory once, as the same directories are searched for each entry
+     */
+    private Optional<DirectoryIndex.Listing> list(Path directory) {
+        Path absoluteDirectory = directory.toAbsolutePath().normalize();
+        Optional<DirectoryIndex.Listing> listing = listings.get(absoluteDirectory);
+        if (listing == null) {
+            try {
+                listing = Optional.of(directoryIndex.list(absoluteDirectory));
+            } catch (IOException e) {
+                LOGGER.debug("Could not list directory {}", absoluteDirectory, e);
+                listing = Optional.empty();
+            }
+            listings.put(absoluteDirectory, listing);
+        }
+        return listing;
     }
 }
@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -26,6 +27,7 @@ import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.Month;
+import org.jabref.model.entry.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
@@ -59,12 +61,20 @@ public class BibDatabase {
     private final DuplicationChecker duplicationChecker = new DuplicationChecker();
 
     /**
-     * contains all entry.getID() of the current database
+     * maps all entry.getID() and cite keys of the current database to the entries
      */
-    private final Set<String> internalIDs = new HashSet<>();
+    private final EntryLookupIndex lookupIndex = new EntryLookupIndex();
+
+    private final KeyChangeListener keyChangeListener = new KeyChangeListener(this);
 
     private final EventBus eventBus = new EventBus();
 
+    /**
+     * Changes of fields collected by {@link #runInBatch(Runnable)}, also used as lock for the batch state
+     */
+    private final List<FieldChangedEvent> batchedFieldChanges = new ArrayList<>();
+    private int batchDepth;
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -73,7 +83,7 @@ public class BibDatabase {
 
     public BibDatabase() {
         this.eventBus.register(duplicationChecker);
-        this.registerListener(new KeyChangeListener(this));
+        this.registerListener(keyChangeListener);
     }
 
     public BibDatabase(List<BibEntry> entries) {
@@ -125,7 +135,7 @@ public class BibDatabase {
      * Returns whether an entry with the given ID exists (-> entry_type + hashcode).
      */
     public boolean containsEntryWithId(String id) {
-        return internalIDs.contains(id);
+        return lookupIndex.containsId(id);
     }
 
     public ObservableList<BibEntry> getEntries() {
@@ -149,14 +159,14 @@ public class BibDatabase {
 
     /**
      * Returns the entry with the given bibtex key.
+     * If several entries share the key, the first one in the database is returned.
      */
     public synchronized Optional<BibEntry> getEntryByKey(String key) {
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCiteKeyOptional().orElse(null))) {
-                return Optional.of(entry);
-            }
+        List<BibEntry> entriesWithKey = getEntriesByKey(key);
+        if (entriesWithKey.isEmpty()) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(entriesWithKey.get(0));
     }
 
     /**
@@ -167,14 +177,18 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCiteKeyOptional().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
+        List<BibEntry> result = lookupIndex.getByKey(key);
+        if (result.size() > 1) {
+            // duplicate keys are rare, thus determining the database order is only done here
+            Map<BibEntry, Integer> positions = new IdentityHashMap<>();
+            result.forEach(entry -> positions.put(entry, Integer.MAX_VALUE));
+            for (int i = 0; i < entries.size(); i++) {
+                BibEntry entry = entries.get(i);
+                if (positions.containsKey(entry)) {
+                    positions.put(entry, i);
                 }
-            });
+            }
+            result.sort(Comparator.comparing(positions::get));
         }
         return result;
     }
@@ -186,7 +200,7 @@ public class BibDatabase {
      * @return The entry that has the given id
      */
     public synchronized Optional<BibEntry> getEntryById(String id) {
-        return entries.stream().filter(entry -> entry.getId().equals(id)).findFirst();
+        return lookupIndex.getById(id);
     }
 
     /**
@@ -230,9 +244,10 @@ public class BibDatabase {
                 throw new KeyCollisionException("ID is already in use, please choose another", id);
             }
 
-            internalIDs.add(id);
+            lookupIndex.add(entry);
             entry.registerListener(this);
         }
+        postBatchedFieldChanges();
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
         } else {
@@ -268,13 +283,14 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
         boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
         if (anyRemoved) {
-            internalIDs.removeAll(ids);
+            ids.forEach(lookupIndex::remove);
+            postBatchedFieldChanges();
             eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
         }
     }
@@ -582,8 +598,9 @@ public class BibDatabase {
      * Registers an listener object (subscriber) to the internal event bus.
      * The following events are posted:
      *
-     *   - {@link EntryAddedEvent}
+     *   - {@link EntriesAddedEvent}
      *   - {@link EntryChangedEvent}
+     *   - {@link EntriesChangedEvent}
      *   - {@link EntriesRemovedEvent}
      *
      * @param listener listener (subscriber) to add
@@ -607,7 +624,69 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
-        eventBus.post(event);
+        lookupIndex.update(event);
+        boolean isBatched;
+        synchronized (batchedFieldChanges) {
+            isBatched = batchDepth > 0;
+            if (isBatched) {
+                batchedFieldChanges.add(event);
+            }
+        }
+        if (isBatched) {
+            // keep the internal bookkeeping up to date, as the changes may depend on it (e.g., unique keys)
+            duplicationChecker.listen(event);
+            keyChangeListener.listen(event);
+        } else {
+            eventBus.post(event);
+        }
+    }
+
+    /**
+     * Runs the given changes of entries as a batch: Instead of posting a {@link FieldChangedEvent} for each changed
+     * field, a single {@link EntriesChangedEvent} containing all changes is posted at the end. This reduces the load
+     * on listeners for bulk operations such as a cleanup of all entries. Changes made by listeners while handling this
+     * event are combined as well. Entries added or removed during the batch are announced immediately, preceded by an
+     * {@link EntriesChangedEvent} for the changes made so far, so that the order of the events is kept.
+     * <p>
+     * Batches may be nested, the event is posted at the end of the outermost one. Changes made by other threads in the
+     * meantime become part of the batch.
+     */
+    public void runInBatch(Runnable changes) {
+        synchronized (batchedFieldChanges) {
+            batchDepth++;
+        }
+        try {
+            changes.run();
+        } finally {
+            finishBatch();
+        }
+    }
+
+    private void finishBatch() {
+        while (true) {
+            List<FieldChangedEvent> changes;
+            synchronized (batchedFieldChanges) {
+                if ((batchDepth > 1) || batchedFieldChanges.isEmpty()) {
+                    batchDepth--;
+                    return;
+                }
+                changes = new ArrayList<>(batchedFieldChanges);
+                batchedFieldChanges.clear();
+            }
+            eventBus.post(new EntriesChangedEvent(changes));
+        }
+    }
+
+    private void postBatchedFieldChanges() {
+        List<FieldChangedEvent> changes;
+        synchronized (batchedFieldChanges) {
+            if (batchedFieldChanges.isEmpty()) {
+                return;
+            }
+            changes = new ArrayList<>(batchedFieldChanges);
+            batchedFieldChanges.clear();
+        }
+        eventBus.post(new EntriesChangedEvent(changes));
     }
 
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
@@ -16,6 +16,7 @@ import org.jabref.model.database.shared.DatabaseSynchronizer;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.metadata.FilePreferences;
 import org.jabref.model.metadata.MetaData;
 
@@ -36,6 +37,7 @@ public class BibDatabaseContext {
     private DatabaseSynchronizer dbmsSynchronizer;
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
+    private GroupMembershipIndex groupMembershipIndex;
 
     public BibDatabaseContext() {
         this(new BibDatabase());
@@ -114,8 +116,22 @@ public class BibDatabaseContext {
         return metaData;
     }
 
-    public void setMetaData(MetaData metaData) {
+    public synchronized void setMetaData(MetaData metaData) {
         this.metaData = Objects.requireNonNull(metaData);
+        if (groupMembershipIndex != null) {
+            groupMembershipIndex.setMetaData(metaData);
+        }
+    }
+
+    /**
+     * Returns the index of the entries matched by the groups of this database. It is created on first use and shared
+     * by all users of this database (e.g., the main table and the group tree).
+     */
+    public synchronized GroupMembershipIndex getGroupMembershipIndex() {
+        if (groupMembershipIndex == null) {
+            groupMembershipIndex = new GroupMembershipIndex(database, metaData);
+        }
+        return groupMembershipIndex;
     }
 
     public boolean isBiblatexMode() {
@@ -0,0 +1,108 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.InternalField;
+
+/**
+ * Secondary index of a {@link BibDatabase} mapping internal entry ids and cite keys to the entries carrying them.
+ * <p>
+ * The index is maintained by {@link BibDatabase} itself (not via its event bus), so that it is always up to date
+ * before any listener is notified about an insertion, removal or key change.
+ */
+class EntryLookupIndex {
+
+    private final Map<String, BibEntry> entriesById = new HashMap<>();
+
+    /**
+     * Entries grouped by cite key. Most keys are unique, thus the lists are in general singleton lists.
+     */
+    private final Map<String, List<BibEntry>> entriesByKey = new HashMap<>();
+
+    public synchronized boolean containsId(String id) {
+        return entriesById.containsKey(id);
+    }
+
+    public synchronized Optional<BibEntry> getById(String id) {
+        return Optional.ofNullable(entriesById.get(id));
+    }
+
+    /**
+     * Returns all entries having the given cite key in no particular order.
+     */
+    public synchronized List<BibEntry> getByKey(String key) {
+        List<BibEntry> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(entries);
+    }
+
+    public synchronized void add(BibEntry entry) {
+        entriesById.put(entry.getId(), entry);
+        entry.getCiteKeyOptional().ifPresent(key -> addKey(key, entry));
+    }
+
+    /**
+     * Removes the entry with the given id from the index.
+     *
+     * @return the indexed entry, if there was one with the given id
+     */
+    public synchronized Optional<BibEntry> remove(String id) {
+        BibEntry entry = entriesById.remove(id);
+        if (entry != null) {
+            entry.getCiteKeyOptional().ifPresent(key -> removeKey(key, entry));
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    /**
+     * Updates the index if the id or the cite key of an indexed entry changed. Events of entries which are not
+     * (or no longer) part of the database are ignored.
+     */
+    public synchronized void update(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if (InternalField.KEY_FIELD.equals(event.getField())) {
+            if (entriesById.get(entry.getId()) != entry) {
+                return;
+            }
+            if (event.getOldValue() != null) {
+                removeKey(event.getOldValue(), entry);
+            }
+            if (event.getNewValue() != null) {
+                addKey(event.getNewValue(), entry);
+            }
+        } else if (InternalField.INTERNAL_ID_FIELD.equals(event.getField())) {
+            // the event is posted before the id of the entry is changed
+            String oldId = event.getOldValue();
+            if ((oldId == null) || (entriesById.get(oldId) != entry)) {
+                return;
+            }
+            entriesById.remove(oldId);
+            entriesById.put(event.getNewValue(), entry);
+        }
+    }
+
+    private void addKey(String key, BibEntry entry) {
+        entriesByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+    }
+
+    private void removeKey(String key, BibEntry entry) {
+        List<BibEntry> entries = entriesByKey.get(key);
+        if (entries == null) {
+            return;
+        }
+        // compare by identity, BibEntry#equals compares the content
+        entries.removeIf(candidate -> candidate == entry);
+        if (entries.isEmpty()) {
+            entriesByKey.remove(key);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.jabref.model.database.event;
 
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.event.EntriesChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 
@@ -8,7 +9,8 @@ import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 
 /**
- * Filters change events and only relays major changes.
+ * Filters change events and only relays major changes. Changes combined into an
+ * {@link EntriesChangedEvent} are always relayed.
  */
 public class CoarseChangeFilter {
 
@@ -25,7 +27,11 @@ public class CoarseChangeFilter {
 
     @Subscribe
     public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
-        if (!(event instanceof FieldChangedEvent)) {
+        if (event instanceof EntriesChangedEvent) {
+            // a batch of changes, e.g., by a cleanup of many entries
+            lastFieldChanged = null;
+            eventBus.post(event);
+        } else if (!(event instanceof FieldChangedEvent)) {
             eventBus.post(event);
         } else {
             // Only relay event if the field changes are more than one character or a new field is edited
@@ -8,9 +8,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
 /**
  * This is an immutable class representing information of either <CODE>author</CODE>
  * or <CODE>editor</CODE> field in bibtex record.
@@ -120,7 +123,20 @@ import java.util.stream.Collectors;
  */
 public class AuthorList {
 
-    private static final WeakHashMap<String, AuthorList> AUTHOR_CACHE = new WeakHashMap<>();
+    /**
+     * Maximum number of parsed author lists kept in {@link #AUTHOR_CACHE}
+     */
+    private static final int MAX_CACHED_AUTHOR_LISTS = 50_000;
+
+    /**
+     * Caches the parsed author lists by the string passed in. As it is accessed by many threads (e.g., while exporting
+     * or searching), it is a concurrent cache, which records statistics about its hits and misses.
+     */
+    private static final Cache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_AUTHOR_LISTS)
+            .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+            .recordStats()
+            .build();
     // Avoid partition where these values are contained
     private final static Collection<String> AVOID_TERMS_IN_LOWER_CASE = Arrays.asList("jr", "sr", "jnr", "snr", "von", "zu", "van", "der");
     private final List<Author> authors;
@@ -165,6 +181,23 @@ public class AuthorList {
     public static AuthorList parse(String authors) {
         Objects.requireNonNull(authors);
 
+        AuthorList authorList = AUTHOR_CACHE.getIfPresent(authors);
+        if (authorList == null) {
+            // parsing the same string concurrently twice does no harm
+            authorList = parseUncached(authors);
+            AUTHOR_CACHE.put(authors, authorList);
+        }
+        return authorList;
+    }
+
+    /**
+     * Returns the statistics of the cache of parsed author lists, e.g., to determine its hit rate.
+     */
+    public static CacheStats getCacheStatistics() {
+        return AUTHOR_CACHE.stats();
+    }
+
+    private static AuthorList parseUncached(String authors) {
         // Handle case names in order lastname, firstname and separated by ","
         // E.g., Ali Babar, M., Dingsøyr, T., Lago, P., van der Vliet, H.
         final boolean authorsContainAND = authors.toUpperCase(Locale.ENGLISH).contains(" AND ");
@@ -209,13 +242,8 @@ public class AuthorList {
             }
         }
 
-        AuthorList authorList = AUTHOR_CACHE.get(authors);
-        if (authorList == null) {
-            AuthorListParser parser = new AuthorListParser();
-            authorList = parser.parse(authors);
-            AUTHOR_CACHE.put(authors, authorList);
-        }
-        return authorList;
+        AuthorListParser parser = new AuthorListParser();
+        return parser.parse(authors);
     }
 
     /**
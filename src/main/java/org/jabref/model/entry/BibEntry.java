@@ -11,6 +11,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import javafx.beans.Observable;
@@ -39,7 +40,6 @@ import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.MultiKeyMap;
 
 import com.google.common.base.Strings;
-import com.google.common.eventbus.EventBus;
 import org.fxmisc.easybind.EasyBind;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,24 +54,37 @@ public class BibEntry implements Cloneable {
     public static final EntryType DEFAULT_TYPE = StandardEntryType.Misc;
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private static final Pattern REMOVE_TRAILING_WHITESPACE = Pattern.compile("\\s+$");
-    private final SharedBibEntryData sharedBibEntryData;
 
     /**
-     * Map to store the words in every field
+     * Only created when needed, as most entries are not stored in a shared database
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile SharedBibEntryData sharedBibEntryData;
+
+    /**
+     * Map to store the words in every field, only created when needed (as the other caches below)
+     */
+    private Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
      * Cache that stores the field as keyword lists (format <Field, Separator, Keyword list>)
      */
-    private final MultiKeyMap<Field, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>();
+    private MultiKeyMap<Field, Character, KeywordList> fieldsAsKeywords;
+
+    /**
+     * Cache that stores the keys for sorting this entry, by the sort criterion they belong to (see {@link #getSortKey})
+     */
+    private volatile Map<Object, Object> sortKeys;
+
+    /**
+     * The listeners notified about changes, <code>null</code> if there are none (see {@link EntryEventDispatcher})
+     */
+    private volatile Object[] listeners;
 
-    private final EventBus eventBus = new EventBus();
     private String id;
     private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
 
@@ -104,7 +117,6 @@ public class BibEntry implements Cloneable {
 
         this.id = id;
         setType(type);
-        this.sharedBibEntryData = new SharedBibEntryData();
     }
 
     /**
@@ -292,7 +304,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -361,9 +373,10 @@ public class BibEntry implements Cloneable {
 
         changed = true;
         this.type.setValue(newType);
+        sortKeys = null;
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        post(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -528,14 +541,14 @@ public class BibEntry implements Cloneable {
 
         changed = true;
 
-        fields.put(field, value.intern());
+        fields.put(field, FieldValueInterner.intern(value));
         invalidateFieldCache(field);
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            post(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            post(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -579,7 +592,7 @@ public class BibEntry implements Cloneable {
         invalidateFieldCache(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        post(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -665,7 +678,8 @@ public class BibEntry implements Cloneable {
 
     public void setCommentsBeforeEntry(String parsedComments) {
         // delete trailing whitespaces (between entry and text)
-        this.commentsBeforeEntry = REMOVE_TRAILING_WHITESPACE.matcher(parsedComments).replaceFirst("");
+        // the comments are often repeated by all entries of a file (e.g., separator lines)
+        this.commentsBeforeEntry = FieldValueInterner.intern(REMOVE_TRAILING_WHITESPACE.matcher(parsedComments).replaceFirst(""));
     }
 
     public boolean hasChanged() {
@@ -762,7 +776,16 @@ public class BibEntry implements Cloneable {
     }
 
     public SharedBibEntryData getSharedBibEntryData() {
-        return sharedBibEntryData;
+        SharedBibEntryData data = sharedBibEntryData;
+        if (data == null) {
+            synchronized (this) {
+                if (sharedBibEntryData == null) {
+                    sharedBibEntryData = new SharedBibEntryData();
+                }
+                data = sharedBibEntryData;
+            }
+        }
+        return data;
     }
 
     @Override
@@ -784,17 +807,20 @@ public class BibEntry implements Cloneable {
         return Objects.hash(type.getValue(), fields);
     }
 
-    public void registerListener(Object object) {
-        this.eventBus.register(object);
+    /**
+     * Registers a listener object, whose methods annotated with {@link com.google.common.eventbus.Subscribe} are
+     * notified about changes of this entry (i.e., {@link FieldChangedEvent} and {@link FieldAddedOrRemovedEvent}).
+     */
+    public synchronized void registerListener(Object object) {
+        listeners = EntryEventDispatcher.register(listeners, object);
     }
 
-    public void unregisterListener(Object object) {
-        try {
-            this.eventBus.unregister(object);
-        } catch (IllegalArgumentException e) {
-            // occurs if the event source has not been registered, should not prevent shutdown
-            LOGGER.debug("Problem unregistering", e);
-        }
+    public synchronized void unregisterListener(Object object) {
+        listeners = EntryEventDispatcher.unregister(listeners, object);
+    }
+
+    private void post(Object event) {
+        EntryEventDispatcher.post(listeners, event);
     }
 
     public BibEntry withField(Field field, String value) {
@@ -820,7 +846,7 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
-        Set<String> storedList = fieldsAsWords.get(field);
+        Set<String> storedList = (fieldsAsWords == null) ? null : fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
         } else {
@@ -829,6 +855,9 @@ public class BibEntry implements Cloneable {
                 return Collections.emptySet();
             } else {
                 HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
+                if (fieldsAsWords == null) {
+                    fieldsAsWords = new HashMap<>();
+                }
                 fieldsAsWords.put(field, words);
                 return words;
             }
@@ -836,13 +865,16 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        Optional<KeywordList> storedList = fieldsAsKeywords.get(field, keywordSeparator);
+        Optional<KeywordList> storedList = (fieldsAsKeywords == null) ? Optional.empty() : fieldsAsKeywords.get(field, keywordSeparator);
         if (storedList.isPresent()) {
             return storedList.get();
         } else {
             KeywordList keywords = getField(field)
                     .map(content -> KeywordList.parse(content, keywordSeparator))
                     .orElse(new KeywordList());
+            if (fieldsAsKeywords == null) {
+                fieldsAsKeywords = new MultiKeyMap<>();
+            }
             fieldsAsKeywords.put(field, keywordSeparator, keywords);
             return keywords;
         }
@@ -853,9 +885,48 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
-        fieldsAsKeywords.remove(field);
+        // a sort key may depend on several fields (e.g., on aliases), thus all of them are dropped
+        sortKeys = null;
+        Map<Field, String> latexFreeFieldsCache = latexFreeFields;
+        if (latexFreeFieldsCache != null) {
+            latexFreeFieldsCache.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
+        if (fieldsAsKeywords != null) {
+            fieldsAsKeywords.remove(field);
+        }
+    }
+
+    private Map<Field, String> getLatexFreeFieldsCache() {
+        Map<Field, String> cache = latexFreeFields;
+        if (cache == null) {
+            synchronized (this) {
+                if (latexFreeFields == null) {
+                    latexFreeFields = new ConcurrentHashMap<>();
+                }
+                cache = latexFreeFields;
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the key for sorting this entry according to the given criterion. The key is computed only once and kept
+     * until a field or the type of this entry changes, so that sorting many entries mostly consists of comparing keys.
+     *
+     * @param criterion     identifies the sort criterion together with the way the key is computed; used as map key
+     * @param keyDerivation computes the key of an entry, must not return <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getSortKey(Object criterion, Function<BibEntry, T> keyDerivation) {
+        Map<Object, Object> keys = sortKeys;
+        if (keys == null) {
+            keys = new ConcurrentHashMap<>(4);
+            sortKeys = keys;
+        }
+        return (T) keys.computeIfAbsent(criterion, key -> keyDerivation.apply(this));
     }
 
     public Optional<String> getLatexFreeField(Field field) {
@@ -864,13 +935,13 @@ public class BibEntry implements Cloneable {
             return getCiteKeyOptional();
         } else if (InternalField.TYPE_HEADER.equals(field)) {
             return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
+        } else if ((latexFreeFields != null) && latexFreeFields.containsKey(field)) {
             return Optional.ofNullable(latexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
-                String latexFreeField = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeField);
+                String latexFreeField = FieldValueInterner.intern(LatexToUnicodeAdapter.format(fieldValue.get()));
+                getLatexFreeFieldsCache().put(field, latexFreeField);
                 return Optional.of(latexFreeField);
             } else {
                 return Optional.empty();
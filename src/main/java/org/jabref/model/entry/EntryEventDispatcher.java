@@ -0,0 +1,133 @@
+package org.jabref.model.entry;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers the events of {@link BibEntry} objects to their listeners. In contrast to an {@link EventBus} per entry, an
+ * entry only stores an array of its listeners, while the methods annotated with {@link Subscribe} are looked up once
+ * per listener class and shared by all entries.
+ * <p>
+ * As with the event bus, events are delivered synchronously to all methods annotated with {@link Subscribe} whose
+ * parameter type matches the event, and exceptions thrown by listeners are logged. Unlike the event bus, an event
+ * posted by a listener is delivered immediately and not after the current event.
+ */
+final class EntryEventDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntryEventDispatcher.class);
+
+    private static final ClassValue<List<Subscriber>> SUBSCRIBERS = new ClassValue<>() {
+        @Override
+        protected List<Subscriber> computeValue(Class<?> type) {
+            List<Subscriber> subscribers = new ArrayList<>();
+            // a method overridden in a subclass is only called once
+            Set<String> signatures = new HashSet<>();
+            for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+                for (Method method : clazz.getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(Subscribe.class) && (method.getParameterCount() == 1)
+                            && signatures.add(method.getName() + method.getParameterTypes()[0].getName())) {
+                        method.setAccessible(true);
+                        subscribers.add(new Subscriber(method));
+                    }
+                }
+            }
+            return subscribers;
+        }
+    };
+
+    private EntryEventDispatcher() {
+    }
+
+    /**
+     * @param listeners the listeners registered so far, may be <code>null</code>
+     * @return the listeners including the given one, the given array is not modified
+     */
+    static Object[] register(Object[] listeners, Object listener) {
+        Objects.requireNonNull(listener);
+        if (listeners == null) {
+            return new Object[] {listener};
+        }
+        for (Object registeredListener : listeners) {
+            if (registeredListener == listener) {
+                return listeners;
+            }
+        }
+        Object[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        return newListeners;
+    }
+
+    /**
+     * @param listeners the listeners registered so far, may be <code>null</code>
+     * @return the listeners without the given one or <code>null</code> if none are left, the given array is not
+     * modified
+     */
+    static Object[] unregister(Object[] listeners, Object listener) {
+        if (listeners == null) {
+            return null;
+        }
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                if (listeners.length == 1) {
+                    return null;
+                }
+                Object[] newListeners = new Object[listeners.length - 1];
+                System.arraycopy(listeners, 0, newListeners, 0, i);
+                System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+                return newListeners;
+            }
+        }
+        return listeners;
+    }
+
+    /**
+     * Delivers the given event to the given listeners.
+     *
+     * @param listeners the registered listeners, may be <code>null</code>
+     */
+    static void post(Object[] listeners, Object event) {
+        if (listeners == null) {
+            return;
+        }
+        for (Object listener : listeners) {
+            for (Subscriber subscriber : SUBSCRIBERS.get(listener.getClass())) {
+                subscriber.dispatch(listener, event);
+            }
+        }
+    }
+
+    private static class Subscriber {
+
+        private final Method method;
+        private final Class<?> eventType;
+
+        Subscriber(Method method) {
+            this.method = method;
+            this.eventType = method.getParameterTypes()[0];
+        }
+
+        void dispatch(Object listener, Object event) {
+            if (!eventType.isInstance(event)) {
+                return;
+            }
+            try {
+                method.invoke(listener, event);
+            } catch (InvocationTargetException e) {
+                LOGGER.error("Exception thrown by subscriber method {} when dispatching event {}", method, event, e.getCause());
+            } catch (IllegalAccessException e) {
+                LOGGER.error("Could not dispatch event {} to {}", event, method, e);
+            }
+        }
+    }
+}
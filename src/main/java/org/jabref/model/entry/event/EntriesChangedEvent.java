@@ -0,0 +1,62 @@
+package org.jabref.model.entry.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * <code>EntriesChangedEvent</code> is fired instead of a {@link FieldChangedEvent} for each single change when fields
+ * of <code>BibEntry</code> objects have been changed within {@link BibDatabase#runInBatch(Runnable)}.
+ * The involved entries are given in the order they have been changed first.
+ */
+public class EntriesChangedEvent extends EntriesEvent {
+
+    private final List<FieldChangedEvent> fieldChanges;
+
+    /**
+     * @param fieldChanges the changes in the order they have been made
+     */
+    public EntriesChangedEvent(List<FieldChangedEvent> fieldChanges) {
+        super(getChangedEntries(fieldChanges), getEventSource(fieldChanges));
+        this.fieldChanges = Collections.unmodifiableList(fieldChanges);
+    }
+
+    private static List<BibEntry> getChangedEntries(List<FieldChangedEvent> fieldChanges) {
+        Set<BibEntry> entries = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> changedEntries = new ArrayList<>();
+        for (FieldChangedEvent fieldChange : fieldChanges) {
+            if (entries.add(fieldChange.getBibEntry())) {
+                changedEntries.add(fieldChange.getBibEntry());
+            }
+        }
+        return changedEntries;
+    }
+
+    /**
+     * Returns the source shared by all changes, or {@link EntriesEventSource#LOCAL} if the sources differ
+     */
+    private static EntriesEventSource getEventSource(List<FieldChangedEvent> fieldChanges) {
+        if (fieldChanges.isEmpty()) {
+            return EntriesEventSource.LOCAL;
+        }
+        EntriesEventSource source = fieldChanges.get(0).getEntriesEventSource();
+        for (FieldChangedEvent fieldChange : fieldChanges) {
+            if (fieldChange.getEntriesEventSource() != source) {
+                return EntriesEventSource.LOCAL;
+            }
+        }
+        return source;
+    }
+
+    /**
+     * Returns the single changes, which have not been posted on their own.
+     */
+    public List<FieldChangedEvent> getFieldChanges() {
+        return fieldChanges;
+    }
+}
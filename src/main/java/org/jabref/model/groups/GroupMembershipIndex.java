@@ -0,0 +1,340 @@
+package org.jabref.model.groups;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.groups.event.GroupContentChangedEvent;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
+import org.jabref.model.groups.event.GroupUpdatedEvent;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.SearchMatcher;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps track of which entries of a database are matched by which groups, so that the (possibly expensive) group
+ * matchers do not have to be evaluated for every entry again and again.
+ * <p>
+ * Each entry of the database gets a fixed slot number. For each group requested so far, the slots of the matched
+ * entries are stored in a {@link BitSet}. The bit sets are computed on first request and afterwards updated
+ * incrementally: added or changed entries are evaluated against each tracked group, removed entries are cleared.
+ * A {@link GroupMembershipChangedEvent} is posted whenever an entry starts or stops to be matched by a tracked group.
+ * As the matcher of a group also depends on its position in the group tree, the tracked groups affected by a change of
+ * the group tree (the changed group, its subgroups and its ancestors) are evaluated again. This is done in the
+ * background, the changed memberships are announced as soon as they are known. Groups are only weakly referenced and
+ * are no longer tracked once they are gone.
+ * <p>
+ * Listeners are notified while the index is locked and possibly on a background thread, thus they should only schedule
+ * further work.
+ */
+public class GroupMembershipIndex {
+
+    private static final Executor DEFAULT_REEVALUATION_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Group membership index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final BibDatabase database;
+    private MetaData metaData;
+    private final EventBus eventBus = new EventBus();
+
+    private final Map<BibEntry, Integer> slots = new IdentityHashMap<>();
+    private final BitSet usedSlots = new BitSet();
+    // weak keys are compared by identity
+    private final Map<GroupTreeNode, TrackedGroup> trackedGroups = new MapMaker().weakKeys().makeMap();
+    private volatile boolean built;
+    private final Executor reevaluationExecutor;
+
+    public GroupMembershipIndex(BibDatabase database, MetaData metaData) {
+        this(database, metaData, DEFAULT_REEVALUATION_EXECUTOR);
+    }
+
+    /**
+     * @param reevaluationExecutor evaluates the groups again after the group tree has changed
+     */
+    public GroupMembershipIndex(BibDatabase database, MetaData metaData, Executor reevaluationExecutor) {
+        this.database = database;
+        this.metaData = metaData;
+        this.reevaluationExecutor = reevaluationExecutor;
+        database.registerListener(this);
+        metaData.registerListener(this);
+    }
+
+    /**
+     * Returns whether the given group (taking the hierarchical context into account) matches the given entry.
+     */
+    public boolean isMatch(GroupTreeNode group, BibEntry entry) {
+        ensureBuilt();
+        synchronized (this) {
+            Integer slot = slots.get(entry);
+            if (slot == null) {
+                // the entry is not (yet) part of the database
+                return group.matches(entry);
+            }
+            return getTrackedGroup(group).members.get(slot);
+        }
+    }
+
+    /**
+     * Returns whether all (if {@code intersection} is set) or any of the given groups match the given entry.
+     */
+    public boolean isMatch(List<GroupTreeNode> groups, boolean intersection, BibEntry entry) {
+        for (GroupTreeNode group : groups) {
+            if (isMatch(group, entry) != intersection) {
+                return !intersection;
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns the number of entries of the database matched by the given group.
+     */
+    public int getNumberOfMatches(GroupTreeNode group) {
+        ensureBuilt();
+        synchronized (this) {
+            return getTrackedGroup(group).numberOfMatches;
+        }
+    }
+
+    public void registerListener(Object listener) {
+        eventBus.register(listener);
+    }
+
+    public void unregisterListener(Object listener) {
+        try {
+            eventBus.unregister(listener);
+        } catch (IllegalArgumentException e) {
+            // occurs if the event source has not been registered, should not prevent shutdown
+        }
+    }
+
+    /**
+     * Switches to the group tree of the given meta data, e.g., after the meta data of a database has been replaced.
+     */
+    public void setMetaData(MetaData metaData) {
+        synchronized (this) {
+            this.metaData.unregisterListener(this);
+            this.metaData = metaData;
+            metaData.registerListener(this);
+        }
+        reevaluateTrackedGroups(group -> true);
+    }
+
+    /**
+     * Unregisters the index from the database and frees its memory.
+     */
+    public synchronized void close() {
+        database.unregisterListener(this);
+        metaData.unregisterListener(this);
+        slots.clear();
+        usedSlots.clear();
+        trackedGroups.clear();
+        built = false;
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        // lock the database before the index, as the listeners are called while the database is locked
+        synchronized (database) {
+            synchronized (this) {
+                if (!built) {
+                    database.getEntries().forEach(this::addEntry);
+                    built = true;
+                }
+            }
+        }
+    }
+
+    private TrackedGroup getTrackedGroup(GroupTreeNode group) {
+        TrackedGroup trackedGroup = trackedGroups.get(group);
+        if (trackedGroup == null) {
+            trackedGroup = new TrackedGroup(group.getSearchMatcher());
+            for (Map.Entry<BibEntry, Integer> slot : slots.entrySet()) {
+                if (trackedGroup.matcher.isMatch(slot.getKey())) {
+                    trackedGroup.members.set(slot.getValue());
+                    trackedGroup.numberOfMatches++;
+                }
+            }
+            trackedGroups.put(group, trackedGroup);
+        }
+        return trackedGroup;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        if (built) {
+            event.getBibEntries().forEach(this::addEntry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        if (built) {
+            event.getBibEntries().forEach(this::removeEntry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        Integer slot = slots.get(event.getBibEntry());
+        if (slot != null) {
+            trackedGroups.forEach((group, trackedGroup) -> update(group, trackedGroup, event.getBibEntry(), slot));
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesChangedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            Integer slot = slots.get(entry);
+            if (slot != null) {
+                trackedGroups.forEach((group, trackedGroup) -> update(group, trackedGroup, entry, slot));
+            }
+        }
+    }
+
+    @Subscribe
+    public void listen(GroupUpdatedEvent event) {
+        Optional<GroupTreeNode> changedGroup = event.getChangedGroup();
+        if (changedGroup.isPresent()) {
+            reevaluateRelatedGroups(changedGroup.get());
+        } else {
+            reevaluateTrackedGroups(group -> true);
+        }
+    }
+
+    @Subscribe
+    public void listen(GroupContentChangedEvent event) {
+        reevaluateRelatedGroups(event.getGroup());
+    }
+
+    /**
+     * Evaluates the given group, its ancestors and its descendants again, as their matches may depend on the given group
+     * (see {@link GroupHierarchyType}).
+     */
+    private void reevaluateRelatedGroups(GroupTreeNode changedGroup) {
+        reevaluateTrackedGroups(group -> isAncestor(changedGroup, group) || isAncestor(group, changedGroup));
+    }
+
+    /**
+     * Checks whether the given ancestor is the given node or one of its ancestors
+     */
+    private static boolean isAncestor(GroupTreeNode ancestor, GroupTreeNode node) {
+        for (Optional<GroupTreeNode> current = Optional.of(node); current.isPresent(); current = current.get().getParent()) {
+            if (current.get() == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the matchers of the tracked groups accepted by the given filter and evaluates these groups again in the
+     * background. Entries changed in the meantime are already evaluated using the updated matchers.
+     */
+    private void reevaluateTrackedGroups(Predicate<GroupTreeNode> filter) {
+        Map<GroupTreeNode, TrackedGroup> groupsToReevaluate = new IdentityHashMap<>();
+        synchronized (this) {
+            trackedGroups.forEach((group, trackedGroup) -> {
+                if (filter.test(group)) {
+                    trackedGroup.matcher = group.getSearchMatcher();
+                    groupsToReevaluate.put(group, trackedGroup);
+                }
+            });
+        }
+        if (!groupsToReevaluate.isEmpty()) {
+            reevaluationExecutor.execute(() -> groupsToReevaluate.forEach(this::reevaluate));
+        }
+    }
+
+    private void reevaluate(GroupTreeNode group, TrackedGroup trackedGroup) {
+        SearchMatcher matcher;
+        Map<BibEntry, Integer> entries;
+        synchronized (this) {
+            matcher = trackedGroup.matcher;
+            entries = new IdentityHashMap<>(slots);
+        }
+
+        // the matcher is evaluated without locking the index, as this may take a while
+        BitSet matched = new BitSet();
+        entries.forEach((entry, slot) -> {
+            if (matcher.isMatch(entry)) {
+                matched.set(slot);
+            }
+        });
+
+        synchronized (this) {
+            if ((trackedGroup.matcher != matcher) || (trackedGroups.get(group) != trackedGroup)) {
+                // the group has changed again and is evaluated once more, or is not tracked anymore
+                return;
+            }
+            entries.forEach((entry, slot) -> {
+                if (slot.equals(slots.get(entry)) && (trackedGroup.members.get(slot) != matched.get(slot))) {
+                    // the entry may have been changed (and evaluated) in the meantime, thus it is evaluated again
+                    update(group, trackedGroup, entry, slot);
+                }
+            });
+        }
+    }
+
+    private void addEntry(BibEntry entry) {
+        if (slots.containsKey(entry)) {
+            return;
+        }
+        int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        slots.put(entry, slot);
+        trackedGroups.forEach((group, trackedGroup) -> update(group, trackedGroup, entry, slot));
+    }
+
+    private void removeEntry(BibEntry entry) {
+        Integer slot = slots.remove(entry);
+        if (slot == null) {
+            return;
+        }
+        usedSlots.clear(slot);
+        trackedGroups.forEach((group, trackedGroup) -> {
+            if (trackedGroup.members.get(slot)) {
+                trackedGroup.members.clear(slot);
+                trackedGroup.numberOfMatches--;
+                eventBus.post(new GroupMembershipChangedEvent(group, entry, false));
+            }
+        });
+    }
+
+    private void update(GroupTreeNode group, TrackedGroup trackedGroup, BibEntry entry, int slot) {
+        boolean isMatch = trackedGroup.matcher.isMatch(entry);
+        if (trackedGroup.members.get(slot) != isMatch) {
+            trackedGroup.members.set(slot, isMatch);
+            trackedGroup.numberOfMatches += isMatch ? 1 : -1;
+            eventBus.post(new GroupMembershipChangedEvent(group, entry, isMatch));
+        }
+    }
+
+    private static class TrackedGroup {
+        private SearchMatcher matcher;
+        private final BitSet members = new BitSet();
+        private int numberOfMatches;
+
+        TrackedGroup(SearchMatcher matcher) {
+            this.matcher = matcher;
+        }
+    }
+}
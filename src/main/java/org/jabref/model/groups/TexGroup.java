@@ -24,7 +24,7 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
     private static final Logger LOGGER = LoggerFactory.getLogger(TexGroup.class);
 
     private Path filePath;
-    private Set<String> keysUsedInAux = null;
+    private volatile Set<String> keysUsedInAux = null;
     private final FileUpdateMonitor fileMonitor;
     private AuxParser auxParser;
     private final MetaData metaData;
@@ -117,6 +117,7 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
     public void fileUpdated() {
         // Reset previous parse result
         keysUsedInAux = null;
+        metaData.groupContentChanged(this);
     }
 
     private Path relativize(Path path) {
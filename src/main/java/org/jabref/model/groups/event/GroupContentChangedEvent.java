@@ -0,0 +1,22 @@
+package org.jabref.model.groups.event;
+
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.metadata.MetaData;
+
+/**
+ * Fired by {@link MetaData} when the entries matched by a group may have changed although neither the group nor the
+ * library has been changed, e.g., because the file a group refers to has been modified. Unlike
+ * {@link GroupUpdatedEvent}, this does not change the library.
+ */
+public class GroupContentChangedEvent {
+
+    private final GroupTreeNode group;
+
+    public GroupContentChangedEvent(GroupTreeNode group) {
+        this.group = group;
+    }
+
+    public GroupTreeNode getGroup() {
+        return group;
+    }
+}
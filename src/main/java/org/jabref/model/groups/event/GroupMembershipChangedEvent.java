@@ -0,0 +1,36 @@
+package org.jabref.model.groups.event;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
+import org.jabref.model.groups.GroupTreeNode;
+
+/**
+ * Fired by a {@link GroupMembershipIndex} when an entry starts or stops to be matched by a group.
+ */
+public class GroupMembershipChangedEvent {
+
+    private final GroupTreeNode group;
+    private final BibEntry entry;
+    private final boolean matched;
+
+    public GroupMembershipChangedEvent(GroupTreeNode group, BibEntry entry, boolean matched) {
+        this.group = group;
+        this.entry = entry;
+        this.matched = matched;
+    }
+
+    public GroupTreeNode getGroup() {
+        return group;
+    }
+
+    public BibEntry getEntry() {
+        return entry;
+    }
+
+    /**
+     * Returns whether the entry is matched by the group after the change.
+     */
+    public boolean isMatched() {
+        return matched;
+    }
+}
@@ -1,20 +1,41 @@
 package org.jabref.model.groups.event;
 
+import java.util.Optional;
+
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.metadata.MetaData;
 
 public class GroupUpdatedEvent extends BibDatabaseContextChangedEvent {
 
     private final MetaData metaData;
+    private final Optional<GroupTreeNode> changedGroup;
 
     /**
      * @param metaData Affected instance
      */
     public GroupUpdatedEvent(MetaData metaData) {
         this.metaData = metaData;
+        this.changedGroup = Optional.empty();
+    }
+
+    /**
+     * @param metaData     Affected instance
+     * @param changedGroup The group whose subgroups have changed
+     */
+    public GroupUpdatedEvent(MetaData metaData, GroupTreeNode changedGroup) {
+        this.metaData = metaData;
+        this.changedGroup = Optional.of(changedGroup);
     }
 
     public MetaData getMetaData() {
         return this.metaData;
     }
+
+    /**
+     * Returns the group whose subgroups have changed, or an empty optional if the whole group tree may have changed
+     */
+    public Optional<GroupTreeNode> getChangedGroup() {
+        return changedGroup;
+    }
 }
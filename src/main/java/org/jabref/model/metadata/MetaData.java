@@ -17,7 +17,9 @@ import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.event.ChangePropagation;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.types.EntryType;
+import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.event.GroupContentChangedEvent;
 import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 
@@ -83,11 +85,20 @@ public class MetaData {
      */
     public void setGroups(GroupTreeNode root) {
         groupsRoot = Objects.requireNonNull(root);
-        groupsRoot.subscribeToDescendantChanged(groupTreeNode -> eventBus.post(new GroupUpdatedEvent(this)));
+        groupsRoot.subscribeToDescendantChanged(groupTreeNode -> eventBus.post(new GroupUpdatedEvent(this, groupTreeNode)));
         eventBus.post(new GroupUpdatedEvent(this));
         postChange();
     }
 
+    /**
+     * Notifies the listeners that the entries matched by the given group may have changed, although neither the group
+     * nor the library has been changed (e.g., because the file the group refers to has been modified).
+     */
+    public void groupContentChanged(AbstractGroup group) {
+        getGroups().ifPresent(root -> root.findChildrenSatisfying(node -> node.getGroup() == group)
+                                          .forEach(node -> eventBus.post(new GroupContentChangedEvent(node))));
+    }
+
     /**
      * @return the stored label patterns
      */
@@ -0,0 +1,39 @@
+package org.jabref.model.search;
+
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * The entries which might be matched by a search, as determined using a {@link SearchIndex}. Entries which are not
+ * candidates are guaranteed to not match the search. Entries changed after the candidates were determined are always
+ * considered as candidates.
+ */
+public class SearchCandidates {
+
+    private static final SearchCandidates ALL = new SearchCandidates(null, null, 0);
+
+    private final Set<BibEntry> candidates;
+    private final SearchIndex index;
+    private final long modification;
+
+    SearchCandidates(Set<BibEntry> candidates, SearchIndex index, long modification) {
+        this.candidates = candidates;
+        this.index = index;
+        this.modification = modification;
+    }
+
+    /**
+     * Returns candidates containing every entry, i.e., no entry can be ruled out in advance
+     */
+    public static SearchCandidates all() {
+        return ALL;
+    }
+
+    public boolean isCandidate(BibEntry entry) {
+        if (candidates == null) {
+            return true;
+        }
+        return candidates.contains(entry) || index.isModifiedAfter(entry, modification);
+    }
+}
@@ -0,0 +1,295 @@
+package org.jabref.model.search;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Inverted index of the words ("tokens") occurring in the LaTeX free field values of the entries of a
+ * {@link BibDatabase}. It is used by search rules to determine the entries which might match a query, so that the
+ * (expensive) rule only has to be applied to these candidates.
+ * <p>
+ * A token is a maximal sequence of letters and digits of the lower-cased LaTeX free field content (see
+ * {@link #getTokens(String)}). The index is built lazily on first use and afterwards updated on each
+ * {@link EntriesAddedEvent}, {@link EntriesRemovedEvent}, {@link FieldChangedEvent} and {@link EntriesChangedEvent}.
+ */
+public class SearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final BibDatabase database;
+
+    /**
+     * token -> entries containing the token in at least one field
+     */
+    private final Map<String, Set<BibEntry>> postings = new HashMap<>();
+
+    /**
+     * trigram -> tokens containing the trigram, so that the tokens containing a part are found without going through
+     * all tokens
+     */
+    private final Map<String, Set<String>> tokensOfTrigrams = new HashMap<>();
+
+    /**
+     * entry -> field -> tokens of the field
+     */
+    private final Map<BibEntry, Map<Field, Set<String>>> tokensOfEntries = new IdentityHashMap<>();
+
+    /**
+     * entry -> value of {@link #modificationCount} when the entry was added or changed the last time
+     */
+    private final Map<BibEntry, Long> lastModifications = new IdentityHashMap<>();
+    private long modificationCount;
+
+    private boolean built;
+
+    public SearchIndex(BibDatabase database) {
+        this.database = database;
+        database.registerListener(this);
+    }
+
+    /**
+     * Splits the given text into the tokens used by this index.
+     */
+    public static Set<String> getTokens(String text) {
+        Set<String> tokens = new HashSet<>();
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i < lowerCaseText.length(); i++) {
+            if (Character.isLetterOrDigit(lowerCaseText.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(lowerCaseText.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(lowerCaseText.substring(start));
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the candidates containing all given parts. Each part has to be contained in a token of some field of an
+     * entry for the entry to be a candidate. Thus, a part must consist of lower-case letters and digits only.
+     * <p>
+     * Parts shorter than {@link #GRAM_LENGTH} characters are ignored: they occur in too many tokens to narrow down the
+     * candidates, and looking for them would require going through all tokens.
+     */
+    public SearchCandidates getCandidates(List<String> requiredParts) {
+        ensureBuilt();
+        synchronized (this) {
+            return collectCandidates(requiredParts);
+        }
+    }
+
+    private SearchCandidates collectCandidates(List<String> requiredParts) {
+        Set<BibEntry> candidates = null;
+        for (String part : requiredParts) {
+            if (part.length() < GRAM_LENGTH) {
+                continue;
+            }
+            Set<BibEntry> entriesWithPart = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (String token : getTokensWithRarestTrigram(part)) {
+                if (token.contains(part)) {
+                    entriesWithPart.addAll(postings.get(token));
+                }
+            }
+
+            if (candidates == null) {
+                candidates = entriesWithPart;
+            } else {
+                candidates.retainAll(entriesWithPart);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+
+        if (candidates == null) {
+            return SearchCandidates.all();
+        }
+        return new SearchCandidates(candidates, this, modificationCount);
+    }
+
+    /**
+     * Returns the tokens containing the least frequent trigram of the given part, which include all tokens containing
+     * the part
+     */
+    private Set<String> getTokensWithRarestTrigram(String part) {
+        Set<String> tokens = null;
+        for (int i = 0; i <= (part.length() - GRAM_LENGTH); i++) {
+            Set<String> tokensWithTrigram = tokensOfTrigrams.getOrDefault(part.substring(i, i + GRAM_LENGTH), Collections.emptySet());
+            if ((tokens == null) || (tokensWithTrigram.size() < tokens.size())) {
+                tokens = tokensWithTrigram;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns whether the given entry was added or changed after the given modification count was reached.
+     */
+    synchronized boolean isModifiedAfter(BibEntry entry, long modification) {
+        return lastModifications.getOrDefault(entry, Long.MIN_VALUE) > modification;
+    }
+
+    /**
+     * Unregisters the index from the database and frees its memory.
+     */
+    public synchronized void close() {
+        database.unregisterListener(this);
+        postings.clear();
+        tokensOfTrigrams.clear();
+        tokensOfEntries.clear();
+        lastModifications.clear();
+        built = false;
+    }
+
+    private void ensureBuilt() {
+        // entries are inserted into the database after the EntriesAddedEvent has been posted, thus lock the database
+        // (always before locking the index to avoid dead locks with the listeners called by the database)
+        synchronized (database) {
+            synchronized (this) {
+                if (!built) {
+                    database.getEntries().forEach(this::addEntry);
+                    built = true;
+                }
+            }
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        if (built) {
+            event.getBibEntries().forEach(this::addEntry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        if (built) {
+            event.getBibEntries().forEach(this::removeEntry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if (!built || !tokensOfEntries.containsKey(entry)) {
+            return;
+        }
+
+        Field field = event.getField();
+        Map<Field, Set<String>> tokensOfFields = tokensOfEntries.get(entry);
+        Set<String> oldTokens = tokensOfFields.remove(field);
+        if (oldTokens != null) {
+            for (String token : oldTokens) {
+                removePostingIfUnused(token, entry, tokensOfFields);
+            }
+        }
+        addField(entry, field, tokensOfFields);
+        lastModifications.put(entry, ++modificationCount);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesChangedEvent event) {
+        event.getFieldChanges().forEach(this::listen);
+    }
+
+    private void addEntry(BibEntry entry) {
+        Map<Field, Set<String>> tokensOfFields = new HashMap<>();
+        tokensOfEntries.put(entry, tokensOfFields);
+        for (Field field : entry.getFields()) {
+            addField(entry, field, tokensOfFields);
+        }
+        lastModifications.put(entry, ++modificationCount);
+    }
+
+    private void addField(BibEntry entry, Field field, Map<Field, Set<String>> tokensOfFields) {
+        if (entry.getField(field).isEmpty()) {
+            return;
+        }
+        entry.getLatexFreeField(field).ifPresent(content -> {
+            Set<String> tokens = getTokens(content);
+            if (tokens.isEmpty()) {
+                return;
+            }
+            tokensOfFields.put(field, tokens);
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, this::addTrigrams).add(entry);
+            }
+        });
+    }
+
+    private void removeEntry(BibEntry entry) {
+        Map<Field, Set<String>> tokensOfFields = tokensOfEntries.remove(entry);
+        lastModifications.remove(entry);
+        if (tokensOfFields == null) {
+            return;
+        }
+        for (Set<String> tokens : tokensOfFields.values()) {
+            for (String token : tokens) {
+                removePosting(token, entry);
+            }
+        }
+    }
+
+    private void removePostingIfUnused(String token, BibEntry entry, Map<Field, Set<String>> remainingTokensOfFields) {
+        boolean usedByOtherField = remainingTokensOfFields.values().stream().anyMatch(tokens -> tokens.contains(token));
+        if (!usedByOtherField) {
+            removePosting(token, entry);
+        }
+    }
+
+    private void removePosting(String token, BibEntry entry) {
+        Set<BibEntry> entries = postings.get(token);
+        if (entries != null) {
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                postings.remove(token);
+                removeTrigrams(token);
+            }
+        }
+    }
+
+    /**
+     * Registers a token new to the index with its trigrams and returns an empty set for its postings
+     */
+    private Set<BibEntry> addTrigrams(String token) {
+        for (int i = 0; i <= (token.length() - GRAM_LENGTH); i++) {
+            tokensOfTrigrams.computeIfAbsent(token.substring(i, i + GRAM_LENGTH), key -> new HashSet<>()).add(token);
+        }
+        return Collections.newSetFromMap(new IdentityHashMap<>(4));
+    }
+
+    private void removeTrigrams(String token) {
+        for (int i = 0; i <= (token.length() - GRAM_LENGTH); i++) {
+            String trigram = token.substring(i, i + GRAM_LENGTH);
+            Set<String> tokens = tokensOfTrigrams.get(trigram);
+            if (tokens != null) {
+                tokens.remove(token);
+                if (tokens.isEmpty()) {
+                    tokensOfTrigrams.remove(trigram);
+                }
+            }
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package org.jabref.model.search.rules;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.SearchCandidates;
+import org.jabref.model.search.SearchIndex;
 
 /**
  * Search rule for contain-based search.
@@ -29,13 +32,27 @@ public class ContainBasedSearchRule implements SearchRule {
 
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
+        return containsAllWords(getSearchWords(query), bibEntry);
+    }
 
+    /**
+     * Returns the words of the given query which have to be contained in the fields of a matching entry. They are
+     * lower-cased if the search is case insensitive.
+     */
+    List<String> getSearchWords(String query) {
         String searchString = query;
         if (!caseSensitive) {
             searchString = searchString.toLowerCase(Locale.ROOT);
         }
+        return new SentenceAnalyzer(searchString).getWords();
+    }
 
-        List<String> unmatchedWords = new SentenceAnalyzer(searchString).getWords();
+    /**
+     * Checks whether each of the given words (as returned by {@link #getSearchWords(String)}) is contained in at least
+     * one field of the given entry.
+     */
+    boolean containsAllWords(List<String> searchWords, BibEntry bibEntry) {
+        List<String> unmatchedWords = new ArrayList<>(searchWords);
 
         for (Field fieldKey : bibEntry.getFields()) {
             String formattedFieldContent = bibEntry.getLatexFreeField(fieldKey).get();
@@ -59,4 +76,22 @@ public class ContainBasedSearchRule implements SearchRule {
         return false; // Didn't match all words.
     }
 
+    /**
+     * Each word of the query has to be contained in a field, thus each sequence of letters and digits of a word has to
+     * be contained in a token of the index.
+     */
+    @Override
+    public SearchCandidates getCandidates(String query, SearchIndex index) {
+        List<String> requiredParts = new ArrayList<>();
+        for (String word : getSearchWords(query)) {
+            for (String part : SearchIndex.getTokens(word)) {
+                // the index is lower-cased, which is only safe to use for case sensitive search for ASCII characters
+                if (!caseSensitive || part.chars().allMatch(c -> c < 128)) {
+                    requiredParts.add(part);
+                }
+            }
+        }
+        return index.getCandidates(requiredParts);
+    }
+
 }
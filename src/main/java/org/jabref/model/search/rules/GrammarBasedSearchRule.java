@@ -1,12 +1,14 @@
 package org.jabref.model.search.rules;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
@@ -31,6 +33,9 @@ import org.slf4j.LoggerFactory;
  * The search query must be specified in an expression that is acceptable by the Search.g4 grammar.
  *
  * This class implements the "Advanced Search Mode" described in the help
+ *
+ * The query is compiled once into a tree of predicates (see {@link SearchPredicateCompiler}), which is immutable and
+ * can thus be evaluated for many entries in parallel.
  */
 public class GrammarBasedSearchRule implements SearchRule {
 
@@ -41,6 +46,7 @@ public class GrammarBasedSearchRule implements SearchRule {
 
     private ParseTree tree;
     private String query;
+    private Predicate<BibEntry> matcher = entry -> false;
 
     public static class ThrowingErrorListener extends BaseErrorListener {
 
@@ -91,14 +97,26 @@ public class GrammarBasedSearchRule implements SearchRule {
         parser.removeErrorListeners(); // no infos on file system
         parser.addErrorListener(ThrowingErrorListener.INSTANCE);
         parser.setErrorHandler(new BailErrorStrategy()); // ParseCancelationException on parse errors
-        tree = parser.start();
+        ParseTree newTree = parser.start();
+        this.matcher = compile(newTree);
+        this.tree = newTree;
         this.query = query;
     }
 
+    private Predicate<BibEntry> compile(ParseTree parseTree) {
+        try {
+            return new SearchPredicateCompiler(caseSensitiveSearch, regExpSearch).visit(parseTree);
+        } catch (PatternSyntaxException e) {
+            // a syntactically valid query with an invalid regular expression matches nothing
+            LOGGER.debug("Search query contains an invalid regular expression", e);
+            return entry -> false;
+        }
+    }
+
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
         try {
-            return new BibtexSearchVisitor(caseSensitiveSearch, regExpSearch, bibEntry).visit(tree);
+            return matcher.test(bibEntry);
         } catch (Exception e) {
             LOGGER.debug("Search failed", e);
             return false;
@@ -136,35 +154,47 @@ public class GrammarBasedSearchRule implements SearchRule {
         private final Pattern fieldPattern;
         private final Pattern valuePattern;
 
+        private final boolean isEntryTypeComparison;
+        private final boolean isAnyKeywordComparison;
+        private final boolean isAnyFieldComparison;
+
+        /**
+         * Caches whether the field pattern matches a field name, as entries share a small set of fields
+         */
+        private final Map<Field, Boolean> matchingFields = new ConcurrentHashMap<>();
+
         public Comparator(String field, String value, ComparisonOperator operator, boolean caseSensitive, boolean regex) {
             this.operator = operator;
 
             int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
             this.fieldPattern = Pattern.compile(regex ? field : "\\Q" + field + "\\E", option);
             this.valuePattern = Pattern.compile(regex ? value : "\\Q" + value + "\\E", option);
+
+            // special case for searching for entrytype=phdthesis
+            this.isEntryTypeComparison = fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches();
+            // special case for searching a single keyword
+            this.isAnyKeywordComparison = fieldPattern.matcher("anykeyword").matches();
+            // special case for searching allfields=cat and title=dog
+            this.isAnyFieldComparison = fieldPattern.matcher("anyfield").matches();
         }
 
         public boolean compare(BibEntry entry) {
-            // special case for searching for entrytype=phdthesis
-            if (fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches()) {
+            if (isEntryTypeComparison) {
                 return matchFieldValue(entry.getType().getName());
             }
 
-            // special case for searching a single keyword
-            if (fieldPattern.matcher("anykeyword").matches()) {
+            if (isAnyKeywordComparison) {
                 return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
             }
 
             // specification of fieldsKeys to search is done in the search expression itself
-            Set<Field> fieldsKeys = entry.getFields();
-
-            // special case for searching allfields=cat and title=dog
-            if (!fieldPattern.matcher("anyfield").matches()) {
-                // Filter out the requested fields
-                fieldsKeys = fieldsKeys.stream().filter(matchFieldKey()).collect(Collectors.toSet());
-            }
+            boolean hasRequestedField = false;
+            for (Field field : entry.getFields()) {
+                if (!isAnyFieldComparison && !isMatchingField(field)) {
+                    continue;
+                }
+                hasRequestedField = true;
 
-            for (Field field : fieldsKeys) {
                 Optional<String> fieldValue = entry.getLatexFreeField(field);
                 if (fieldValue.isPresent()) {
                     if (matchFieldValue(fieldValue.get())) {
@@ -174,11 +204,11 @@ public class GrammarBasedSearchRule implements SearchRule {
             }
 
             // special case of asdf!=whatever and entry does not contain asdf
-            return fieldsKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
+            return !hasRequestedField && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
         }
 
-        private Predicate<Field> matchFieldKey() {
-            return field -> fieldPattern.matcher(field.getName()).matches();
+        private boolean isMatchingField(Field field) {
+            return matchingFields.computeIfAbsent(field, key -> fieldPattern.matcher(key.getName()).matches());
         }
 
         public boolean matchFieldValue(String content) {
@@ -197,32 +227,26 @@ public class GrammarBasedSearchRule implements SearchRule {
     }
 
     /**
-     * Search results in boolean. It may be later on converted to an int.
+     * Compiles the parse tree of a query into a predicate on entries. All patterns, search words and the resolution of
+     * the searched fields are computed once, so that evaluating the predicate does not need to visit the parse tree.
      */
-    static class BibtexSearchVisitor extends SearchBaseVisitor<Boolean> {
+    static class SearchPredicateCompiler extends SearchBaseVisitor<Predicate<BibEntry>> {
 
         private final boolean caseSensitive;
         private final boolean regex;
 
-        private final BibEntry entry;
-
-        public BibtexSearchVisitor(boolean caseSensitive, boolean regex, BibEntry bibEntry) {
+        public SearchPredicateCompiler(boolean caseSensitive, boolean regex) {
             this.caseSensitive = caseSensitive;
             this.regex = regex;
-            this.entry = bibEntry;
-        }
-
-        public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, caseSensitive, regex).compare(entry);
         }
 
         @Override
-        public Boolean visitStart(SearchParser.StartContext ctx) {
+        public Predicate<BibEntry> visitStart(SearchParser.StartContext ctx) {
             return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitComparison(SearchParser.ComparisonContext context) {
+        public Predicate<BibEntry> visitComparison(SearchParser.ComparisonContext context) {
             // remove possible enclosing " symbols
             String right = context.right.getText();
             if (right.startsWith("\"") && right.endsWith("\"")) {
@@ -231,28 +255,34 @@ public class GrammarBasedSearchRule implements SearchRule {
 
             Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
             if (fieldDescriptor.isPresent()) {
-                return comparison(fieldDescriptor.get().getText(), ComparisonOperator.build(context.operator.getText()), right);
+                Comparator comparator = new Comparator(fieldDescriptor.get().getText(), right,
+                        ComparisonOperator.build(context.operator.getText()), caseSensitive, regex);
+                return comparator::compare;
             } else {
-                return new ContainBasedSearchRule(caseSensitive).applyRule(right, entry);
+                ContainBasedSearchRule containBasedSearchRule = new ContainBasedSearchRule(caseSensitive);
+                List<String> searchWords = containBasedSearchRule.getSearchWords(right);
+                return entry -> containBasedSearchRule.containsAllWords(searchWords, entry);
             }
         }
 
         @Override
-        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
-            return !visit(ctx.expression()); // negate
+        public Predicate<BibEntry> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return visit(ctx.expression()).negate();
         }
 
         @Override
-        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        public Predicate<BibEntry> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
             return visit(ctx.expression()); // ignore parenthesis
         }
 
         @Override
-        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        public Predicate<BibEntry> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Predicate<BibEntry> left = visit(ctx.left);
+            Predicate<BibEntry> right = visit(ctx.right);
             if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
-                return visit(ctx.left) && visit(ctx.right); // and
+                return left.and(right);
             } else {
-                return visit(ctx.left) || visit(ctx.right); // or
+                return left.or(right);
             }
         }
     }
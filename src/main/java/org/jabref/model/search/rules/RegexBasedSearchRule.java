@@ -1,13 +1,18 @@
 package org.jabref.model.search.rules;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.IntPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.SearchCandidates;
+import org.jabref.model.search.SearchIndex;
 
 /**
  * Search rule for regex-based search.
@@ -63,4 +68,131 @@ public class RegexBasedSearchRule implements SearchRule {
         return false;
     }
 
+    @Override
+    public SearchCandidates getCandidates(String query, SearchIndex index) {
+        return index.getCandidates(getRequiredLiterals(query));
+    }
+
+    /**
+     * Returns the (lower-cased) sequences of ASCII letters and digits which have to occur in every text matched by the
+     * given regular expression. Only the top level of the expression is analyzed and nothing is returned for
+     * expressions containing alternatives, quotations or flags.
+     */
+    static List<String> getRequiredLiterals(String regex) {
+        List<String> literals = new ArrayList<>();
+        if (regex.contains("|") || regex.contains("\\Q") || regex.contains("(?")) {
+            return literals;
+        }
+
+        StringBuilder currentLiteral = new StringBuilder();
+        int groupDepth = 0;
+        int classDepth = 0;
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                // escaped characters and character classes like \d or \p{Alpha} are no literals
+                addLiteral(literals, currentLiteral);
+                i = skipEscape(regex, i + 1);
+            } else if (c == '[') {
+                addLiteral(literals, currentLiteral);
+                classDepth++;
+            } else if ((c == ']') && (classDepth > 0)) {
+                classDepth--;
+            } else if (classDepth > 0) {
+                // inside a character class
+            } else if (c == '(') {
+                addLiteral(literals, currentLiteral);
+                groupDepth++;
+            } else if (c == ')') {
+                groupDepth--;
+            } else if ((c == '?') || (c == '*')) {
+                // the preceding character is optional
+                removeLastCharacter(currentLiteral);
+                addLiteral(literals, currentLiteral);
+            } else if (c == '{') {
+                // the preceding character might be optional, e.g., a{0,2}
+                removeLastCharacter(currentLiteral);
+                addLiteral(literals, currentLiteral);
+                i = skipTo(regex, i, '}');
+            } else if ((groupDepth == 0) && (c < 128) && Character.isLetterOrDigit(c)) {
+                currentLiteral.append(c);
+            } else {
+                addLiteral(literals, currentLiteral);
+            }
+            i++;
+        }
+        addLiteral(literals, currentLiteral);
+        return literals;
+    }
+
+    /**
+     * Returns the position of the last character of the escape sequence starting at the given position (right after the
+     * backslash). Character codes (e.g., \x41, \u0041, \0101, \cA or \N{LATIN CAPITAL LETTER A}), properties (e.g.,
+     * \pL or \p{Alpha}) and back references (e.g., \12 or \k<name>) are skipped completely, so that their digits are
+     * not taken for literals.
+     */
+    private static int skipEscape(String regex, int start) {
+        if (start >= regex.length()) {
+            return start;
+        }
+        char escaped = regex.charAt(start);
+        boolean followedByBrace = ((start + 1) < regex.length()) && (regex.charAt(start + 1) == '{');
+        if (followedByBrace && Character.isLetter(escaped)) {
+            return skipTo(regex, start + 1, '}');
+        }
+        switch (escaped) {
+            case 'x':
+                return skipWhile(regex, start + 1, 2, RegexBasedSearchRule::isHexDigit);
+            case 'u':
+                return skipWhile(regex, start + 1, 4, RegexBasedSearchRule::isHexDigit);
+            case '0':
+                return skipWhile(regex, start + 1, 3, character -> (character >= '0') && (character <= '7'));
+            case 'c':
+            case 'p':
+            case 'P':
+                return Math.min(start + 1, regex.length() - 1);
+            case 'k':
+                return skipTo(regex, start + 1, '>');
+            default:
+                if ((escaped >= '1') && (escaped <= '9')) {
+                    return skipWhile(regex, start + 1, Integer.MAX_VALUE, character -> (character >= '0') && (character <= '9'));
+                }
+                return start;
+        }
+    }
+
+    /**
+     * Returns the position of the last of at most the given number of characters starting at the given position which
+     * fulfill the given condition, or the position before the start if there is none
+     */
+    private static int skipWhile(String regex, int start, int maxLength, IntPredicate condition) {
+        int end = start;
+        while ((end < regex.length()) && ((end - start) < maxLength) && condition.test(regex.charAt(end))) {
+            end++;
+        }
+        return end - 1;
+    }
+
+    private static boolean isHexDigit(int character) {
+        return Character.digit(character, 16) >= 0;
+    }
+
+    private static int skipTo(String regex, int start, char end) {
+        int position = regex.indexOf(end, start);
+        return position < 0 ? regex.length() : position;
+    }
+
+    private static void removeLastCharacter(StringBuilder literal) {
+        if (literal.length() > 0) {
+            literal.setLength(literal.length() - 1);
+        }
+    }
+
+    private static void addLiteral(List<String> literals, StringBuilder literal) {
+        if (literal.length() > 0) {
+            literals.add(literal.toString().toLowerCase(Locale.ROOT));
+            literal.setLength(0);
+        }
+    }
 }
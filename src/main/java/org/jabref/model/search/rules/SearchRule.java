@@ -1,10 +1,19 @@
 package org.jabref.model.search.rules;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchCandidates;
+import org.jabref.model.search.SearchIndex;
 
 public interface SearchRule {
 
     boolean applyRule(String query, BibEntry bibEntry);
 
     boolean validateSearchStrings(String query);
+
+    /**
+     * Returns the entries of the index which might be matched by the given query. By default, no entry is ruled out.
+     */
+    default SearchCandidates getCandidates(String query, SearchIndex index) {
+        return SearchCandidates.all();
+    }
 }
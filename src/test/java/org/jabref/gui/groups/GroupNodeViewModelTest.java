@@ -64,6 +64,17 @@ public class GroupNodeViewModelTest {
         assertTrue(viewModel.isMatchedBy("est"));
     }
 
+    @Test
+    public void hitsCountMatchedEntries() throws Exception {
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.TITLE, "search"));
+        databaseContext.getDatabase().insertEntry(new BibEntry().withField(StandardField.TITLE, "other"));
+
+        GroupNodeViewModel viewModel = getViewModelForGroup(
+                new WordKeywordGroup("Test group", GroupHierarchyType.INDEPENDENT, StandardField.TITLE, "search", true, ',', false));
+
+        assertEquals(1, viewModel.getHits().get());
+    }
+
     @Test
     public void treeOfAutomaticKeywordGroupIsCombined() throws Exception {
         BibEntry entryOne = new BibEntry().withField(StandardField.KEYWORDS, "A > B > B1, A > C");
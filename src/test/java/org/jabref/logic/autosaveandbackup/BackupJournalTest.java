@@ -0,0 +1,164 @@
+package org.jabref.logic.autosaveandbackup;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BackupJournalTest {
+
+    private static final long BACKUP_SIZE = 42;
+
+    private BibDatabase database;
+    private BackupJournal journal;
+    private BibEntry first;
+    private BibEntry second;
+    private Path journalPath;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        first = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "First");
+        second = new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "Second");
+        database = new BibDatabase(List.of(first, second));
+        journal = new BackupJournal();
+        database.registerListener(journal);
+        journalPath = tempDir.resolve("test.bib.sav.journal");
+
+        journal.startFullBackup(database.getEntries());
+        journal.startJournal(journalPath, BACKUP_SIZE, database.getEntryCount());
+    }
+
+    /**
+     * Returns the state of the database when the full backup has been written
+     */
+    private static BibDatabase createBackup() {
+        return new BibDatabase(List.of(
+                new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "First"),
+                new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "Second")));
+    }
+
+    @Test
+    void fullBackupIsRequiredInitially() {
+        assertTrue(new BackupJournal().isFullBackupRequired());
+    }
+
+    @Test
+    void fullBackupIsNotRequiredAfterStartingFullBackup() {
+        assertFalse(journal.isFullBackupRequired());
+    }
+
+    @Test
+    void replayAppliesChangedFields() throws Exception {
+        first.setField(StandardField.TITLE, "Changed\ttitle\nwith line break");
+        first.setField(StandardField.YEAR, "2020");
+        second.clearField(StandardField.TITLE);
+        second.setType(StandardEntryType.InBook);
+        journal.appendPendingChanges(journalPath);
+
+        BibDatabase backup = createBackup();
+        assertTrue(BackupJournal.replay(journalPath, BACKUP_SIZE, backup));
+        assertEquals(database.getEntries(), backup.getEntries());
+    }
+
+    @Test
+    void replayAppliesAddedAndRemovedEntries() throws Exception {
+        BibEntry third = new BibEntry(StandardEntryType.Misc).withField(StandardField.AUTHOR, "Back\\slash");
+        database.insertEntry(third);
+        third.setField(StandardField.TITLE, "Third");
+        database.removeEntry(first);
+        journal.appendPendingChanges(journalPath);
+
+        BibDatabase backup = createBackup();
+        assertTrue(BackupJournal.replay(journalPath, BACKUP_SIZE, backup));
+        assertEquals(database.getEntries(), backup.getEntries());
+    }
+
+    @Test
+    void replayAppliesChangesAppendedSeveralTimes() throws Exception {
+        first.setField(StandardField.TITLE, "Changed");
+        journal.appendPendingChanges(journalPath);
+        second.setField(StandardField.TITLE, "Changed as well");
+        journal.appendPendingChanges(journalPath);
+
+        BibDatabase backup = createBackup();
+        assertTrue(BackupJournal.replay(journalPath, BACKUP_SIZE, backup));
+        assertEquals(database.getEntries(), backup.getEntries());
+    }
+
+    @Test
+    void replayIgnoresIncompleteLastChange() throws Exception {
+        first.setField(StandardField.TITLE, "Changed");
+        journal.appendPendingChanges(journalPath);
+        Files.writeString(journalPath, Files.readString(journalPath) + "S\t1\ttitle\tIncompl");
+
+        BibDatabase backup = createBackup();
+        assertTrue(BackupJournal.replay(journalPath, BACKUP_SIZE, backup));
+        assertEquals(database.getEntries(), backup.getEntries());
+    }
+
+    @Test
+    void replayAppliesChangesToBackupWithCrossReferences() throws Exception {
+        // saving a library usually puts referring entries before the referred ones
+        BibEntry parent = new BibEntry(StandardEntryType.Book).withField(InternalField.KEY_FIELD, "parent")
+                                                              .withField(StandardField.TITLE, "Parent");
+        BibEntry child = new BibEntry(StandardEntryType.InBook).withField(StandardField.CROSSREF, "parent")
+                                                               .withField(StandardField.TITLE, "Child");
+        BibDatabase crossRefDatabase = new BibDatabase(List.of(parent, child));
+        BackupJournal crossRefJournal = new BackupJournal();
+        crossRefDatabase.registerListener(crossRefJournal);
+
+        List<BibEntry> entries = crossRefJournal.startFullBackup(crossRefDatabase.getEntries());
+        StringWriter backupWriter = new StringWriter();
+        SavePreferences savePreferences = mock(SavePreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(savePreferences.getEncoding()).thenReturn(null);
+        new BibtexDatabaseWriter(backupWriter, savePreferences, new BibEntryTypesManager())
+                .savePartOfDatabaseInGivenOrder(new BibDatabaseContext(crossRefDatabase, new MetaData()), entries);
+        crossRefJournal.startJournal(journalPath, BACKUP_SIZE, entries.size());
+
+        parent.setField(StandardField.YEAR, "2020");
+        child.setField(StandardField.PAGES, "1--10");
+        crossRefJournal.appendPendingChanges(journalPath);
+
+        BibDatabase backup = new BibtexParser(mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS), new DummyFileUpdateMonitor())
+                .parse(new StringReader(backupWriter.toString()))
+                .getDatabase();
+        assertTrue(BackupJournal.replay(journalPath, BACKUP_SIZE, backup));
+        assertEquals(crossRefDatabase.getEntries(), backup.getEntries());
+    }
+
+    @Test
+    void replayRejectsJournalOfOtherBackup() throws Exception {
+        first.setField(StandardField.TITLE, "Changed");
+        journal.appendPendingChanges(journalPath);
+
+        BibDatabase backup = createBackup();
+        assertFalse(BackupJournal.replay(journalPath, BACKUP_SIZE + 1, backup));
+        assertEquals(createBackup().getEntries(), backup.getEntries());
+    }
+}
@@ -15,4 +15,11 @@ public class BackupManagerTest {
         Path savPath = BackupManager.getBackupPath(bibPath);
         assertEquals(Paths.get("tmp", "test.bib.sav"), savPath);
     }
+
+    @Test
+    public void journalFileNameIsCorrectlyGeneratedWithinTmpDirectory() {
+        Path bibPath = Paths.get("tmp", "test.bib");
+        Path journalPath = BackupManager.getJournalPath(bibPath);
+        assertEquals(Paths.get("tmp", "test.bib.sav.journal"), journalPath);
+    }
 }
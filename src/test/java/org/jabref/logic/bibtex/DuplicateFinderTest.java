@@ -0,0 +1,93 @@
+package org.jabref.logic.bibtex;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DuplicateFinderTest {
+
+    private DuplicateFinder duplicateFinder;
+    private BibEntry article;
+    private BibEntry articleWithTypo;
+    private BibEntry unrelatedArticle;
+
+    @BeforeEach
+    public void setUp() {
+        duplicateFinder = new DuplicateFinder(new BibEntryTypesManager(), BibDatabaseMode.BIBTEX);
+        article = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.JOURNAL, "Journal of Things")
+                .withField(StandardField.YEAR, "2017");
+        articleWithTypo = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious papr about something")
+                .withField(StandardField.JOURNAL, "Journal of Things")
+                .withField(StandardField.YEAR, "2017");
+        unrelatedArticle = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Completely Different")
+                .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(StandardField.YEAR, "1992");
+    }
+
+    @Test
+    public void findDuplicatesReturnsNothingForUnrelatedEntries() {
+        assertEquals(Collections.emptyList(), duplicateFinder.findDuplicates(Arrays.asList(article, unrelatedArticle)));
+    }
+
+    @Test
+    public void findDuplicatesFindsSimilarEntries() {
+        List<List<BibEntry>> duplicates = duplicateFinder.findDuplicates(Arrays.asList(article, unrelatedArticle, articleWithTypo));
+
+        assertEquals(1, duplicates.size());
+        assertSame(article, duplicates.get(0).get(0));
+        assertSame(articleWithTypo, duplicates.get(0).get(1));
+    }
+
+    @Test
+    public void findDuplicatesFindsEntriesWithSameIdentifier() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Some title")
+                .withField(StandardField.DOI, "10.1000/182");
+        BibEntry second = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.TITLE, "Completely different")
+                .withField(StandardField.DOI, "10.1000/182");
+
+        assertEquals(Collections.singletonList(Arrays.asList(first, second)), duplicateFinder.findDuplicates(Arrays.asList(first, unrelatedArticle, second)));
+    }
+
+    @Test
+    public void findDuplicatesFindsEntriesWithoutBlockingFields() {
+        BibEntry first = new BibEntry(StandardEntryType.Article).withField(StandardField.JOURNAL, "Journal of Things");
+        BibEntry second = new BibEntry(StandardEntryType.Article).withField(StandardField.JOURNAL, "Journal of Things");
+
+        assertEquals(1, duplicateFinder.findDuplicates(Arrays.asList(first, second)).size());
+    }
+
+    @Test
+    public void findDuplicateUsesIndex() {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(Arrays.asList(unrelatedArticle, article));
+
+        assertEquals(Optional.of(article), duplicateFinder.findDuplicate(index, articleWithTypo));
+    }
+
+    @Test
+    public void findDuplicateDoesNotReturnEntryItself() {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(Arrays.asList(unrelatedArticle, article));
+
+        assertEquals(Optional.empty(), duplicateFinder.findDuplicate(index, article));
+    }
+}
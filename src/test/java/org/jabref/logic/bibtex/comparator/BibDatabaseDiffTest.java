@@ -1,16 +1,19 @@
 package org.jabref.logic.bibtex.comparator;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class BibDatabaseDiffTest {
 
@@ -46,4 +49,70 @@ class BibDatabaseDiffTest {
 
         assertEquals(Collections.emptyList(), diff.getEntryDifferences());
     }
+
+    @Test
+    void compareOfReorderedEntriesReportsNoDifferences() throws Exception {
+        BibEntry first = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "first");
+        BibEntry second = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "second");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(List.of(first, second)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(List.of(second, first)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(Collections.emptyList(), diff.getEntryDifferences());
+    }
+
+    @Test
+    void compareOfEntriesWithSameKeyReportsChange() throws Exception {
+        BibEntry entryOne = new BibEntry(BibEntry.DEFAULT_TYPE).withField(InternalField.KEY_FIELD, "key")
+                                                               .withField(StandardField.TITLE, "test")
+                                                               .withField(StandardField.AUTHOR, "author")
+                                                               .withField(StandardField.YEAR, "2019");
+        BibEntry entryTwo = new BibEntry(BibEntry.DEFAULT_TYPE).withField(InternalField.KEY_FIELD, "key")
+                                                               .withField(StandardField.TITLE, "another test")
+                                                               .withField(StandardField.AUTHOR, "another author")
+                                                               .withField(StandardField.YEAR, "2020");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryOne)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryTwo)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(1, diff.getEntryDifferences().size());
+        assertEquals(entryOne, diff.getEntryDifferences().get(0).getOriginalEntry());
+        assertEquals(entryTwo, diff.getEntryDifferences().get(0).getNewEntry());
+    }
+
+    @Test
+    void compareOfSimilarEntriesWithoutKeyReportsChange() throws Exception {
+        BibEntry entryOne = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "test")
+                                                               .withField(StandardField.YEAR, "2019");
+        BibEntry entryTwo = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "test")
+                                                               .withField(StandardField.YEAR, "2020");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryOne)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryTwo)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(1, diff.getEntryDifferences().size());
+        assertEquals(entryOne, diff.getEntryDifferences().get(0).getOriginalEntry());
+        assertEquals(entryTwo, diff.getEntryDifferences().get(0).getNewEntry());
+    }
+
+    @Test
+    void compareOfDifferentEntriesReportsRemovalAndAddition() throws Exception {
+        BibEntry entryOne = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "test")
+                                                               .withField(StandardField.YEAR, "2019");
+        BibEntry entryTwo = new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.AUTHOR, "author")
+                                                               .withField(StandardField.YEAR, "2020");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryOne)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryTwo)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(2, diff.getEntryDifferences().size());
+        assertEquals(entryOne, diff.getEntryDifferences().get(0).getOriginalEntry());
+        assertNull(diff.getEntryDifferences().get(0).getNewEntry());
+        assertNull(diff.getEntryDifferences().get(1).getOriginalEntry());
+        assertEquals(entryTwo, diff.getEntryDifferences().get(1).getNewEntry());
+    }
 }
@@ -173,4 +173,45 @@ public class FieldComparatorTest {
 
         assertEquals(1, comparator.compare(bigger, smaller));
     }
+
+    @Test
+    public void compareUsesChangedFieldValue() throws Exception {
+        FieldComparator comparator = new FieldComparator(StandardField.TITLE);
+        BibEntry first = new BibEntry();
+        first.setField(StandardField.TITLE, "a");
+        BibEntry second = new BibEntry();
+        second.setField(StandardField.TITLE, "b");
+        comparator.compare(first, second);
+
+        first.setField(StandardField.TITLE, "c");
+
+        assertEquals(1, comparator.compare(first, second));
+    }
+
+    @Test
+    public void compareUsesChangedAlias() throws Exception {
+        FieldComparator comparator = new FieldComparator(StandardField.YEAR);
+        BibEntry first = new BibEntry();
+        first.setField(StandardField.DATE, "2016-01-01");
+        BibEntry second = new BibEntry();
+        second.setField(StandardField.YEAR, "2017");
+        comparator.compare(first, second);
+
+        first.setField(StandardField.DATE, "2018-01-01");
+
+        assertEquals(1, comparator.compare(first, second));
+    }
+
+    @Test
+    public void ascendingAndDescendingComparatorsShareSortKeys() throws Exception {
+        FieldComparator ascending = new FieldComparator(new OrFields(StandardField.TITLE), false);
+        FieldComparator descending = new FieldComparator(new OrFields(StandardField.TITLE), true);
+        BibEntry bigger = new BibEntry();
+        bigger.setField(StandardField.TITLE, "b");
+        BibEntry smaller = new BibEntry();
+        smaller.setField(StandardField.TITLE, "a");
+
+        assertEquals(1, ascending.compare(bigger, smaller));
+        assertEquals(-1, descending.compare(bigger, smaller));
+    }
 }
@@ -0,0 +1,103 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.Importer;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.SaveOrderConfig;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IncrementalSaveCacheTest {
+
+    private SavePreferences preferences;
+    private BibEntryTypesManager entryTypesManager;
+    private BibDatabaseContext context;
+    private IncrementalSaveCache saveCache;
+    private Path library;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        preferences = mock(SavePreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(preferences.getSaveOrder()).thenReturn(new SaveOrderConfig());
+        when(preferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+        when(preferences.takeMetadataSaveOrderInAccount()).thenReturn(true);
+        entryTypesManager = new BibEntryTypesManager();
+        saveCache = new IncrementalSaveCache();
+        library = temporaryFolder.resolve("library.bib");
+
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        ParserResult result = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor())
+                .parse(Importer.getReader(Paths.get("src/test/resources/testbib/complex.bib"), StandardCharsets.UTF_8));
+        context = new BibDatabaseContext(result.getDatabase(), result.getMetaData());
+    }
+
+    private String saveWithCache() throws IOException {
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(library, StandardCharsets.UTF_8)) {
+            new BibtexDatabaseWriter(fileWriter, preferences, entryTypesManager, saveCache).saveDatabase(context);
+        }
+        return Files.readString(library, StandardCharsets.UTF_8);
+    }
+
+    private String saveWithoutCache() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        new BibtexDatabaseWriter(stringWriter, preferences, entryTypesManager).saveDatabase(context);
+        return stringWriter.toString();
+    }
+
+    @Test
+    void saveAgainWritesSameContent() throws IOException {
+        saveWithCache();
+
+        assertEquals(saveWithoutCache(), saveWithCache());
+    }
+
+    @Test
+    void saveAfterChangeOfEntryWritesSameContentAsFullSave() throws IOException {
+        saveWithCache();
+
+        BibEntry entry = context.getDatabase().getEntries().get(1);
+        entry.setField(StandardField.TITLE, "A changed title");
+
+        assertEquals(saveWithoutCache(), saveWithCache());
+    }
+
+    @Test
+    void saveAfterChangeOfSortOrderWritesSameContentAsFullSave() throws IOException {
+        when(preferences.isSaveInOriginalOrder()).thenReturn(true);
+        saveWithCache();
+
+        when(preferences.isSaveInOriginalOrder()).thenReturn(false);
+        context.getDatabase().getEntries().get(0).setField(StandardField.YEAR, "1900");
+
+        assertEquals(saveWithoutCache(), saveWithCache());
+    }
+
+    @Test
+    void saveAfterExternalModificationWritesSameContentAsFullSave() throws IOException {
+        saveWithCache();
+
+        Files.writeString(library, "% modified externally");
+
+        assertEquals(saveWithoutCache(), saveWithCache());
+    }
+}
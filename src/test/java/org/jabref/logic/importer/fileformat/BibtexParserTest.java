@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
@@ -1791,4 +1792,59 @@ class BibtexParserTest {
 
         assertEquals(Optional.of("#apr#"), result.get().getField(StandardField.MONTH));
     }
+
+    @Test
+    void parseKeepsSerializationOfEntriesExceedingTheInitialBuffer() throws IOException {
+        String abstractText = "Some words about the content. ".repeat(500);
+        String firstEntry = "@Article{first," + OS.NEWLINE + "  abstract = {" + abstractText + "}," + OS.NEWLINE + "}";
+        String secondEntry = "@Book{second key," + OS.NEWLINE + "  title = {Title}," + OS.NEWLINE + "}";
+
+        String input = firstEntry + OS.NEWLINE + OS.NEWLINE + secondEntry;
+
+        ParserResult result = parser.parse(new StringReader(input));
+        List<BibEntry> entries = result.getDatabase().getEntries();
+
+        assertEquals(2, entries.size());
+        assertEquals(Optional.of(abstractText), entries.get(0).getField(StandardField.ABSTRACT));
+        assertEquals(Optional.of("secondkey"), entries.get(1).getCiteKeyOptional());
+        assertEquals(input, entries.get(0).getParsedSerialization() + entries.get(1).getParsedSerialization());
+    }
+
+    @Test
+    void parseInParallelReturnsSameResultAsParse() throws IOException {
+        StringBuilder bibtex = new StringBuilder("% Encoding: UTF-8" + OS.NEWLINE + OS.NEWLINE);
+        bibtex.append("@Preamble{some preamble}" + OS.NEWLINE);
+        bibtex.append("@String{journal = {Journal of Things}}" + OS.NEWLINE + OS.NEWLINE);
+        for (int i = 0; i < 500; i++) {
+            bibtex.append("@Article{key").append(i % 400).append(',').append(OS.NEWLINE)
+                  .append("  author  = {Author ").append(i).append(" and mail@example.org},").append(OS.NEWLINE)
+                  .append("  title   = \"A {Title} ").append(i).append("\",").append(OS.NEWLINE)
+                  .append("  journal = journal # { } # {Vol. ").append(i).append("},").append(OS.NEWLINE)
+                  .append('}').append(OS.NEWLINE).append(OS.NEWLINE);
+            if ((i % 100) == 0) {
+                bibtex.append("Some text before @Book{corrupted key, title = {Title}}" + OS.NEWLINE);
+                bibtex.append("@Comment{A comment}" + OS.NEWLINE + OS.NEWLINE);
+            }
+        }
+        bibtex.append("@Misc{unbalanced, title = {Title}" + OS.NEWLINE + OS.NEWLINE);
+        bibtex.append("@Comment{jabref-meta: saveActions:enabled;title[lower_case]}" + OS.NEWLINE);
+        bibtex.append("some epilog");
+
+        ParserResult expected = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor()).parse(new StringReader(bibtex.toString()));
+        ParserResult result = parser.parseInParallel(new StringReader(bibtex.toString()));
+
+        List<BibEntry> expectedEntries = expected.getDatabase().getEntries();
+        List<BibEntry> entries = result.getDatabase().getEntries();
+        assertEquals(expectedEntries, entries);
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(expectedEntries.get(i).getParsedSerialization(), entries.get(i).getParsedSerialization());
+        }
+        assertEquals(expected.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).collect(Collectors.toSet()),
+                result.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).collect(Collectors.toSet()));
+        assertEquals(expected.getDatabase().getPreamble(), result.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getEpilog(), result.getDatabase().getEpilog());
+        assertEquals(expected.getMetaData(), result.getMetaData());
+        assertEquals(expected.warnings(), result.warnings());
+        assertEquals(expected.getDuplicateKeys(), result.getDuplicateKeys());
+    }
 }
@@ -0,0 +1,103 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChangedRegionsParserTest {
+
+    private static final String FIRST_ENTRY = "@Article{first,\n  title = {First},\n}\n\n";
+    private static final String SECOND_ENTRY = "@Article{second,\n  title = {Second},\n}\n\n";
+
+    private ImportFormatPreferences importFormatPreferences;
+    private ChangedRegionsParser parser;
+    private BibDatabaseContext loadedDatabase;
+    private Path file;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+        parser = new ChangedRegionsParser(importFormatPreferences, new DummyFileUpdateMonitor());
+
+        ParserResult result = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor())
+                .parse(new StringReader(FIRST_ENTRY + SECOND_ENTRY));
+        loadedDatabase = result.getDatabaseContext();
+        file = tempDir.resolve("library.bib");
+    }
+
+    @Test
+    void unchangedFileYieldsNoEntries() throws Exception {
+        Files.writeString(file, FIRST_ENTRY + SECOND_ENTRY);
+
+        ChangedRegionsParser.Result result = parser.parse(file, loadedDatabase);
+
+        assertEquals(Collections.emptyList(), result.getRemainingEntries());
+        assertEquals(Collections.emptyList(), result.getParserResult().getDatabase().getEntries());
+    }
+
+    @Test
+    void changedEntryIsParsed() throws Exception {
+        Files.writeString(file, FIRST_ENTRY + "@Article{second,\n  title = {Changed},\n}\n\n");
+
+        ChangedRegionsParser.Result result = parser.parse(file, loadedDatabase);
+
+        assertEquals(List.of(loadedDatabase.getEntries().get(1)), result.getRemainingEntries());
+        List<BibEntry> parsedEntries = result.getParserResult().getDatabase().getEntries();
+        assertEquals(1, parsedEntries.size());
+        assertEquals(Optional.of("Changed"), parsedEntries.get(0).getField(StandardField.TITLE));
+    }
+
+    @Test
+    void removedEntryRemains() throws Exception {
+        Files.writeString(file, SECOND_ENTRY);
+
+        ChangedRegionsParser.Result result = parser.parse(file, loadedDatabase);
+
+        assertEquals(List.of(loadedDatabase.getEntries().get(0)), result.getRemainingEntries());
+        assertEquals(Collections.emptyList(), result.getParserResult().getDatabase().getEntries());
+    }
+
+    @Test
+    void entryChangedInLibraryIsParsedAgain() throws Exception {
+        loadedDatabase.getEntries().get(0).setField(StandardField.TITLE, "Changed in library");
+        Files.writeString(file, FIRST_ENTRY + SECOND_ENTRY);
+
+        ChangedRegionsParser.Result result = parser.parse(file, loadedDatabase);
+
+        assertEquals(List.of(loadedDatabase.getEntries().get(0)), result.getRemainingEntries());
+        assertEquals(1, result.getParserResult().getDatabase().getEntries().size());
+    }
+
+    @Test
+    void stringsBetweenUnchangedEntriesAreParsed() throws Exception {
+        Files.writeString(file, FIRST_ENTRY + "@String{name = {value}}\n\n" + SECOND_ENTRY);
+
+        ChangedRegionsParser.Result result = parser.parse(file, loadedDatabase);
+
+        assertEquals(Collections.emptyList(), result.getRemainingEntries());
+        assertEquals(Optional.of("value"), result.getParserResult().getDatabase().getStringByName("name").map(BibtexString::getContent));
+    }
+}
@@ -0,0 +1,125 @@
+package org.jabref.logic.importer.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LibrarySnapshotCacheTest {
+
+    private static final String LIBRARY = "% Encoding: UTF-8\n\n"
+            + "@String{journal = {Journal of Things}}\n\n"
+            + "@Article{first,\n  author  = {Author, First},\n  journal = journal,\n}\n\n"
+            + "% a comment\n@Book{second,\n  title = {A {Title}},\n}\n\n"
+            + "@Comment{jabref-meta: databaseType:biblatex;}\n";
+
+    private ImportFormatPreferences importFormatPreferences;
+    private LibrarySnapshotCache snapshotCache;
+    private Path library;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.getBibtexKeyPatternPreferences().getKeyPattern()).thenReturn(GlobalBibtexKeyPattern.fromPattern("[auth][year]"));
+        snapshotCache = new LibrarySnapshotCache(importFormatPreferences, new DummyFileUpdateMonitor());
+
+        library = temporaryFolder.resolve("library.bib");
+        Files.writeString(library, LIBRARY);
+    }
+
+    private ParserResult parse() throws IOException {
+        return new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(library, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void loadWithoutSnapshotReturnsEmpty() {
+        assertEquals(Optional.empty(), snapshotCache.load(library));
+    }
+
+    @Test
+    void loadReturnsStoredResult() throws IOException {
+        ParserResult parsed = parse();
+        snapshotCache.store(library, parsed);
+
+        ParserResult loaded = snapshotCache.load(library).get();
+
+        List<BibEntry> parsedEntries = parsed.getDatabase().getEntries();
+        List<BibEntry> loadedEntries = loaded.getDatabase().getEntries();
+        assertEquals(parsedEntries, loadedEntries);
+        for (int i = 0; i < parsedEntries.size(); i++) {
+            assertEquals(parsedEntries.get(i).getParsedSerialization(), loadedEntries.get(i).getParsedSerialization());
+            assertEquals(parsedEntries.get(i).getUserComments(), loadedEntries.get(i).getUserComments());
+            assertFalse(loadedEntries.get(i).hasChanged());
+        }
+        assertEquals(parsed.getDatabase().getStringValues().iterator().next().getParsedSerialization(),
+                loaded.getDatabase().getStringValues().iterator().next().getParsedSerialization());
+        assertEquals(parsed.getDatabase().getEpilog(), loaded.getDatabase().getEpilog());
+        assertEquals(parsed.getMetaData(), loaded.getMetaData());
+        assertEquals(parsed.getFile(), loaded.getFile());
+    }
+
+    @Test
+    void loadIgnoresSnapshotOfChangedFile() throws IOException {
+        snapshotCache.store(library, parse());
+
+        Files.writeString(library, LIBRARY.replace("First", "Second"));
+
+        assertEquals(Optional.empty(), snapshotCache.load(library));
+    }
+
+    @Test
+    void loadIgnoresSnapshotWrittenWithOtherKeywordSeparator() throws IOException {
+        snapshotCache.store(library, parse());
+
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(';');
+
+        assertEquals(Optional.empty(), snapshotCache.load(library));
+    }
+
+    @Test
+    void loadedSnapshotCanBeReplaced() throws IOException {
+        snapshotCache.store(library, parse());
+        snapshotCache.load(library);
+
+        Files.writeString(library, LIBRARY.replace("First", "Second"));
+        snapshotCache.store(library, parse());
+
+        assertEquals("Author, Second", snapshotCache.load(library).get().getDatabase().getEntries().get(0).getField(StandardField.AUTHOR).get());
+    }
+
+    @Test
+    void loadIgnoresCorruptedSnapshot() throws IOException {
+        snapshotCache.store(library, parse());
+        Path snapshot = LibrarySnapshotCache.getSnapshotPath(library);
+        assertTrue(Files.exists(snapshot));
+
+        byte[] content = Files.readAllBytes(snapshot);
+        Files.write(snapshot, Arrays.copyOf(content, content.length / 2));
+
+        assertEquals(Optional.empty(), snapshotCache.load(library));
+    }
+}
@@ -0,0 +1,144 @@
+package org.jabref.logic.pdf;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FileAnnotationStoreTest {
+
+    private static final FileAnnotation NOTE = new FileAnnotation("Linus Dietz", LocalDateTime.of(2017, 3, 12, 20, 32, 2), 1,
+            "linked note to highlight", FileAnnotationType.HIGHLIGHT, Optional.empty());
+    private static final FileAnnotation HIGHLIGHT = new FileAnnotation(null, LocalDateTime.of(2017, 3, 12, 20, 32), 2,
+            "World", FileAnnotationType.HIGHLIGHT, Optional.of(NOTE));
+    private static final List<FileAnnotation> ANNOTATIONS = List.of(NOTE, HIGHLIGHT);
+
+    private final AtomicInteger numberOfImports = new AtomicInteger();
+    private final AnnotationImporter importer = path -> {
+        numberOfImports.incrementAndGet();
+        return ANNOTATIONS;
+    };
+
+    private Path file;
+    private Path storeFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        file = Files.writeString(tempDir.resolve("paper.pdf"), "content");
+        storeFile = tempDir.resolve("store");
+    }
+
+    @Test
+    void unmodifiedFileIsReadOnce() {
+        FileAnnotationStore store = new FileAnnotationStore(storeFile, importer);
+        store.importAnnotations(file);
+
+        assertEquals(ANNOTATIONS, store.importAnnotations(file));
+        assertEquals(1, numberOfImports.get());
+    }
+
+    @Test
+    void modifiedFileIsReadAgain() throws Exception {
+        FileAnnotationStore store = new FileAnnotationStore(storeFile, importer);
+        store.importAnnotations(file);
+        Files.writeString(file, "modified content");
+
+        assertEquals(ANNOTATIONS, store.importAnnotations(file));
+        assertEquals(2, numberOfImports.get());
+    }
+
+    @Test
+    void failedReadIsNotStored() {
+        AnnotationImporter failingOnceImporter = new AnnotationImporter() {
+            @Override
+            public List<FileAnnotation> importAnnotations(Path path) {
+                return readAnnotations(path).orElse(List.of());
+            }
+
+            @Override
+            public Optional<List<FileAnnotation>> readAnnotations(Path path) {
+                return (numberOfImports.incrementAndGet() == 1) ? Optional.empty() : Optional.of(ANNOTATIONS);
+            }
+        };
+        FileAnnotationStore store = new FileAnnotationStore(storeFile, failingOnceImporter);
+
+        assertEquals(List.of(), store.importAnnotations(file));
+        assertEquals(ANNOTATIONS, store.importAnnotations(file));
+        assertEquals(2, numberOfImports.get());
+    }
+
+    @Test
+    void storedAnnotationsAreLoadedAgain() throws Exception {
+        FileAnnotationStore store = new FileAnnotationStore(storeFile, importer);
+        store.importAnnotations(file);
+        store.store();
+
+        FileAnnotationStore loadedStore = new FileAnnotationStore(storeFile, importer);
+        loadedStore.load();
+
+        assertEquals(ANNOTATIONS, loadedStore.importAnnotations(file));
+        assertEquals(1, numberOfImports.get());
+    }
+
+    @Test
+    void annotationsInStoreFileAreKeptWithoutLoadingExplicitly() throws Exception {
+        FileAnnotationStore store = new FileAnnotationStore(storeFile, importer);
+        store.importAnnotations(file);
+        store.store();
+
+        Path otherFile = Files.writeString(file.resolveSibling("other.pdf"), "other content");
+        FileAnnotationStore otherStore = new FileAnnotationStore(storeFile, importer);
+        otherStore.importAnnotations(otherFile);
+        otherStore.store();
+
+        FileAnnotationStore loadedStore = new FileAnnotationStore(storeFile, importer);
+        loadedStore.importAnnotations(file);
+        loadedStore.importAnnotations(otherFile);
+
+        assertEquals(2, numberOfImports.get());
+    }
+
+    @Test
+    void annotationsOfRemovedFilesAreDropped() throws Exception {
+        FileAnnotationStore store = new FileAnnotationStore(storeFile, importer);
+        store.importAnnotations(file);
+        store.store();
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        Files.delete(file);
+
+        FileAnnotationStore storeWithoutFile = new FileAnnotationStore(storeFile, importer);
+        storeWithoutFile.load();
+        storeWithoutFile.store();
+
+        // the same file again, which would be taken from the store if it had been kept
+        Files.writeString(file, "content");
+        Files.setLastModifiedTime(file, lastModified);
+        FileAnnotationStore loadedStore = new FileAnnotationStore(storeFile, importer);
+        loadedStore.load();
+        loadedStore.importAnnotations(file);
+
+        assertEquals(2, numberOfImports.get());
+    }
+
+    @Test
+    void damagedStoreFileIsIgnored() throws Exception {
+        Files.writeString(storeFile, "damaged");
+        FileAnnotationStore store = new FileAnnotationStore(storeFile, importer);
+        store.load();
+
+        assertEquals(ANNOTATIONS, store.importAnnotations(file));
+        assertEquals(1, numberOfImports.get());
+    }
+}
@@ -0,0 +1,87 @@
+package org.jabref.logic.shared;
+
+import java.util.List;
+
+import org.jabref.model.database.shared.DBMSType;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.testutils.category.DatabaseTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DatabaseTest
+@Execution(ExecutionMode.SAME_THREAD)
+class DBMSConnectionPoolTest {
+
+    private DBMSConnection dbmsConnection;
+    private DBMSProcessor dbmsProcessor;
+    private DBMSConnectionPool connectionPool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DBMSType dbmsType = TestManager.getDBMSTypeTestParameter();
+        dbmsConnection = TestConnector.getTestDBMSConnection(dbmsType);
+        dbmsProcessor = DBMSProcessor.getProcessorInstance(dbmsConnection);
+        TestManager.clearTables(dbmsConnection);
+        dbmsProcessor.setupSharedDatabase();
+        connectionPool = new DBMSConnectionPool(dbmsConnection.getProperties());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionPool.close();
+        dbmsConnection.getConnection().close();
+    }
+
+    @Test
+    void releasedProcessorIsReused() throws Exception {
+        DBMSProcessor processor = connectionPool.acquireProcessor();
+        connectionPool.releaseProcessor(processor);
+
+        assertSame(processor, connectionPool.acquireProcessor());
+    }
+
+    @Test
+    void processorsInUseUseDifferentConnections() throws Exception {
+        DBMSProcessor firstProcessor = connectionPool.acquireProcessor();
+        DBMSProcessor secondProcessor = connectionPool.acquireProcessor();
+
+        assertNotSame(firstProcessor.connection, secondProcessor.connection);
+        connectionPool.releaseProcessor(firstProcessor);
+        connectionPool.releaseProcessor(secondProcessor);
+    }
+
+    @Test
+    void processorReleasedAfterClosingIsClosed() throws Exception {
+        DBMSProcessor processor = connectionPool.acquireProcessor();
+        connectionPool.close();
+        connectionPool.releaseProcessor(processor);
+
+        assertFalse(processor.isConnectionValid());
+    }
+
+    @Test
+    void changesOfPooledProcessorAreVisibleToOtherProcessors() throws Exception {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "A title");
+        DBMSProcessor processor = connectionPool.acquireProcessor();
+        processor.insertEntry(entry);
+        // uses cached statements for the second time
+        entry.setField(StandardField.TITLE, "Another title");
+        processor.updateEntry(entry);
+        entry.setField(StandardField.TITLE, "Yet another title");
+        processor.updateEntry(entry);
+        connectionPool.releaseProcessor(processor);
+
+        assertEquals(List.of(entry), dbmsProcessor.getSharedEntries());
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.jabref.logic.shared.event.EntriesUploadProgressEvent;
 import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.database.shared.DBMSType;
 import org.jabref.model.entry.BibEntry;
@@ -154,6 +155,51 @@ class DBMSProcessorTest {
         assertEquals(expectedFieldMap, actualFieldMap);
     }
 
+    @Test
+    void testInsertManyEntriesInChunks() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "title " + i));
+        }
+        List<EntriesUploadProgressEvent> events = new ArrayList<>();
+        dbmsProcessor.insertEntries(entries, events::add);
+
+        assertEquals(3, events.size());
+        assertEquals(1000, events.get(0).getUploadedEntries());
+        assertTrue(events.get(2).isFinished());
+        assertEquals(2500, dbmsProcessor.getSharedIDVersionMapping().size());
+    }
+
+    @Test
+    void testInsertEntriesDoesNotInsertExistingEntriesAgain() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "title " + i));
+        }
+        dbmsProcessor.insertEntries(entries);
+        entries.add(new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "new title"));
+        dbmsProcessor.insertEntries(entries);
+
+        assertEquals(1501, dbmsProcessor.getSharedIDVersionMapping().size());
+    }
+
+    @Test
+    void testGetAndRemoveManyEntriesInChunks() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1205; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "title " + i));
+        }
+        dbmsProcessor.insertEntries(entries);
+        List<Integer> sharedIDs = new ArrayList<>(dbmsProcessor.getSharedIDVersionMapping().keySet());
+        Collections.reverse(sharedIDs);
+
+        // the last chunks are padded to the fixed sizes of the queries
+        assertEquals(1205, dbmsProcessor.getSharedIDVersionMapping(sharedIDs).size());
+        assertEquals(1205, dbmsProcessor.getSharedEntries(sharedIDs).size());
+        dbmsProcessor.removeEntries(entries.subList(0, 1203));
+        assertEquals(2, dbmsProcessor.getSharedIDVersionMapping().size());
+    }
+
     @Test
     void testUpdateEntry() throws Exception {
         BibEntry expectedEntry = getBibEntryExample();
@@ -318,6 +364,47 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @Test
+    void testGetSharedIDVersionMappingOfGivenIDs() throws OfflineLockException, SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(firstEntry);
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.updateEntry(secondEntry);
+
+        Map<Integer, Integer> actualIDVersionMap = dbmsProcessor.getSharedIDVersionMapping(
+                List.of(secondEntry.getSharedBibEntryData().getSharedID(), 42));
+
+        assertEquals(Map.of(secondEntry.getSharedBibEntryData().getSharedID(), 2), actualIDVersionMap);
+    }
+
+    @Test
+    void testGetEntryChangesSince() throws OfflineLockException, SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(firstEntry);
+        long revision = dbmsProcessor.getLatestRevision();
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.updateEntry(firstEntry);
+
+        assertEquals(List.of(secondEntry.getSharedBibEntryData().getSharedID(), firstEntry.getSharedBibEntryData().getSharedID()),
+                new ArrayList<>(dbmsProcessor.getEntryChangesSince(revision).values()));
+    }
+
+    @Test
+    void testGetEntryChangesSinceContainsRemovedEntry() {
+        BibEntry entry = getBibEntryExample();
+        dbmsProcessor.insertEntry(entry);
+        long revision = dbmsProcessor.getLatestRevision();
+
+        dbmsProcessor.removeEntries(Collections.singletonList(entry));
+
+        assertEquals(List.of(entry.getSharedBibEntryData().getSharedID()),
+                new ArrayList<>(dbmsProcessor.getEntryChangesSince(revision).values()));
+    }
+
     @Test
     void testGetSharedMetaData() {
         insertMetaData("databaseType", "bibtex;", dbmsConnection, dbmsProcessor);
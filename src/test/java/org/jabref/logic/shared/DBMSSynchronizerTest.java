@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.jabref.logic.exporter.MetaDataSerializer;
 import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
@@ -31,6 +32,7 @@ import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DatabaseTest
@@ -96,11 +98,28 @@ public class DBMSSynchronizerTest {
         bibDatabase.insertEntry(expectedEntry);
         expectedEntry.setField(StandardField.AUTHOR, "Brad L and Gilson");
         expectedEntry.setField(StandardField.TITLE, "The micro multiplexer");
+        dbmsSynchronizer.flushEntryUpdates();
 
         List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
         assertEquals(Collections.singletonList(expectedEntry), actualEntries);
     }
 
+    @Test
+    public void successiveLocalFieldChangesAreWrittenAsSingleUpdate() throws Exception {
+        BibEntry expectedEntry = createExampleBibEntry(1);
+        expectedEntry.registerListener(dbmsSynchronizer);
+
+        bibDatabase.insertEntry(expectedEntry);
+        for (int i = 0; i < 10; i++) {
+            expectedEntry.setField(StandardField.TITLE, "The micro multiplexer " + i);
+        }
+        dbmsSynchronizer.flushEntryUpdates();
+
+        assertEquals(Collections.singletonList(expectedEntry), dbmsProcessor.getSharedEntries());
+        assertEquals(2, dbmsProcessor.getSharedIDVersionMapping().get(1));
+        assertEquals(2, expectedEntry.getSharedBibEntryData().getVersion());
+    }
+
     @Test
     public void oneLocalAndOneSharedFieldChangeIsSynchronizedCorrectly() throws Exception {
         BibEntry exampleBibEntry = createExampleBibEntry(1);
@@ -108,6 +127,7 @@ public class DBMSSynchronizerTest {
 
         bibDatabase.insertEntry(exampleBibEntry);
         exampleBibEntry.setField(StandardField.AUTHOR, "Brad L and Gilson");
+        dbmsSynchronizer.flushEntryUpdates();
         // shared updates are not synchronized back to the remote database
         exampleBibEntry.setField(StandardField.TITLE, "The micro multiplexer", EntriesEventSource.SHARED);
 
@@ -203,6 +223,27 @@ public class DBMSSynchronizerTest {
         assertEquals(List.of(modifiedBibEntry), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    public void pendingLocalChangeIsNotOverwrittenByConcurrentSharedChange() throws Exception {
+        SynchronizationTestEventListener eventListener = new SynchronizationTestEventListener();
+        dbmsSynchronizer.registerListener(eventListener);
+        BibEntry localEntry = createExampleBibEntry(1);
+        localEntry.registerListener(dbmsSynchronizer);
+        bibDatabase.insertEntry(localEntry);
+
+        // another client changes the entry while the local change is still waiting to be written
+        localEntry.setField(StandardField.TITLE, "The micro multiplexer");
+        BibEntry sharedEntry = createExampleBibEntry(1)
+                .withField(StandardField.YEAR, "2020");
+        dbmsProcessor.updateEntry(sharedEntry);
+        dbmsSynchronizer.pullChanges();
+
+        assertEquals(Optional.of("The micro multiplexer"), localEntry.getField(StandardField.TITLE));
+        assertEquals(Optional.empty(), localEntry.getField(StandardField.YEAR));
+        assertNotNull(eventListener.getUpdateRefusedEvent());
+        assertEquals(List.of(sharedEntry), dbmsProcessor.getSharedEntries());
+    }
+
     @Test
     public void updateEntryDoesNotModifyLocalDatabase() throws Exception {
         BibEntry bibEntry = createExampleBibEntry(1);
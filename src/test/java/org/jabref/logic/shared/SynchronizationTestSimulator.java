@@ -88,6 +88,7 @@ public class SynchronizationTestSimulator {
         bibEntry.setField(new UnknownField("custom"), "custom value");
         // client B pulls the changes
         bibEntry.clearField(StandardField.AUTHOR);
+        clientContextA.getDBMSSynchronizer().flushEntryUpdates();
 
         clientContextB.getDBMSSynchronizer().pullChanges();
 
@@ -135,6 +136,7 @@ public class SynchronizationTestSimulator {
         //client B tries to update the entry
         BibEntry bibEntryOfClientB = clientContextB.getDatabase().getEntries().get(0);
         bibEntryOfClientB.setField(StandardField.YEAR, "2009");
+        clientContextB.getDBMSSynchronizer().flushEntryUpdates();
 
         // here a new SharedEntryNotPresentEvent has been thrown. In this case the user B would get an pop-up window.
         assertNotNull(eventListenerB.getSharedEntriesNotPresentEvent());
@@ -151,6 +153,7 @@ public class SynchronizationTestSimulator {
 
         // A now increases the version number
         bibEntryOfClientA.setField(StandardField.YEAR, "2001");
+        clientContextA.getDBMSSynchronizer().flushEntryUpdates();
 
         // B does nothing here, so there is no event occurrence
         assertFalse(clientContextB.getDatabase().getEntries().isEmpty());
@@ -159,6 +162,7 @@ public class SynchronizationTestSimulator {
         BibEntry bibEntryOfClientB = clientContextB.getDatabase().getEntries().get(0);
         // B also tries to change something
         bibEntryOfClientB.setField(StandardField.YEAR, "2016");
+        clientContextB.getDBMSSynchronizer().flushEntryUpdates();
 
         // B now cannot update the shared entry, due to optimistic offline lock.
         // In this case an BibEntry merge dialog pops up.
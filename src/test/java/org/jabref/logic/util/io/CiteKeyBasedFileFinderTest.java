@@ -99,4 +99,18 @@ class CiteKeyBasedFileFinderTest {
 
         assertEquals(Collections.emptyList(), results);
     }
+
+    @Test
+    void findAssociatedFilesOfSeveralEntriesWithSameFinder() throws Exception {
+        Path otherPdfFile = Files.createFile(pdfsDir.resolve("HipKro03a.pdf"));
+        BibEntry otherEntry = new BibEntry(StandardEntryType.Article);
+        otherEntry.setCiteKey("HipKro03a");
+        FileFinder fileFinder = new CiteKeyBasedFileFinder(false);
+
+        List<Path> results = fileFinder.findAssociatedFiles(entry, Collections.singletonList(pdfsDir), Collections.singletonList("pdf"));
+        List<Path> otherResults = fileFinder.findAssociatedFiles(otherEntry, Collections.singletonList(pdfsDir), Collections.singletonList("pdf"));
+
+        assertEquals(Collections.singletonList(pdfFile), results);
+        assertEquals(Collections.singletonList(otherPdfFile), otherResults);
+    }
 }
@@ -0,0 +1,116 @@
+package org.jabref.logic.util.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DirectoryIndexTest {
+
+    private static final FileTime LAST_MODIFIED = FileTime.fromMillis(System.currentTimeMillis() - 60_000);
+
+    private Path directory;
+    private Path subdirectory;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        directory = tempDir.resolve("files");
+        subdirectory = directory.resolve("sub");
+        Files.createDirectories(subdirectory);
+        Files.createFile(directory.resolve("first.pdf"));
+        Files.createFile(subdirectory.resolve("second.pdf"));
+        Files.createFile(subdirectory.resolve("third.txt"));
+        Files.setLastModifiedTime(directory, LAST_MODIFIED);
+        Files.setLastModifiedTime(subdirectory, LAST_MODIFIED);
+    }
+
+    private static List<Path> getFiles(DirectoryIndex.Listing listing) {
+        return listing.getFiles().stream().map(DirectoryIndex.IndexedFile::getPath).collect(Collectors.toList());
+    }
+
+    @Test
+    void listReturnsFilesAndSubdirectories() throws Exception {
+        DirectoryIndex.Listing listing = new DirectoryIndex().list(directory);
+
+        assertEquals(List.of(directory.resolve("first.pdf")), getFiles(listing));
+        assertEquals(List.of(subdirectory), listing.getSubdirectories());
+    }
+
+    @Test
+    void unmodifiedDirectoryIsNotListedAgain() throws Exception {
+        DirectoryIndex index = new DirectoryIndex();
+        index.list(directory);
+        // a change which keeps the modification time of the directory is not noticed
+        Files.createFile(directory.resolve("unnoticed.pdf"));
+        Files.setLastModifiedTime(directory, LAST_MODIFIED);
+
+        assertEquals(List.of(directory.resolve("first.pdf")), getFiles(index.list(directory)));
+    }
+
+    @Test
+    void modifiedDirectoryIsListedAgain() throws Exception {
+        DirectoryIndex index = new DirectoryIndex();
+        index.list(directory);
+        Files.delete(directory.resolve("first.pdf"));
+        Files.setLastModifiedTime(directory, FileTime.fromMillis(LAST_MODIFIED.toMillis() + 1000));
+
+        assertEquals(List.of(), getFiles(index.list(directory)));
+    }
+
+    @Test
+    void storedIndexIsLoadedAgain(@TempDir Path indexDirectory) throws Exception {
+        Path indexFile = indexDirectory.resolve("index");
+        DirectoryIndex index = new DirectoryIndex();
+        index.list(directory);
+        index.store(indexFile);
+        Files.createFile(directory.resolve("unnoticed.pdf"));
+        Files.setLastModifiedTime(directory, LAST_MODIFIED);
+
+        assertEquals(List.of(directory.resolve("first.pdf")), getFiles(DirectoryIndex.load(indexFile).list(directory)));
+    }
+
+    @Test
+    void crawlerPassesAcceptedFilesOfAllDirectories() throws Exception {
+        Set<Path> files = ConcurrentHashMap.newKeySet();
+
+        new DirectoryCrawler(new DirectoryIndex(), file -> file.toString().endsWith(".pdf"))
+                .crawl(directory, files::add, () -> false);
+
+        assertEquals(Set.of(directory.resolve("first.pdf"), subdirectory.resolve("second.pdf")), files);
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS) // creating links requires extra privileges on Windows
+    void crawlerFollowsLinksButSkipsCycles(@TempDir Path otherDirectory) throws Exception {
+        Files.createFile(otherDirectory.resolve("linked.pdf"));
+        Files.createSymbolicLink(directory.resolve("link"), otherDirectory);
+        Files.createSymbolicLink(subdirectory.resolve("cycle"), directory);
+        Set<Path> files = ConcurrentHashMap.newKeySet();
+
+        new DirectoryCrawler(new DirectoryIndex(), file -> file.toString().endsWith(".pdf"))
+                .crawl(directory, files::add, () -> false);
+
+        assertEquals(Set.of(directory.resolve("first.pdf"), subdirectory.resolve("second.pdf"),
+                directory.resolve("link").resolve("linked.pdf")), files);
+    }
+
+    @Test
+    void canceledCrawlerPassesNoFiles() throws Exception {
+        Set<Path> files = ConcurrentHashMap.newKeySet();
+
+        new DirectoryCrawler(new DirectoryIndex(), file -> true).crawl(directory, files::add, () -> true);
+
+        assertEquals(Set.of(), files);
+    }
+}
@@ -141,6 +141,24 @@ public class RegExpBasedFileFinderTests {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    public void testFindFilesOfSeveralEntriesWithSameFinder() throws Exception {
+        BibEntry localEntry = new BibEntry(StandardEntryType.Article);
+        localEntry.setCiteKey("pdfInDatabase");
+        BibEntry otherEntry = new BibEntry(StandardEntryType.Article);
+        otherEntry.setCiteKey("pdfInSubdirectory");
+
+        List<String> extensions = Collections.singletonList("pdf");
+        List<Path> dirs = Collections.singletonList(Paths.get(FILES_DIRECTORY));
+        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[bibtexkey]\\\\.[extension]", ',');
+
+        List<Path> result = fileFinder.findAssociatedFiles(localEntry, dirs, extensions);
+        List<Path> otherResult = fileFinder.findAssociatedFiles(otherEntry, dirs, extensions);
+
+        assertEquals(Collections.singletonList(Paths.get(FILES_DIRECTORY, "pdfInDatabase.pdf")), result);
+        assertEquals(Collections.singletonList(Paths.get(FILES_DIRECTORY, "directory", "subdirectory", "pdfInSubdirectory.pdf")), otherResult);
+    }
+
     @Test
     public void testExpandBrackets() {
 
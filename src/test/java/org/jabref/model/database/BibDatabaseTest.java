@@ -9,14 +9,20 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntriesChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.event.TestEventListener;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -245,6 +251,90 @@ public class BibDatabaseTest {
         assertEquals(entry, tel.getChangedEntry());
     }
 
+    @Test
+    public void changesInBatchArePostedAsSingleEvent() {
+        BibEntry first = new BibEntry();
+        BibEntry second = new BibEntry();
+        database.insertEntries(first, second);
+        List<BibDatabaseContextChangedEvent> events = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(BibDatabaseContextChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        database.runInBatch(() -> {
+            first.setField(StandardField.TITLE, "A title");
+            second.setField(StandardField.TITLE, "Another title");
+            first.setField(StandardField.YEAR, "2020");
+        });
+
+        assertEquals(1, events.size());
+        EntriesChangedEvent event = (EntriesChangedEvent) events.get(0);
+        assertEquals(Arrays.asList(first, second), event.getBibEntries());
+        assertEquals(Arrays.asList(StandardField.TITLE, StandardField.TITLE, StandardField.YEAR),
+                event.getFieldChanges().stream().map(FieldChangedEvent::getField).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void nestedBatchesArePostedAtEndOfOutermostBatch() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        List<BibDatabaseContextChangedEvent> events = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(BibDatabaseContextChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        database.runInBatch(() -> {
+            database.runInBatch(() -> entry.setField(StandardField.TITLE, "A title"));
+            assertEquals(Collections.emptyList(), events);
+            entry.setField(StandardField.YEAR, "2020");
+        });
+
+        assertEquals(1, events.size());
+        assertEquals(2, ((EntriesChangedEvent) events.get(0)).getFieldChanges().size());
+    }
+
+    @Test
+    public void changesInBatchArePostedBeforeRemovingEntries() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        List<BibDatabaseContextChangedEvent> events = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(BibDatabaseContextChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        database.runInBatch(() -> {
+            entry.setField(StandardField.TITLE, "A title");
+            database.removeEntry(entry);
+        });
+
+        assertEquals(2, events.size());
+        assertTrue(events.get(0) instanceof EntriesChangedEvent);
+        assertTrue(events.get(1) instanceof EntriesRemovedEvent);
+    }
+
+    @Test
+    public void keyCountIsUpdatedWithinBatch() {
+        BibEntry first = new BibEntry().withCiteKey("AAA");
+        BibEntry second = new BibEntry();
+        database.insertEntries(first, second);
+
+        database.runInBatch(() -> {
+            second.setCiteKey("AAA");
+            assertEquals(2, database.getDuplicationChecker().getNumberOfKeyOccurrences("AAA"));
+        });
+
+        assertEquals(2, database.getDuplicationChecker().getNumberOfKeyOccurrences("AAA"));
+    }
+
     @Test
     public void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
@@ -276,6 +366,48 @@ public class BibDatabaseTest {
         assertEquals(1, database.getDuplicationChecker().getNumberOfKeyOccurrences("AAA"));
     }
 
+    @Test
+    public void getEntryByKeyFindsEntryAfterKeyChange() {
+        BibEntry entry = new BibEntry().withCiteKey("AAA");
+        database.insertEntry(entry);
+        entry.setCiteKey("BBB");
+        assertEquals(Optional.empty(), database.getEntryByKey("AAA"));
+        assertEquals(Optional.of(entry), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntryByKeyDoesNotFindRemovedEntry() {
+        BibEntry entry = new BibEntry().withCiteKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCiteKey("BBB");
+        assertEquals(Optional.empty(), database.getEntryByKey("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByKey("BBB"));
+    }
+
+    @Test
+    public void getEntriesByKeyReturnsEntriesInDatabaseOrder() {
+        BibEntry entry1 = new BibEntry().withCiteKey("AAA").withField(StandardField.TITLE, "first");
+        BibEntry entry2 = new BibEntry().withCiteKey("BBB").withField(StandardField.TITLE, "second");
+        BibEntry entry3 = new BibEntry().withCiteKey("CCC").withField(StandardField.TITLE, "third");
+        database.insertEntries(entry1, entry2, entry3);
+        entry3.setCiteKey("AAA");
+        entry2.setCiteKey("AAA");
+        assertEquals(Arrays.asList(entry1, entry2, entry3), database.getEntriesByKey("AAA"));
+        assertEquals(Optional.of(entry1), database.getEntryByKey("AAA"));
+    }
+
+    @Test
+    public void getEntryByIdFindsEntryAfterIdChange() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        String oldId = entry.getId();
+        entry.setId("newId");
+        assertEquals(Optional.empty(), database.getEntryById(oldId));
+        assertEquals(Optional.of(entry), database.getEntryById("newId"));
+        assertTrue(database.containsEntryWithId("newId"));
+    }
+
     @Test
     public void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -39,6 +40,16 @@ public class AuthorListTest {
         assertFalse(al.equals(AuthorList.parse("Smith")));
     }
 
+    @Test
+    public void parseReturnsCachedAuthorListForSameString() {
+        String authors = "Cache Test Author and Another Cache Test Author";
+        AuthorList authorList = AuthorList.parse(authors);
+        long hitCount = AuthorList.getCacheStatistics().hitCount();
+
+        assertSame(authorList, AuthorList.parse(authors));
+        assertTrue(AuthorList.getCacheStatistics().hitCount() > hitCount);
+    }
+
     @Test
     public void testFixAuthorFirstNameFirstCommas() {
 
@@ -8,7 +8,10 @@ import java.util.Optional;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.event.FieldAddedOrRemovedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.BibField;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldPriority;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.OrFields;
@@ -18,6 +21,7 @@ import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import com.google.common.collect.Sets;
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -642,4 +646,69 @@ class BibEntryTest {
         entry = new BibEntry().withField(StandardField.AUTHOR, "value");
         assertFalse(entry.hasChanged());
     }
+
+    @Test
+    public void registeredListenerIsNotifiedAboutChangedField() {
+        FieldChangeListener listener = new FieldChangeListener();
+        entry.registerListener(listener);
+
+        entry.setField(StandardField.AUTHOR, "value");
+        entry.setField(StandardField.AUTHOR, "other value");
+
+        assertEquals(Arrays.asList("value", "other value"), listener.newValues);
+        assertEquals(1, listener.addedOrRemovedFields.size());
+    }
+
+    @Test
+    public void listenerRegisteredTwiceIsNotifiedOnce() {
+        FieldChangeListener listener = new FieldChangeListener();
+        entry.registerListener(listener);
+        entry.registerListener(listener);
+
+        entry.setField(StandardField.AUTHOR, "value");
+
+        assertEquals(Collections.singletonList("value"), listener.newValues);
+    }
+
+    @Test
+    public void unregisteredListenerIsNotNotified() {
+        FieldChangeListener listener = new FieldChangeListener();
+        FieldChangeListener otherListener = new FieldChangeListener();
+        entry.registerListener(listener);
+        entry.registerListener(otherListener);
+        entry.unregisterListener(listener);
+
+        entry.setField(StandardField.AUTHOR, "value");
+
+        assertEquals(Collections.emptyList(), listener.newValues);
+        assertEquals(Collections.singletonList("value"), otherListener.newValues);
+    }
+
+    @Test
+    public void unregisteringUnknownListenerDoesNothing() {
+        FieldChangeListener listener = new FieldChangeListener();
+        entry.unregisterListener(new FieldChangeListener());
+        entry.registerListener(listener);
+        entry.unregisterListener(new FieldChangeListener());
+
+        entry.setField(StandardField.AUTHOR, "value");
+
+        assertEquals(Collections.singletonList("value"), listener.newValues);
+    }
+
+    private static class FieldChangeListener {
+
+        private final List<String> newValues = new ArrayList<>();
+        private final List<Field> addedOrRemovedFields = new ArrayList<>();
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            newValues.add(event.getNewValue());
+        }
+
+        @Subscribe
+        public void listen(FieldAddedOrRemovedEvent event) {
+            addedOrRemovedFields.add(event.getField());
+        }
+    }
 }
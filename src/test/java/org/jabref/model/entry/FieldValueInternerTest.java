@@ -0,0 +1,58 @@
+package org.jabref.model.entry;
+
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FieldValueInternerTest {
+
+    @BeforeEach
+    void setUp() {
+        FieldValueInterner.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        FieldValueInterner.setEnabled(false);
+    }
+
+    @Test
+    void disabledInternerUsesStringIntern() {
+        FieldValueInterner.setEnabled(false);
+        String value = new String("Journal of Other Things");
+
+        assertSame(value.intern(), FieldValueInterner.intern(value));
+    }
+
+    @Test
+    void equalValuesAreShared() {
+        String value = new String("Journal of Things");
+        String equalValue = new String("Journal of Things");
+
+        assertSame(FieldValueInterner.intern(value), FieldValueInterner.intern(equalValue));
+    }
+
+    @Test
+    void longValuesAreNotShared() {
+        String value = "a".repeat(FieldValueInterner.MAX_LENGTH + 1);
+        String equalValue = new String(value);
+
+        assertSame(equalValue, FieldValueInterner.intern(equalValue));
+        assertNotSame(FieldValueInterner.intern(value), FieldValueInterner.intern(equalValue));
+    }
+
+    @Test
+    void equalFieldValuesOfEntriesAreShared() {
+        BibEntry entry = new BibEntry().withField(StandardField.JOURNAL, new String("Journal of Things"));
+        BibEntry otherEntry = new BibEntry().withField(StandardField.JOURNAL, new String("Journal of Things"));
+
+        assertEquals(entry.getField(StandardField.JOURNAL), otherEntry.getField(StandardField.JOURNAL));
+        assertSame(entry.getField(StandardField.JOURNAL).get(), otherEntry.getField(StandardField.JOURNAL).get());
+    }
+}
@@ -0,0 +1,142 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
+import org.jabref.model.metadata.MetaData;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GroupMembershipIndexTest {
+
+    private BibDatabase database;
+    private MetaData metaData;
+    private GroupMembershipIndex index;
+    private GroupTreeNode root;
+    private GroupTreeNode physics;
+    private GroupTreeNode chemistry;
+    private BibEntry physicsEntry;
+    private BibEntry chemistryEntry;
+    private final List<GroupMembershipChangedEvent> events = new ArrayList<>();
+    private final AtomicInteger physicsEvaluations = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        physicsEntry = new BibEntry().withField(StandardField.KEYWORDS, "physics");
+        chemistryEntry = new BibEntry().withField(StandardField.KEYWORDS, "chemistry, physics");
+        database = new BibDatabase(Arrays.asList(physicsEntry, chemistryEntry));
+        metaData = new MetaData();
+
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        physics = root.addSubgroup(new WordKeywordGroup("Physics", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "physics", true, ',', false) {
+            @Override
+            public boolean contains(BibEntry entry) {
+                physicsEvaluations.incrementAndGet();
+                return super.contains(entry);
+            }
+        });
+        chemistry = root.addSubgroup(new WordKeywordGroup("Chemistry", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "chemistry", true, ',', false));
+        metaData.setGroups(root);
+
+        // evaluate changed groups immediately
+        index = new GroupMembershipIndex(database, metaData, Runnable::run);
+        index.registerListener(new Object() {
+            @Subscribe
+            public void listen(GroupMembershipChangedEvent event) {
+                events.add(event);
+            }
+        });
+    }
+
+    @Test
+    public void isMatchUsesGroupMatcher() {
+        assertTrue(index.isMatch(physics, physicsEntry));
+        assertTrue(index.isMatch(physics, chemistryEntry));
+        assertFalse(index.isMatch(chemistry, physicsEntry));
+        assertTrue(index.isMatch(chemistry, chemistryEntry));
+    }
+
+    @Test
+    public void isMatchCombinesGroups() {
+        List<GroupTreeNode> groups = Arrays.asList(physics, chemistry);
+
+        assertFalse(index.isMatch(groups, true, physicsEntry));
+        assertTrue(index.isMatch(groups, true, chemistryEntry));
+        assertTrue(index.isMatch(groups, false, physicsEntry));
+    }
+
+    @Test
+    public void numberOfMatchesIsUpdatedOnAddedAndRemovedEntries() {
+        assertEquals(2, index.getNumberOfMatches(physics));
+
+        BibEntry newEntry = new BibEntry().withField(StandardField.KEYWORDS, "physics");
+        database.insertEntry(newEntry);
+        assertEquals(3, index.getNumberOfMatches(physics));
+
+        database.removeEntry(physicsEntry);
+        database.removeEntry(chemistryEntry);
+        assertEquals(1, index.getNumberOfMatches(physics));
+        assertEquals(0, index.getNumberOfMatches(chemistry));
+    }
+
+    @Test
+    public void fieldChangeUpdatesMembershipAndNotifiesListeners() {
+        assertFalse(index.isMatch(chemistry, physicsEntry));
+
+        physicsEntry.setField(StandardField.KEYWORDS, "physics, chemistry");
+
+        assertTrue(index.isMatch(chemistry, physicsEntry));
+        assertEquals(1, events.size());
+        assertEquals(chemistry, events.get(0).getGroup());
+        assertTrue(events.get(0).isMatched());
+    }
+
+    @Test
+    public void changedGroupTreeIsReevaluated() {
+        assertEquals(1, index.getNumberOfMatches(chemistry));
+
+        chemistry.setGroup(new WordKeywordGroup("Chemistry", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "physics", true, ',', false),
+                false, false, database.getEntries());
+        metaData.setGroups(root);
+
+        assertEquals(2, index.getNumberOfMatches(chemistry));
+    }
+
+    @Test
+    public void changedSubgroupsOnlyReevaluateAffectedGroups() {
+        assertEquals(2, index.getNumberOfMatches(physics));
+        assertEquals(1, index.getNumberOfMatches(chemistry));
+        physicsEvaluations.set(0);
+
+        chemistry.addSubgroup(new WordKeywordGroup("Organic", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "organic", true, ',', false));
+
+        assertEquals(0, physicsEvaluations.get());
+    }
+
+    @Test
+    public void changedGroupTreeIsReevaluatedInBackground() {
+        List<Runnable> pendingTasks = new ArrayList<>();
+        GroupMembershipIndex backgroundIndex = new GroupMembershipIndex(database, metaData, pendingTasks::add);
+        assertEquals(1, backgroundIndex.getNumberOfMatches(chemistry));
+
+        chemistry.setGroup(new WordKeywordGroup("Chemistry", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "physics", true, ',', false),
+                false, false, database.getEntries());
+        metaData.setGroups(root);
+        assertEquals(1, backgroundIndex.getNumberOfMatches(chemistry));
+
+        pendingTasks.forEach(Runnable::run);
+        assertEquals(2, backgroundIndex.getNumberOfMatches(chemistry));
+    }
+}
@@ -1,7 +1,9 @@
 package org.jabref.model.groups;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.jabref.logic.auxparser.DefaultAuxParser;
 import org.jabref.model.database.BibDatabase;
@@ -11,6 +13,7 @@ import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -54,4 +57,24 @@ public class TexGroupTest {
 
         assertEquals("paper.aux", group.getFilePath().toString());
     }
+
+    @Test
+    public void changedAuxFileUpdatesGroupMembershipIndex(@TempDir Path tempDir) throws Exception {
+        Path auxFile = Files.writeString(tempDir.resolve("paper.aux"), "\\citation{Darwin1888}\n");
+        TexGroup group = new TexGroup("paper", GroupHierarchyType.INDEPENDENT, auxFile, new DefaultAuxParser(new BibDatabase()), new DummyFileUpdateMonitor(), metaData);
+        GroupTreeNode root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        GroupTreeNode texGroup = root.addSubgroup(group);
+        metaData.setGroups(root);
+        BibEntry darwin = new BibEntry();
+        darwin.setCiteKey("Darwin1888");
+        BibEntry einstein = new BibEntry();
+        einstein.setCiteKey("Einstein1920");
+        GroupMembershipIndex index = new GroupMembershipIndex(new BibDatabase(List.of(darwin, einstein)), metaData, Runnable::run);
+        assertEquals(1, index.getNumberOfMatches(texGroup));
+
+        Files.writeString(auxFile, "\\citation{Darwin1888}\n\\citation{Einstein1920}\n");
+        group.fileUpdated();
+
+        assertEquals(2, index.getNumberOfMatches(texGroup));
+    }
 }
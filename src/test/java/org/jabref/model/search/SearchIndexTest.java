@@ -0,0 +1,144 @@
+package org.jabref.model.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.rules.ContainBasedSearchRule;
+import org.jabref.model.search.rules.RegexBasedSearchRule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SearchIndexTest {
+
+    private BibDatabase database;
+    private SearchIndex index;
+    private BibEntry larviculture;
+    private BibEntry quantum;
+
+    @BeforeEach
+    public void setUp() {
+        larviculture = new BibEntry()
+                .withField(StandardField.TITLE, "Marine finfish larviculture in Europe")
+                .withField(StandardField.YEAR, "2001");
+        quantum = new BibEntry()
+                .withField(StandardField.TITLE, "Quantum {C}omputing")
+                .withField(StandardField.YEAR, "2019");
+        database = new BibDatabase(Arrays.asList(larviculture, quantum));
+        index = new SearchIndex(database);
+    }
+
+    @Test
+    public void getTokensSplitsAtNonLetters() {
+        assertEquals(Set.of("marine", "finfish", "2001"), SearchIndex.getTokens("Marine-Finfish, 2001"));
+    }
+
+    @Test
+    public void candidatesContainEntriesWithPartOfToken() {
+        SearchCandidates candidates = index.getCandidates(Collections.singletonList("arvi"));
+
+        assertTrue(candidates.isCandidate(larviculture));
+        assertFalse(candidates.isCandidate(quantum));
+    }
+
+    @Test
+    public void candidatesAreBasedOnLatexFreeFields() {
+        SearchCandidates candidates = index.getCandidates(Collections.singletonList("computing"));
+
+        assertTrue(candidates.isCandidate(quantum));
+        assertFalse(candidates.isCandidate(larviculture));
+    }
+
+    @Test
+    public void candidatesMustContainAllParts() {
+        SearchCandidates candidates = index.getCandidates(Arrays.asList("marine", "2019"));
+
+        assertFalse(candidates.isCandidate(larviculture));
+        assertFalse(candidates.isCandidate(quantum));
+    }
+
+    @Test
+    public void shortPartsDoNotRuleOutEntries() {
+        SearchCandidates candidates = index.getCandidates(Collections.singletonList("zz"));
+
+        assertTrue(candidates.isCandidate(larviculture));
+        assertTrue(candidates.isCandidate(quantum));
+    }
+
+    @Test
+    public void candidatesOfPartSpanningSeveralTrigrams() {
+        SearchCandidates candidates = index.getCandidates(Collections.singletonList("nfish"));
+
+        assertTrue(candidates.isCandidate(larviculture));
+        assertFalse(candidates.isCandidate(quantum));
+    }
+
+    @Test
+    public void noPartsMakeAllEntriesCandidates() {
+        SearchCandidates candidates = index.getCandidates(Collections.emptyList());
+
+        assertTrue(candidates.isCandidate(larviculture));
+        assertTrue(candidates.isCandidate(quantum));
+    }
+
+    @Test
+    public void indexIsUpdatedOnFieldChange() {
+        index.getCandidates(Collections.emptyList());
+        quantum.setField(StandardField.TITLE, "Marine computing");
+
+        assertTrue(index.getCandidates(Collections.singletonList("marine")).isCandidate(quantum));
+        assertFalse(index.getCandidates(Collections.singletonList("quantum")).isCandidate(quantum));
+    }
+
+    @Test
+    public void indexIsUpdatedOnAddAndRemove() {
+        index.getCandidates(Collections.emptyList());
+        BibEntry newEntry = new BibEntry().withField(StandardField.TITLE, "Marine biology");
+        database.insertEntry(newEntry);
+        database.removeEntry(larviculture);
+
+        SearchCandidates candidates = index.getCandidates(Collections.singletonList("marine"));
+        assertTrue(candidates.isCandidate(newEntry));
+        assertFalse(candidates.isCandidate(larviculture));
+    }
+
+    @Test
+    public void entriesChangedAfterSearchAreCandidates() {
+        SearchCandidates candidates = index.getCandidates(Collections.singletonList("marine"));
+        quantum.setField(StandardField.TITLE, "Marine computing");
+
+        assertTrue(candidates.isCandidate(quantum));
+    }
+
+    @Test
+    public void containBasedRuleRulesOutNonMatchingEntries() {
+        SearchCandidates candidates = new ContainBasedSearchRule(false).getCandidates("EUROPE 2001", index);
+
+        assertTrue(candidates.isCandidate(larviculture));
+        assertFalse(candidates.isCandidate(quantum));
+    }
+
+    @Test
+    public void regexBasedRuleRulesOutNonMatchingEntries() {
+        SearchCandidates candidates = new RegexBasedSearchRule(false).getCandidates("fin+fish [a-z]+ in", index);
+
+        assertTrue(candidates.isCandidate(larviculture));
+        assertFalse(candidates.isCandidate(quantum));
+    }
+
+    @Test
+    public void regexBasedRuleWithAlternativesDoesNotRuleOutEntries() {
+        SearchCandidates candidates = new RegexBasedSearchRule(false).getCandidates("europe|computing", index);
+
+        assertTrue(candidates.isCandidate(larviculture));
+        assertTrue(candidates.isCandidate(quantum));
+    }
+}
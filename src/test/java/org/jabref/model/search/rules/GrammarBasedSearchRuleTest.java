@@ -0,0 +1,79 @@
+package org.jabref.model.search.rules;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GrammarBasedSearchRuleTest {
+
+    private final BibEntry entry = new BibEntry(StandardEntryType.InCollection)
+            .withField(StandardField.TITLE, "Marine finfish larviculture in Europe")
+            .withField(StandardField.AUTHOR, "Moretti, A.")
+            .withField(StandardField.YEAR, "2001");
+
+    private boolean matches(String query, boolean caseSensitive, boolean regex) {
+        GrammarBasedSearchRule rule = new GrammarBasedSearchRule(caseSensitive, regex);
+        assertTrue(rule.validateSearchStrings(query));
+        return rule.applyRule(query, entry);
+    }
+
+    @Test
+    public void fieldComparisons() {
+        assertTrue(matches("title=europe", false, false));
+        assertFalse(matches("title=europe", true, false));
+        assertTrue(matches("year==2001", false, false));
+        assertFalse(matches("year==200", false, false));
+        assertTrue(matches("anyfield=moretti", false, false));
+        assertTrue(matches("entrytype=incollection", false, false));
+    }
+
+    @Test
+    public void booleanOperators() {
+        assertTrue(matches("title=europe and year=2001", false, false));
+        assertFalse(matches("title=europe and not year=2001", false, false));
+        assertTrue(matches("(title=asia or author=moretti) and year=2001", false, false));
+    }
+
+    @Test
+    public void doesNotContainMatchesMissingField() {
+        assertTrue(matches("journal!=nature", false, false));
+        assertFalse(matches("title!=europe", false, false));
+    }
+
+    @Test
+    public void regularExpressionComparison() {
+        assertTrue(matches("t.tle=fin+fish", false, true));
+        assertFalse(matches("title=fin{3}fish", false, true));
+    }
+
+    @Test
+    public void invalidRegularExpressionMatchesNothing() {
+        assertFalse(matches("title=\"(europe\"", false, true));
+        assertFalse(matches("title!=\"(europe\"", false, true));
+    }
+
+    @Test
+    public void compiledRuleCanBeUsedInParallel() {
+        GrammarBasedSearchRule rule = new GrammarBasedSearchRule(false, false);
+        String query = "title=europe and author=moretti";
+        rule.validateSearchStrings(query);
+
+        List<BibEntry> entries = IntStream.range(0, 1000)
+                                          .mapToObj(i -> new BibEntry()
+                                                  .withField(StandardField.TITLE, i % 2 == 0 ? "Europe" : "Asia")
+                                                  .withField(StandardField.AUTHOR, "Moretti"))
+                                          .collect(Collectors.toList());
+
+        assertEquals(500, entries.parallelStream().filter(entry -> rule.applyRule(query, entry)).count());
+    }
+}
@@ -0,0 +1,73 @@
+package org.jabref.model.search.rules;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RegexBasedSearchRuleTest {
+
+    @Test
+    public void requiredLiteralsOfPlainText() {
+        assertEquals(Arrays.asList("marine", "larviculture"), RegexBasedSearchRule.getRequiredLiterals("Marine larviculture"));
+    }
+
+    @Test
+    public void requiredLiteralsIgnoreOptionalCharacters() {
+        assertEquals(Arrays.asList("colo", "r"), RegexBasedSearchRule.getRequiredLiterals("colou?r"));
+    }
+
+    @Test
+    public void requiredLiteralsIgnoreCharacterClassesAndGroups() {
+        assertEquals(Arrays.asList("a", "b", "c"), RegexBasedSearchRule.getRequiredLiterals("a[xyz]b(def)?c\\d\\p{Alpha}"));
+    }
+
+    @Test
+    public void requiredLiteralsIgnoreQuantifiedCharacters() {
+        assertEquals(Collections.singletonList("ab"), RegexBasedSearchRule.getRequiredLiterals("abc{0,2}"));
+    }
+
+    @Test
+    public void noRequiredLiteralsForAlternatives() {
+        assertEquals(Collections.emptyList(), RegexBasedSearchRule.getRequiredLiterals("marine|quantum"));
+    }
+
+    @Test
+    public void requiredLiteralsIgnoreHexadecimalCharacterCodes() {
+        assertEquals(Arrays.asList("a", "b"), RegexBasedSearchRule.getRequiredLiterals("a\\x41b"));
+        assertEquals(Collections.singletonList("bc"), RegexBasedSearchRule.getRequiredLiterals("\\x{41}bc"));
+    }
+
+    @Test
+    public void requiredLiteralsIgnoreUnicodeCharacterCodes() {
+        assertEquals(Collections.singletonList("bc"), RegexBasedSearchRule.getRequiredLiterals("\\u0041bc"));
+    }
+
+    @Test
+    public void requiredLiteralsIgnoreOctalCharacterCodes() {
+        assertEquals(Collections.singletonList("z"), RegexBasedSearchRule.getRequiredLiterals("\\0101z"));
+    }
+
+    @Test
+    public void requiredLiteralsIgnoreControlCharacters() {
+        assertEquals(Collections.singletonList("bc"), RegexBasedSearchRule.getRequiredLiterals("\\cAbc"));
+    }
+
+    @Test
+    public void requiredLiteralsIgnoreNamedCharacters() {
+        assertEquals(Collections.singletonList("x"), RegexBasedSearchRule.getRequiredLiterals("\\N{LATIN CAPITAL LETTER A}x"));
+    }
+
+    @Test
+    public void requiredLiteralsIgnoreProperties() {
+        assertEquals(Collections.singletonList("ab"), RegexBasedSearchRule.getRequiredLiterals("\\pLab"));
+        assertEquals(Collections.singletonList("ab"), RegexBasedSearchRule.getRequiredLiterals("\\P{Alpha}ab"));
+    }
+
+    @Test
+    public void requiredLiteralsIgnoreBackReferences() {
+        assertEquals(Collections.singletonList("bc"), RegexBasedSearchRule.getRequiredLiterals("(a)\\1bc"));
+    }
+}